@@ -0,0 +1,9 @@
+plugins {
+    id("cmds.base-conventions")
+    id("cmds.library-conventions")
+}
+
+dependencies {
+    implementation(projects.triumphCmdCore)
+    implementation(libs.guava)
+}
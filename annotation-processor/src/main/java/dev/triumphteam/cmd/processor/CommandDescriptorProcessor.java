@@ -0,0 +1,373 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.processor;
+
+import com.google.common.base.CaseFormat;
+import dev.triumphteam.cmd.core.annotations.ArgName;
+import dev.triumphteam.cmd.core.annotations.Command;
+import dev.triumphteam.cmd.core.annotations.Suggestion;
+import dev.triumphteam.cmd.core.command.InternalCommand;
+import dev.triumphteam.cmd.core.descriptor.Descriptors;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a {@link dev.triumphteam.cmd.core.descriptor.CommandDescriptor} for every class annotated with {@link Command}.
+ * The descriptor replaces the reflection done by the {@code RootCommandProcessor} when registering the command,
+ * and the validations that would only fail at runtime are reported as compilation errors instead.
+ */
+public final class CommandDescriptorProcessor extends AbstractProcessor {
+
+    @Override
+    public @NotNull Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(Command.class.getCanonicalName());
+    }
+
+    @Override
+    public @NotNull SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final @NotNull Set<? extends TypeElement> annotations, final @NotNull RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(Command.class)) {
+            if (element.getKind() != ElementKind.CLASS) continue;
+
+            final TypeElement type = (TypeElement) element;
+            if (!canBeRoot(type)) continue;
+
+            try {
+                writeDescriptor(type);
+            } catch (final DescriptorException exception) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, exception.getMessage(), exception.getElement());
+            }
+        }
+
+        // Other processors are free to also handle the annotation
+        return false;
+    }
+
+    /**
+     * Only classes that can be instantiated on their own can be registered, inner classes are always branches.
+     *
+     * @param type The annotated class.
+     * @return Whether the class can be a root command.
+     */
+    private boolean canBeRoot(final @NotNull TypeElement type) {
+        if (type.getModifiers().contains(Modifier.PRIVATE)) return false;
+
+        final Element enclosing = type.getEnclosingElement();
+        if (enclosing instanceof PackageElement) return true;
+
+        // Nested classes without names can only be branches
+        final Command command = type.getAnnotation(Command.class);
+        return type.getModifiers().contains(Modifier.STATIC) && !command.value().isEmpty();
+    }
+
+    private void writeDescriptor(final @NotNull TypeElement type) {
+        final Command command = type.getAnnotation(Command.class);
+        if (command.value().isEmpty() || command.value().equals(InternalCommand.DEFAULT_CMD_NAME)) {
+            throw new DescriptorException("Command name must not be empty", type);
+        }
+
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + Descriptors.SUFFIX;
+
+        final SourceBuilder source = new SourceBuilder();
+        if (!packageName.isEmpty()) source.line("package " + packageName + ";").line();
+
+        source.line("import dev.triumphteam.cmd.core.descriptor.CommandDescriptor;")
+                .line("import dev.triumphteam.cmd.core.descriptor.LeafDescriptor;")
+                .line()
+                .line("import java.util.Arrays;")
+                .line("import java.util.Collections;")
+                .line()
+                .line("/**")
+                .line(" * Generated by the triumph-cmd annotation processor, do not edit.")
+                .line(" */")
+                .line("public final class " + simpleName + " implements CommandDescriptor.Provider {")
+                .line()
+                .indent()
+                .line("@Override")
+                .line("public CommandDescriptor getDescriptor() {")
+                .indent();
+
+        writeCommand(source, type, "return ", hyphenated(command.value()), true, ";");
+
+        source.unindent()
+                .line("}")
+                .unindent()
+                .line("}");
+
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? simpleName : packageName + "." + simpleName,
+                    type
+            );
+
+            try (final Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (final IOException exception) {
+            throw new DescriptorException("Could not write the command descriptor: " + exception.getMessage(), type);
+        }
+    }
+
+    private void writeCommand(
+            final @NotNull SourceBuilder source,
+            final @NotNull TypeElement type,
+            final @NotNull String prefix,
+            final @NotNull String name,
+            final boolean root,
+            final @NotNull String suffix
+    ) {
+        final Command command = type.getAnnotation(Command.class);
+
+        final List<ExecutableElement> leaves = new ArrayList<>();
+        final List<TypeElement> branches = new ArrayList<>();
+        final List<String> suggestionMethods = new ArrayList<>();
+        final List<String> contextualSuggestionMethods = new ArrayList<>();
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            // Suggestions are only looked up in the root class
+            if (root && method.getAnnotation(Suggestion.class) != null) {
+                if (isContextualSuggestion(method)) contextualSuggestionMethods.add(method.getSimpleName().toString());
+                else suggestionMethods.add(method.getSimpleName().toString());
+            }
+
+            if (method.getAnnotation(Command.class) == null) continue;
+            if (!method.getModifiers().contains(Modifier.PUBLIC)) continue;
+
+            leaves.add(method);
+        }
+
+        for (final TypeElement inner : ElementFilter.typesIn(type.getEnclosedElements())) {
+            if (inner.getAnnotation(Command.class) == null) continue;
+            if (!inner.getModifiers().contains(Modifier.PUBLIC)) continue;
+
+            branches.add(inner);
+        }
+
+        source.line(prefix + "new CommandDescriptor(")
+                .indent()
+                .line(SourceBuilder.literal(processingEnv.getElementUtils().getBinaryName(type).toString()) + ",")
+                .line(SourceBuilder.literal(name) + ",")
+                .line(SourceBuilder.stringList(hyphenated(command.alias())) + ",");
+
+        // Leaves
+        if (leaves.isEmpty()) {
+            source.line("Collections.<LeafDescriptor>emptyList(),");
+        } else {
+            source.line("Arrays.asList(").indent();
+            for (int i = 0; i < leaves.size(); i++) {
+                writeLeaf(source, leaves.get(i), i == leaves.size() - 1 ? "" : ",");
+            }
+            source.unindent().line("),");
+        }
+
+        // Branches
+        if (branches.isEmpty()) {
+            source.line("Collections.<CommandDescriptor>emptyList(),");
+        } else {
+            source.line("Arrays.asList(").indent();
+            for (int i = 0; i < branches.size(); i++) {
+                final TypeElement branch = branches.get(i);
+                writeCommand(source, branch, "", branchName(branch), false, i == branches.size() - 1 ? "" : ",");
+            }
+            source.unindent().line("),");
+        }
+
+        source.line(SourceBuilder.stringList(suggestionMethods) + ",")
+                .line(SourceBuilder.stringList(contextualSuggestionMethods))
+                .unindent()
+                .line(")" + suffix);
+    }
+
+    private void writeLeaf(
+            final @NotNull SourceBuilder source,
+            final @NotNull ExecutableElement method,
+            final @NotNull String suffix
+    ) {
+        final Command command = method.getAnnotation(Command.class);
+        final List<? extends VariableElement> parameters = method.getParameters();
+
+        if (parameters.isEmpty()) {
+            throw new DescriptorException("Sender parameter missing", method);
+        }
+
+        final List<String> parameterTypes = parameters.stream()
+                .map(parameter -> binaryName(parameter.asType()))
+                .collect(Collectors.toList());
+
+        // The sender is not an argument
+        final List<String> argumentNames = parameters.stream()
+                .skip(1)
+                .map(this::argumentName)
+                .collect(Collectors.toList());
+
+        final String name = command.value().isEmpty() ? InternalCommand.DEFAULT_CMD_NAME : hyphenated(command.value());
+
+        source.line("new LeafDescriptor(")
+                .indent()
+                .line(SourceBuilder.literal(method.getSimpleName().toString()) + ",")
+                .line(SourceBuilder.stringList(parameterTypes) + ",")
+                .line(SourceBuilder.literal(name) + ",")
+                .line(SourceBuilder.stringList(hyphenated(command.alias())) + ",")
+                .line(SourceBuilder.stringList(argumentNames))
+                .unindent()
+                .line(")" + suffix);
+    }
+
+    /**
+     * Validates the branch the same way the runtime would and gets its name.
+     *
+     * @param branch The inner class.
+     * @return The final name of the branch.
+     */
+    private @NotNull String branchName(final @NotNull TypeElement branch) {
+        final Command command = branch.getAnnotation(Command.class);
+        final String name = command.value().isEmpty() ? InternalCommand.PARENT_CMD_WITH_ARGS_NAME : hyphenated(command.value());
+
+        final List<ExecutableElement> constructors = ElementFilter.constructorsIn(branch.getEnclosedElements()).stream()
+                .filter(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC))
+                .collect(Collectors.toList());
+
+        if (constructors.size() != 1) {
+            throw new DescriptorException("Inner command class can only have a single constructor, " + constructors.size() + " found", branch);
+        }
+
+        // The enclosing instance of inner classes is not part of the modeled parameters
+        final int arguments = constructors.get(0).getParameters().size();
+        if (arguments > 1) {
+            throw new DescriptorException("Inner command class can only have a maximum of 1 argument, " + arguments + " found", branch);
+        }
+
+        if (arguments == 1 && !InternalCommand.PARENT_CMD_WITH_ARGS_NAME.equals(name)) {
+            throw new DescriptorException("Inner command class with argument must not have a name", branch);
+        }
+
+        return name;
+    }
+
+    private boolean isContextualSuggestion(final @NotNull ExecutableElement method) {
+        final TypeMirror returnType = method.getReturnType();
+        if (returnType.getKind() != TypeKind.DECLARED || ((DeclaredType) returnType).getTypeArguments().isEmpty()) {
+            throw new DescriptorException("Suggestion method must return a List", method);
+        }
+
+        final TypeMirror list = processingEnv.getElementUtils().getTypeElement(List.class.getCanonicalName()).asType();
+        if (!processingEnv.getTypeUtils().isSameType(processingEnv.getTypeUtils().erasure(returnType), processingEnv.getTypeUtils().erasure(list))) {
+            throw new DescriptorException("Suggestion method must return a List of suggestions", method);
+        }
+
+        final List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.isEmpty()) return false;
+
+        if (parameters.size() > 1 || !binaryName(parameters.get(0).asType()).equals(SuggestionContext.class.getName())) {
+            throw new DescriptorException("Suggestion method must have either context as first parameter or no parameters at all", method);
+        }
+
+        return true;
+    }
+
+    private @NotNull String argumentName(final @NotNull VariableElement parameter) {
+        final ArgName argName = parameter.getAnnotation(ArgName.class);
+        if (argName != null) return argName.value();
+        return hyphenated(parameter.getSimpleName().toString());
+    }
+
+    /**
+     * Gets the name of the erased type, in the format accepted by {@link Class#forName(String)}.
+     * Primitives are kept as their keyword.
+     *
+     * @param type The type to get the name from.
+     * @return The binary name of the erased type.
+     */
+    private @NotNull String binaryName(final @NotNull TypeMirror type) {
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind().isPrimitive()) return erased.toString();
+        if (erased.getKind() == TypeKind.ARRAY) return "[" + descriptor(((ArrayType) erased).getComponentType());
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) erased).asElement()).toString();
+    }
+
+    private @NotNull String descriptor(final @NotNull TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case SHORT:
+                return "S";
+            case CHAR:
+                return "C";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) type).getComponentType());
+            default:
+                return "L" + binaryName(type) + ";";
+        }
+    }
+
+    private static @NotNull String hyphenated(final @NotNull String name) {
+        return CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_HYPHEN, name);
+    }
+
+    private static @NotNull List<String> hyphenated(final @NotNull String @NotNull [] names) {
+        return Arrays.stream(names).map(CommandDescriptorProcessor::hyphenated).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.processor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Small helper for writing the generated descriptor source.
+ */
+final class SourceBuilder {
+
+    private static final String INDENT = "    ";
+
+    private final StringBuilder builder = new StringBuilder();
+    private int indent = 0;
+
+    @NotNull SourceBuilder line(final @NotNull String line) {
+        for (int i = 0; i < indent; i++) builder.append(INDENT);
+        builder.append(line).append('\n');
+        return this;
+    }
+
+    @NotNull SourceBuilder line() {
+        builder.append('\n');
+        return this;
+    }
+
+    @NotNull SourceBuilder indent() {
+        indent++;
+        return this;
+    }
+
+    @NotNull SourceBuilder unindent() {
+        indent--;
+        return this;
+    }
+
+    /**
+     * Creates the source of a list of string literals.
+     *
+     * @param values The values of the list.
+     * @return The list expression.
+     */
+    static @NotNull String stringList(final @NotNull List<String> values) {
+        if (values.isEmpty()) return "Collections.<String>emptyList()";
+
+        final StringBuilder list = new StringBuilder("Arrays.asList(");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) list.append(", ");
+            list.append(literal(values.get(i)));
+        }
+
+        return list.append(')').toString();
+    }
+
+    /**
+     * Creates an escaped string literal.
+     *
+     * @param value The raw value.
+     * @return The value as a Java string literal.
+     */
+    static @NotNull String literal(final @NotNull String value) {
+        final StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            switch (character) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20 || character > 0x7E) {
+                        literal.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        literal.append(character);
+                    }
+            }
+        }
+
+        return literal.append('"').toString();
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return builder.toString();
+    }
+}
@@ -0,0 +1,8 @@
+plugins {
+    id("cmds.base-conventions")
+    id("cmds.benchmark-conventions")
+}
+
+dependencies {
+    implementation(projects.triumphCmdSimple)
+}
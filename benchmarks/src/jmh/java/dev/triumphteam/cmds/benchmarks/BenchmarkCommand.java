@@ -0,0 +1,105 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmds.benchmarks;
+
+import dev.triumphteam.cmd.core.annotations.Command;
+import dev.triumphteam.cmd.core.annotations.Flag;
+import dev.triumphteam.cmd.core.annotations.Join;
+import dev.triumphteam.cmd.core.annotations.NamedArguments;
+import dev.triumphteam.cmd.core.annotations.Split;
+import dev.triumphteam.cmd.core.argument.keyed.Arguments;
+import dev.triumphteam.cmd.core.argument.keyed.Flags;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command used by the benchmarks, covers every kind of argument on the execution hot path.
+ */
+@Command("bench")
+public class BenchmarkCommand {
+
+    static final String NAMED_ARGUMENTS_KEY = "bench-arguments";
+
+    @Command
+    public void execute(final BenchmarkSender sender) {
+        sender.consume(this);
+    }
+
+    @Command("resolver")
+    public void resolver(final BenchmarkSender sender, final String name, final int amount, final double multiplier) {
+        sender.consume(name);
+        sender.consume(amount * multiplier);
+    }
+
+    @Command("enum")
+    public void enumArgument(final BenchmarkSender sender, final TimeUnit unit, final long duration) {
+        sender.consume(unit.toMillis(duration));
+    }
+
+    @Command("collection")
+    public void collection(final BenchmarkSender sender, final List<Integer> values) {
+        sender.consume(values);
+    }
+
+    @Command("split")
+    public void split(final BenchmarkSender sender, @Split(",") final List<String> values) {
+        sender.consume(values);
+    }
+
+    @Command("join")
+    public void join(final BenchmarkSender sender, final String target, @Join final String message) {
+        sender.consume(target);
+        sender.consume(message);
+    }
+
+    @Command("flags")
+    @Flag(flag = "s", longFlag = "silent")
+    @Flag(flag = "r", longFlag = "reason", argument = String.class)
+    public void flags(final BenchmarkSender sender, final String target, final Flags flags) {
+        sender.consume(target);
+        sender.consume(flags.getFlagValue("reason"));
+    }
+
+    @Command("named")
+    @NamedArguments(NAMED_ARGUMENTS_KEY)
+    public void named(final BenchmarkSender sender, final Arguments arguments) {
+        sender.consume(arguments.getArgument("amount", Integer.class));
+    }
+
+    @Command("branch")
+    public class Branch {
+
+        @Command
+        public void execute(final BenchmarkSender sender) {
+            sender.consume(this);
+        }
+
+        @Command("leaf")
+        public void leaf(final BenchmarkSender sender, final String name, final int amount) {
+            sender.consume(name);
+            sender.consume(amount);
+        }
+    }
+}
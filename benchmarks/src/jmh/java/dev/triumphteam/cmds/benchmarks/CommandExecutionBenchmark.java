@@ -0,0 +1,131 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmds.benchmarks;
+
+import dev.triumphteam.cmd.core.argument.keyed.Argument;
+import dev.triumphteam.cmd.core.argument.keyed.ArgumentKey;
+import dev.triumphteam.cmd.core.command.InternalRootCommand;
+import dev.triumphteam.cmd.core.extension.registry.RegistryContainer;
+import dev.triumphteam.cmd.core.processor.RootCommandProcessor;
+import dev.triumphteam.cmds.simple.SimpleCommandManager;
+import dev.triumphteam.cmds.simple.SimpleCommandOptions;
+import dev.triumphteam.cmds.simple.SimpleOptionsBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full execution path, root, branch and leaf, for each kind of argument.
+ * Run with the gc profiler (enabled by default in the build) to also get the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommandExecutionBenchmark {
+
+    private static final ArgumentKey NAMED_ARGUMENTS = ArgumentKey.of(BenchmarkCommand.NAMED_ARGUMENTS_KEY);
+    private static final List<Argument> ARGUMENTS = Collections.singletonList(Argument.forInt().name("amount").build());
+
+    @Param({
+            "bench",
+            "bench resolver Matt 10 2.5",
+            "bench enum seconds 30",
+            "bench collection 1 2 3 4 5 6 7 8",
+            "bench split a,b,c,d,e,f,g,h",
+            "bench join Matt hello there this is a joined message",
+            "bench flags Matt -s --reason=testing",
+            "bench named amount:10",
+            "bench branch leaf Matt 10",
+    })
+    public String input;
+
+    private BenchmarkSender sender;
+
+    private SimpleCommandManager<BenchmarkSender> manager;
+    private List<String> managerArguments;
+
+    private InternalRootCommand<BenchmarkSender, BenchmarkSender, String> rootCommand;
+    private List<String> rootArguments;
+
+    @Setup
+    public void setup() {
+        sender = new BenchmarkSender();
+
+        final BenchmarkCommand command = new BenchmarkCommand();
+
+        manager = SimpleCommandManager.create(new BenchmarkSenderExtension(), builder -> {});
+        manager.registerNamedArguments(NAMED_ARGUMENTS, ARGUMENTS);
+        manager.registerCommand(command);
+
+        // The root command is created the same way the manager does it, so it can be driven without the name lookup
+        final RegistryContainer<BenchmarkSender, BenchmarkSender, String> registryContainer = new RegistryContainer<>();
+        registryContainer.getNamedArgumentRegistry().register(NAMED_ARGUMENTS, ARGUMENTS);
+
+        final SimpleCommandOptions<BenchmarkSender> options = new SimpleCommandOptions<>(
+                new BenchmarkSenderExtension(),
+                new SimpleOptionsBuilder<>()
+        );
+
+        final RootCommandProcessor<BenchmarkSender, BenchmarkSender, String> processor = new RootCommandProcessor<>(
+                command,
+                registryContainer,
+                options
+        );
+
+        rootCommand = new InternalRootCommand<>(processor);
+        rootCommand.addCommands(command, processor.commands(rootCommand));
+
+        managerArguments = Arrays.asList(input.split(" "));
+        rootArguments = managerArguments.subList(1, managerArguments.size());
+    }
+
+    @Benchmark
+    public BenchmarkSender executeCommand() {
+        manager.executeCommand(sender, managerArguments);
+        return sender;
+    }
+
+    @Benchmark
+    public BenchmarkSender executeInput() {
+        manager.executeCommand(sender, input);
+        return sender;
+    }
+
+    @Benchmark
+    public BenchmarkSender rootExecute() {
+        rootCommand.execute(sender, new ArrayDeque<>(rootArguments));
+        return sender;
+    }
+}
@@ -0,0 +1,23 @@
+import org.gradle.accessors.dm.LibrariesForLibs
+
+// Hack which exposes `libs` to this convention plugin
+val libs = the<LibrariesForLibs>()
+
+plugins {
+    `java-library`
+    id("me.champeau.jmh")
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+
+    // Allocation rate per operation is as important as throughput for the hot paths
+    profilers.add("gc")
+
+    fork.set(2)
+    warmupIterations.set(3)
+    iterations.set(5)
+
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
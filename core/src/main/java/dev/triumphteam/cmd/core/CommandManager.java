@@ -23,7 +23,11 @@
  */
 package dev.triumphteam.cmd.core;
 
+import dev.triumphteam.cmd.core.argument.ArgumentCachePolicy;
 import dev.triumphteam.cmd.core.argument.ArgumentResolver;
+import dev.triumphteam.cmd.core.argument.AsyncArgumentResolver;
+import dev.triumphteam.cmd.core.argument.AsyncResolverInternalArgument;
+import dev.triumphteam.cmd.core.argument.CachedArgumentResolver;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.argument.keyed.Argument;
 import dev.triumphteam.cmd.core.argument.keyed.ArgumentKey;
@@ -33,12 +37,14 @@ import dev.triumphteam.cmd.core.argument.keyed.FlagKey;
 import dev.triumphteam.cmd.core.argument.keyed.Flags;
 import dev.triumphteam.cmd.core.extension.CommandOptions;
 import dev.triumphteam.cmd.core.extension.SuggestionMapper;
+import dev.triumphteam.cmd.core.extension.command.ExecutionScheduler;
 import dev.triumphteam.cmd.core.extension.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.message.ContextualKey;
 import dev.triumphteam.cmd.core.message.MessageResolver;
 import dev.triumphteam.cmd.core.message.context.MessageContext;
 import dev.triumphteam.cmd.core.requirement.RequirementKey;
 import dev.triumphteam.cmd.core.requirement.RequirementResolver;
+import dev.triumphteam.cmd.core.suggestion.SuggestionCachePolicy;
 import dev.triumphteam.cmd.core.suggestion.SuggestionKey;
 import dev.triumphteam.cmd.core.suggestion.SuggestionMethod;
 import dev.triumphteam.cmd.core.suggestion.SuggestionResolver;
@@ -46,6 +52,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 
 public abstract class CommandManager<M extends CommandManager<M, O, D, S, ST>, O extends CommandOptions<O, M, D, S, ST>, D, S, ST> {
@@ -115,6 +122,75 @@ public abstract class CommandManager<M extends CommandManager<M, O, D, S, ST>, O
         registryContainer.getArgumentRegistry().register(clazz, resolver);
     }
 
+    /**
+     * Registers an argument type with a pure resolver whose results are cached, for resolvers that are expensive to call.
+     * The resolver must always resolve the same input to the same value, see {@link ArgumentCachePolicy}.
+     *
+     * @param clazz       The {@link Class} type of the argument to be registered.
+     * @param cachePolicy The {@link ArgumentCachePolicy} defining how long and how many results are kept.
+     * @param resolver    The {@link ArgumentResolver} used for resolving the argument type.
+     */
+    public final void registerArgument(
+            final @NotNull Class<?> clazz,
+            final @NotNull ArgumentCachePolicy cachePolicy,
+            final @NotNull ArgumentResolver<S> resolver
+    ) {
+        registryContainer.getArgumentRegistry().register(clazz, new CachedArgumentResolver<>(resolver, cachePolicy));
+    }
+
+    /**
+     * Registers an argument type resolved asynchronously, waited for up to the default argument timeout.
+     *
+     * @param clazz    The {@link Class} type of the argument to be registered.
+     * @param resolver The {@link AsyncArgumentResolver} used for resolving the argument type.
+     */
+    public final void registerAsyncArgument(final @NotNull Class<?> clazz, final @NotNull AsyncArgumentResolver<S> resolver) {
+        registerAsyncArgument(clazz, commandOptions.getArgumentTimeoutMillis(), TimeUnit.MILLISECONDS, resolver);
+    }
+
+    /**
+     * Registers an argument type resolved asynchronously.
+     * Commands are only invoked once all of their asynchronous arguments are resolved, which happens concurrently.
+     * An argument that isn't resolved within the timeout is invalid.
+     *
+     * @param clazz    The {@link Class} type of the argument to be registered.
+     * @param timeout  How long the argument is waited for.
+     * @param unit     The unit of the timeout.
+     * @param resolver The {@link AsyncArgumentResolver} used for resolving the argument type.
+     */
+    public final void registerAsyncArgument(
+            final @NotNull Class<?> clazz,
+            final long timeout,
+            final @NotNull TimeUnit unit,
+            final @NotNull AsyncArgumentResolver<S> resolver
+    ) {
+        if (timeout <= 0) throw new IllegalArgumentException("Argument timeout must be positive, got " + timeout);
+        final long timeoutMillis = unit.toMillis(timeout);
+
+        registerArgument(clazz, (meta, name, description, type, suggestion, optional) -> new AsyncResolverInternalArgument<>(
+                meta,
+                name,
+                description,
+                type,
+                resolver,
+                timeoutMillis,
+                suggestion,
+                null,
+                optional
+        ));
+    }
+
+    /**
+     * Forgets all the cached results of an argument type registered with an {@link ArgumentCachePolicy}.
+     * Does nothing if the resolver of the type isn't cached.
+     *
+     * @param clazz The {@link Class} type of the argument.
+     */
+    public final void invalidateArgument(final @NotNull Class<?> clazz) {
+        final ArgumentResolver<S> resolver = registryContainer.getArgumentRegistry().getResolver(clazz);
+        if (resolver instanceof CachedArgumentResolver) ((CachedArgumentResolver<S>) resolver).invalidateAll();
+    }
+
     /**
      * Registers an argument type with its corresponding factory.
      *
@@ -152,6 +228,24 @@ public abstract class CommandManager<M extends CommandManager<M, O, D, S, ST>, O
         registryContainer.getSuggestionRegistry().register(key, resolver, method, suggestionMapper);
     }
 
+    /**
+     * Registers a suggestion resolver whose results are cached, for resolvers that are expensive to call.
+     * A cached result is filtered again as the sender keeps typing, instead of calling the resolver on every key press.
+     *
+     * @param key         The {@link SuggestionKey} used to identify the suggestion resolver in the suggestion registry.
+     * @param method      The {@link SuggestionMethod} defining how suggestions should be filtered or matched.
+     * @param cachePolicy The {@link SuggestionCachePolicy} defining how long and how many results are kept.
+     * @param resolver    The {@link SuggestionResolver.Simple} used to resolve suggestions in the form of {@link String} values.
+     */
+    public void registerSuggestion(
+            final @NotNull SuggestionKey key,
+            final @NotNull SuggestionMethod method,
+            final @NotNull SuggestionCachePolicy cachePolicy,
+            final @NotNull SuggestionResolver.Simple<S> resolver
+    ) {
+        registryContainer.getSuggestionRegistry().register(key, resolver, method, suggestionMapper, cachePolicy);
+    }
+
     /**
      * Registers a rich suggestion resolver using the specified key and the default suggestion method.
      * Rich suggestions are based on the {@link ST} type which depends on the platform.
@@ -179,6 +273,51 @@ public abstract class CommandManager<M extends CommandManager<M, O, D, S, ST>, O
         registryContainer.getSuggestionRegistry().registerRich(key, resolver, method, suggestionMapper);
     }
 
+    /**
+     * Registers a rich suggestion resolver whose results are cached, for resolvers that are expensive to call.
+     * A cached result is filtered again as the sender keeps typing, instead of calling the resolver on every key press.
+     *
+     * @param key         The {@link SuggestionKey} used to identify the suggestion resolver in the suggestion registry.
+     * @param method      The {@link SuggestionMethod} defining how suggestions should be filtered or matched.
+     * @param cachePolicy The {@link SuggestionCachePolicy} defining how long and how many results are kept.
+     * @param resolver    The {@link SuggestionResolver} used to resolve suggestions in the form of rich suggestion values.
+     */
+    public void registerRichSuggestion(
+            final @NotNull SuggestionKey key,
+            final @NotNull SuggestionMethod method,
+            final @NotNull SuggestionCachePolicy cachePolicy,
+            final @NotNull SuggestionResolver<S, ST> resolver
+    ) {
+        registryContainer.getSuggestionRegistry().registerRich(key, resolver, method, suggestionMapper, cachePolicy);
+    }
+
+    /**
+     * Registers an asynchronous suggestion resolver using the specified key and the default suggestion method.
+     * The suggestions are sent once the returned future completes, or none are sent if it doesn't complete in time.
+     *
+     * @param key      The {@link SuggestionKey} used to identify the suggestion resolver in the suggestion registry.
+     * @param resolver The {@link SuggestionResolver.Async} used to resolve suggestions in the form of rich suggestion values.
+     */
+    public void registerAsyncSuggestion(final @NotNull SuggestionKey key, final @NotNull SuggestionResolver.Async<S, ST> resolver) {
+        registerAsyncSuggestion(key, commandOptions.getDefaultSuggestionMethod(), resolver);
+    }
+
+    /**
+     * Registers an asynchronous suggestion resolver using the specified key, suggestion method, and resolver.
+     * The suggestions are sent once the returned future completes, or none are sent if it doesn't complete in time.
+     *
+     * @param key      The {@link SuggestionKey} used to identify the suggestion resolver in the suggestion registry.
+     * @param method   The {@link SuggestionMethod} defining how suggestions should be filtered or matched.
+     * @param resolver The {@link SuggestionResolver.Async} used to resolve suggestions in the form of rich suggestion values.
+     */
+    public void registerAsyncSuggestion(
+            final @NotNull SuggestionKey key,
+            final @NotNull SuggestionMethod method,
+            final @NotNull SuggestionResolver.Async<S, ST> resolver
+    ) {
+        registryContainer.getSuggestionRegistry().registerAsync(key, resolver, method, suggestionMapper);
+    }
+
     /**
      * Registers a static list of suggestions using the specified suggestion key and the default suggestion method.
      * On platforms like Discord, this is equivalent to the "Choice" system.
@@ -359,6 +498,16 @@ public abstract class CommandManager<M extends CommandManager<M, O, D, S, ST>, O
         getRegistryContainer().getRequirementRegistry().register(key, resolver);
     }
 
+    /**
+     * Gets the scheduler used to run {@link dev.triumphteam.cmd.core.annotations.Async} commands.
+     * Async commands can use {@link ExecutionScheduler#sync(Runnable)} to get back to the platform's thread.
+     *
+     * @return The {@link ExecutionScheduler} of this manager.
+     */
+    public final @NotNull ExecutionScheduler getExecutionScheduler() {
+        return commandOptions.getCommandExtensions().getExecutionScheduler();
+    }
+
     protected final @NotNull RegistryContainer<D, S, ST> getRegistryContainer() {
         return registryContainer;
     }
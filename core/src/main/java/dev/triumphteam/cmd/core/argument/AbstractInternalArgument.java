@@ -26,12 +26,14 @@ package dev.triumphteam.cmd.core.argument;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
 import dev.triumphteam.cmd.core.suggestion.InternalSuggestion;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Command internalArgument.
@@ -75,9 +77,35 @@ public abstract class AbstractInternalArgument<S, ST> implements InternalArgumen
             final @NotNull String current,
             final @NotNull List<String> arguments,
             final @NotNull Map<String, String> argumentsMap
+    ) {
+        return suggestions(sender, current, arguments, argumentsMap, SuggestionContext.NO_LIMIT);
+    }
+
+    @Override
+    public @NotNull List<ST> suggestions(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap,
+            final int limit
     ) {
         if (!(suggestion instanceof InternalSuggestion.Simple)) return Collections.emptyList();
-        return ((InternalSuggestion.Simple<S, ST>) suggestion).getSuggestions(sender, current, arguments, argumentsMap);
+        return ((InternalSuggestion.Simple<S, ST>) suggestion).getSuggestions(sender, current, arguments, argumentsMap, limit);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<ST>> suggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap,
+            final int limit
+    ) {
+        if (!(suggestion instanceof InternalSuggestion.Async)) {
+            return CompletableFuture.completedFuture(suggestions(sender, current, arguments, argumentsMap, limit));
+        }
+
+        return ((InternalSuggestion.Async<S, ST>) suggestion).getSuggestionsAsync(sender, current, arguments, argumentsMap, limit);
     }
 
     @Override
@@ -0,0 +1,148 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how the results of a pure {@link ArgumentResolver} are cached by a {@link CachedArgumentResolver}.
+ * A resolver is pure when the same input always resolves to the same value, so the value can be reused
+ * instead of resolving it again, for example a lookup in a config or a {@code Material.matchMaterial}.
+ */
+public final class ArgumentCachePolicy {
+
+    private final long expireAfterNanos;
+    private final int maximumSize;
+    private final boolean perSender;
+    private final boolean cacheInvalid;
+
+    private ArgumentCachePolicy(final @NotNull Builder builder) {
+        this.expireAfterNanos = builder.expireAfterNanos;
+        this.maximumSize = builder.maximumSize;
+        this.perSender = builder.perSender;
+        this.cacheInvalid = builder.cacheInvalid;
+    }
+
+    @Contract(" -> new")
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return How long a result is kept for, in nanoseconds, 0 if it never expires.
+     */
+    public long getExpireAfterNanos() {
+        return expireAfterNanos;
+    }
+
+    /**
+     * @return How many results are kept at most.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return Whether each sender has their own results.
+     */
+    public boolean isPerSender() {
+        return perSender;
+    }
+
+    /**
+     * @return Whether inputs that failed to resolve are cached too.
+     */
+    public boolean isCacheInvalid() {
+        return cacheInvalid;
+    }
+
+    public static final class Builder {
+
+        private long expireAfterNanos = 0;
+        private int maximumSize = 256;
+        private boolean perSender = false;
+        private boolean cacheInvalid = false;
+
+        private Builder() {}
+
+        /**
+         * Sets how long a result is kept for, by default results never expire and are only evicted or invalidated.
+         *
+         * @param duration The duration.
+         * @param unit     The unit of the duration.
+         * @return This builder.
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder expireAfter(final long duration, final @NotNull TimeUnit unit) {
+            if (duration <= 0) throw new IllegalArgumentException("Duration must be positive, got " + duration);
+            this.expireAfterNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets how many results are kept at most, 256 by default.
+         * When full, the result that was used the longest ago is evicted.
+         *
+         * @param maximumSize The maximum amount of results.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder maximumSize(final int maximumSize) {
+            if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive, got " + maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Makes each sender have their own results, for resolvers that resolve differently for different senders.
+         *
+         * @return This builder.
+         */
+        @Contract(" -> this")
+        public @NotNull Builder perSender() {
+            this.perSender = true;
+            return this;
+        }
+
+        /**
+         * Also caches the inputs that failed to resolve, so repeated invalid inputs don't resolve again either.
+         * Off by default, since typos are rarely repeated and would push valid results out of the cache.
+         *
+         * @return This builder.
+         */
+        @Contract(" -> this")
+        public @NotNull Builder cacheInvalid() {
+            this.cacheInvalid = true;
+            return this;
+        }
+
+        @Contract(" -> new")
+        public @NotNull ArgumentCachePolicy build() {
+            return new ArgumentCachePolicy(this);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import dev.triumphteam.cmd.core.command.ArgumentInput;
+import dev.triumphteam.cmd.core.extension.InternalArgumentResult;
+import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
+import dev.triumphteam.cmd.core.message.context.InvalidArgumentContext;
+import dev.triumphteam.cmd.core.suggestion.InternalSuggestion;
+import dev.triumphteam.cmd.core.util.FutureUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link StringInternalArgument} that uses an {@link AsyncArgumentResolver}.
+ * Commands resolve it through {@link #resolveAsync(Object, ArgumentInput)}, together with the other asynchronous arguments.
+ * A resolver that fails, or doesn't complete within the timeout, makes the argument invalid.
+ *
+ * @param <S> The sender type.
+ */
+public final class AsyncResolverInternalArgument<S, ST> extends StringInternalArgument<S, ST> {
+
+    private final AsyncArgumentResolver<S> resolver;
+    private final long timeoutMillis;
+
+    public AsyncResolverInternalArgument(
+            final @NotNull CommandMeta meta,
+            final @NotNull String name,
+            final @NotNull String description,
+            final @NotNull Class<?> type,
+            final @NotNull AsyncArgumentResolver<S> resolver,
+            final long timeoutMillis,
+            final @NotNull InternalSuggestion<S, ST> suggestion,
+            final @Nullable String defaultValue,
+            final boolean optional
+    ) {
+        super(meta, name, description, type, suggestion, defaultValue, optional);
+        this.resolver = resolver;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Blocks until the argument is resolved, for the places that need the value right away, like flags or collections.
+     * Commands don't use this, so the argument is never waited for on the thread the command was sent on.
+     *
+     * @param sender The sender to resolve to.
+     * @param input  The {@link String} argument input.
+     * @return The resolved value, or invalid if the resolver failed or timed out.
+     */
+    @Override
+    public @NotNull InternalArgumentResult resolve(final @NotNull S sender, final @NotNull ArgumentInput input) {
+        // Never completes exceptionally, failures and timeouts are already invalid
+        return resolveAsync(sender, input).join();
+    }
+
+    /**
+     * Resolves the argument without blocking.
+     *
+     * @param sender The sender to resolve to.
+     * @param input  The {@link String} argument input.
+     * @return A future that always completes normally, with an invalid result if the resolver failed or timed out.
+     */
+    public @NotNull CompletableFuture<InternalArgumentResult> resolveAsync(
+            final @NotNull S sender,
+            final @NotNull ArgumentInput input
+    ) {
+        final String value = input.getInput();
+        final InternalArgumentResult invalid = InternalArgument.invalid(
+                (meta, syntax) -> new InvalidArgumentContext(meta, syntax, value, getName(), getType())
+        );
+
+        if (!canUseInput(value)) return CompletableFuture.completedFuture(invalid);
+
+        final CompletableFuture<InternalArgumentResult> result = resolver.resolve(sender, value)
+                .thenApply(resolved -> resolved == null ? invalid : InternalArgument.valid(resolved));
+
+        return FutureUtils.withFallback(result, timeoutMillis, invalid);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "AsyncResolverArgument{" +
+                "resolver=" + resolver +
+                ", timeoutMillis=" + timeoutMillis +
+                ", super=" + super.toString() + "}";
+    }
+}
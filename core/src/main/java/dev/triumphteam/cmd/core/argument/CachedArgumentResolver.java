@@ -0,0 +1,142 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import dev.triumphteam.cmd.core.util.BoundedCache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Memoizes a pure {@link ArgumentResolver}, the value resolved for an input is reused the next time it's typed.
+ * Results are kept in a bounded cache following the {@link ArgumentCachePolicy}, and can be invalidated,
+ * for example when the config the resolver reads from is reloaded.
+ *
+ * @param <S> The sender type.
+ */
+public final class CachedArgumentResolver<S> implements ArgumentResolver<S> {
+
+    private final ArgumentResolver<S> resolver;
+    private final ArgumentCachePolicy policy;
+    private final BoundedCache<Object, Result> results;
+
+    public CachedArgumentResolver(final @NotNull ArgumentResolver<S> resolver, final @NotNull ArgumentCachePolicy policy) {
+        this.resolver = resolver;
+        this.policy = policy;
+        this.results = new BoundedCache<>(policy.getMaximumSize());
+    }
+
+    @Override
+    public @Nullable Object resolve(final @NotNull S sender, final @NotNull String argument) {
+        final Object key = createKey(sender, argument);
+        final long expireAfter = policy.getExpireAfterNanos();
+        final long now = expireAfter > 0 ? System.nanoTime() : 0L;
+
+        final Result cached = results.get(key);
+        if (cached != null && (expireAfter <= 0 || now - cached.resolvedAt < expireAfter)) return cached.value;
+
+        // Resolved outside the cache so a slow resolver doesn't hold the lock
+        final Object value = resolver.resolve(sender, argument);
+        if (value != null || policy.isCacheInvalid()) results.put(key, new Result(value, now));
+        return value;
+    }
+
+    /**
+     * Forgets the result of the given input, for every sender.
+     *
+     * @param argument The typed argument.
+     */
+    public void invalidate(final @NotNull String argument) {
+        if (!policy.isPerSender()) {
+            results.remove(argument);
+            return;
+        }
+
+        results.removeIf(key -> ((SenderKey) key).argument.equals(argument));
+    }
+
+    /**
+     * Forgets the result of the given input for the given sender.
+     *
+     * @param sender   The sender the input was resolved for.
+     * @param argument The typed argument.
+     */
+    public void invalidate(final @NotNull S sender, final @NotNull String argument) {
+        results.remove(createKey(sender, argument));
+    }
+
+    /**
+     * Forgets all results.
+     */
+    public void invalidateAll() {
+        results.clear();
+    }
+
+    private @NotNull Object createKey(final @NotNull S sender, final @NotNull String argument) {
+        return policy.isPerSender() ? new SenderKey(sender, argument) : argument;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "CachedArgumentResolver{" +
+                "resolver=" + resolver +
+                ", size=" + results.size() +
+                '}';
+    }
+
+    private static final class Result {
+
+        private final Object value;
+        private final long resolvedAt;
+
+        private Result(final @Nullable Object value, final long resolvedAt) {
+            this.value = value;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+
+    private static final class SenderKey {
+
+        private final Object sender;
+        private final String argument;
+
+        private SenderKey(final @NotNull Object sender, final @NotNull String argument) {
+            this.sender = sender;
+            this.argument = argument;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == null || getClass() != o.getClass()) return false;
+            final SenderKey that = (SenderKey) o;
+            return sender.equals(that.sender) && argument.equals(that.argument);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sender, argument);
+        }
+    }
+}
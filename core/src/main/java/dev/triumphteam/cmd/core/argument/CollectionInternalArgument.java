@@ -30,16 +30,13 @@ import dev.triumphteam.cmd.core.suggestion.InternalSuggestion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 /**
  * Collection argument, a {@link LimitlessInternalArgument} but returns a {@link List} instead.
- * Currently, only supports {@link List} and {@link Set}.
+ * Supports {@link List}, {@link Set}, {@link java.util.LinkedHashSet}, {@link java.util.EnumSet} and arrays.
  *
  * @param <S> The sender type.
  */
@@ -47,6 +44,7 @@ public final class CollectionInternalArgument<S, ST> extends LimitlessInternalAr
 
     private final InternalArgument<S, ST> internalArgument;
     private final Class<?> collectionType;
+    private final CollectionTarget target;
 
     public CollectionInternalArgument(
             final @NotNull CommandMeta meta,
@@ -61,6 +59,7 @@ public final class CollectionInternalArgument<S, ST> extends LimitlessInternalAr
         super(meta, name, description, String.class, suggestion, defaultValue, optional);
         this.internalArgument = internalArgument;
         this.collectionType = collectionType;
+        this.target = CollectionTarget.of(collectionType, internalArgument.getType());
     }
 
     /**
@@ -72,35 +71,37 @@ public final class CollectionInternalArgument<S, ST> extends LimitlessInternalAr
     @Override
     public @NotNull InternalArgumentResult resolve(final @NotNull S sender, final @NotNull ArgumentInput input
     ) {
-        return resolveCollection(sender, internalArgument, Arrays.asList(input.getInput().split(" ")), collectionType);
+        return resolveCollection(sender, internalArgument, input.getInput(), Separator.SPACE, target);
     }
 
-    public static <S, ST> @NotNull InternalArgumentResult resolveCollection(
+    /**
+     * Resolves each token of the input straight into the target, without splitting the input into an array first.
+     * Tokens are only counted up front when that's cheap, otherwise they're buffered and copied into the target at the end.
+     *
+     * @param sender           The sender to resolve to.
+     * @param internalArgument The argument of the elements.
+     * @param input            The whole input.
+     * @param separator        The separator of the elements.
+     * @param target           What the elements are collected into.
+     * @return The collection as the resolved value, or the failure of the first element that failed.
+     */
+    static <S, ST> @NotNull InternalArgumentResult resolveCollection(
             final @NotNull S sender,
             final @NotNull InternalArgument<S, ST> internalArgument,
-            final @NotNull Collection<String> value,
-            final @NotNull Class<?> collectionType
+            final @NotNull String input,
+            final @NotNull Separator separator,
+            final @NotNull CollectionTarget target
     ) {
-        // Create a collection based on the type.
-        final Collection<Object> collection = createCollection(collectionType);
-
-        for (final String arg : value) {
-            final InternalArgumentResult resolved = internalArgument.resolve(sender, new ArgumentInput(arg));
+        final int count = separator.countIfCheap(input);
+        final Collector<S, ST> collector = new Collector<>(
+                sender,
+                internalArgument,
+                target,
+                count == Separator.UNKNOWN_COUNT ? null : target.create(count)
+        );
+        if (!separator.forEach(input, collector)) return collector.failure;
 
-            // If an error occurs, it needs to be delegated back to the caller.
-            if (!(resolved instanceof InternalArgumentResult.Valid)) return resolved;
-
-            // If success, then we collect the result's value.
-            collection.add(((InternalArgumentResult.Valid) resolved).getValue());
-        }
-
-        // Return the collection as a success
-        return InternalArgument.valid(collection);
-    }
-
-    private static Collection<Object> createCollection(final Class<?> collectionType) {
-        if (collectionType == Set.class) return new HashSet<>();
-        return new ArrayList<>();
+        return InternalArgument.valid(collector.collect());
     }
 
     @Override
@@ -109,4 +110,70 @@ public final class CollectionInternalArgument<S, ST> extends LimitlessInternalAr
                 "collectionType=" + collectionType +
                 ", super=" + super.toString() + "}";
     }
+
+    private static final class Collector<S, ST> implements Separator.TokenVisitor {
+
+        private static final int INITIAL_BUFFER_SIZE = 10;
+
+        private final S sender;
+        private final InternalArgument<S, ST> internalArgument;
+        private final CollectionTarget target;
+        // Null when the amount of tokens isn't known, the values are buffered instead
+        private final @Nullable Object collection;
+        private @Nullable Object[] buffer;
+
+        private int index = 0;
+        private InternalArgumentResult failure;
+
+        private Collector(
+                final @NotNull S sender,
+                final @NotNull InternalArgument<S, ST> internalArgument,
+                final @NotNull CollectionTarget target,
+                final @Nullable Object collection
+        ) {
+            this.sender = sender;
+            this.internalArgument = internalArgument;
+            this.target = target;
+            this.collection = collection;
+        }
+
+        /**
+         * @return The target with all the resolved values.
+         */
+        private @NotNull Object collect() {
+            if (collection != null) return collection;
+
+            final Object created = target.create(index);
+            for (int i = 0; i < index; i++) {
+                target.set(created, i, buffer[i]);
+            }
+            return created;
+        }
+
+        @Override
+        public boolean visit(final @NotNull String input, final int start, final int end) {
+            final String token = start == 0 && end == input.length() ? input : input.substring(start, end);
+            final InternalArgumentResult resolved = internalArgument.resolve(sender, new ArgumentInput(token));
+
+            // If an error occurs, it needs to be delegated back to the caller.
+            if (!(resolved instanceof InternalArgumentResult.Valid)) {
+                failure = resolved;
+                return false;
+            }
+
+            final Object value = ((InternalArgumentResult.Valid) resolved).getValue();
+            if (collection != null) {
+                target.set(collection, index++, value);
+                return true;
+            }
+
+            if (buffer == null) {
+                buffer = new Object[INITIAL_BUFFER_SIZE];
+            } else if (index == buffer.length) {
+                buffer = Arrays.copyOf(buffer, index * 2);
+            }
+            buffer[index++] = value;
+            return true;
+        }
+    }
 }
@@ -0,0 +1,195 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What the resolved elements of a collection argument are collected into, picked once from the parameter type.
+ * The target is always created with the exact amount of elements, counted up front or buffered until known.
+ * Supports {@link List}, {@link Set}, {@link LinkedHashSet}, {@link EnumSet} and arrays, including primitive ones.
+ */
+abstract class CollectionTarget {
+
+    private static final CollectionTarget LIST = new CollectionTarget() {
+        @Override
+        @NotNull Object create(final int size) {
+            return new ArrayList<>(size);
+        }
+    };
+
+    private static final CollectionTarget HASH_SET = new CollectionTarget() {
+        @Override
+        @NotNull Object create(final int size) {
+            return new HashSet<>(capacityOf(size));
+        }
+    };
+
+    private static final CollectionTarget LINKED_HASH_SET = new CollectionTarget() {
+        @Override
+        @NotNull Object create(final int size) {
+            return new LinkedHashSet<>(capacityOf(size));
+        }
+    };
+
+    private static final CollectionTarget INT_ARRAY = new CollectionTarget() {
+        @Override
+        @NotNull Object create(final int size) {
+            return new int[size];
+        }
+
+        @Override
+        void set(final @NotNull Object target, final int index, final @NotNull Object value) {
+            ((int[]) target)[index] = (Integer) value;
+        }
+    };
+
+    private static final CollectionTarget LONG_ARRAY = new CollectionTarget() {
+        @Override
+        @NotNull Object create(final int size) {
+            return new long[size];
+        }
+
+        @Override
+        void set(final @NotNull Object target, final int index, final @NotNull Object value) {
+            ((long[]) target)[index] = (Long) value;
+        }
+    };
+
+    private static final CollectionTarget DOUBLE_ARRAY = new CollectionTarget() {
+        @Override
+        @NotNull Object create(final int size) {
+            return new double[size];
+        }
+
+        @Override
+        void set(final @NotNull Object target, final int index, final @NotNull Object value) {
+            ((double[]) target)[index] = (Double) value;
+        }
+    };
+
+    /**
+     * Picks the target for the given parameter type.
+     * Any other type falls back to a {@link List}, like before arrays and other sets were supported.
+     *
+     * @param type        The type of the parameter.
+     * @param elementType The type of the elements.
+     * @return The target that creates the given type.
+     * @throws IllegalArgumentException If the type is an {@link EnumSet} of something that's not an enum.
+     */
+    static @NotNull CollectionTarget of(final @NotNull Class<?> type, final @NotNull Class<?> elementType) {
+        if (type.isArray()) {
+            final Class<?> componentType = type.getComponentType();
+            if (componentType == int.class) return INT_ARRAY;
+            if (componentType == long.class) return LONG_ARRAY;
+            if (componentType == double.class) return DOUBLE_ARRAY;
+            return new ArrayTarget(componentType);
+        }
+
+        if (type == EnumSet.class || (type == Set.class && elementType.isEnum())) {
+            if (!elementType.isEnum()) {
+                throw new IllegalArgumentException("EnumSet elements must be an enum, got " + elementType.getName());
+            }
+            return new EnumSetTarget(elementType);
+        }
+
+        if (type == LinkedHashSet.class) return LINKED_HASH_SET;
+        if (type == Set.class || type == HashSet.class) return HASH_SET;
+        return LIST;
+    }
+
+    /**
+     * Creates the empty target.
+     *
+     * @param size The exact amount of elements that will be set.
+     * @return The target, a collection or an array.
+     */
+    abstract @NotNull Object create(final int size);
+
+    /**
+     * Sets the element at the given index, collections simply add it as the elements are set in order.
+     *
+     * @param target The target created by {@link #create(int)}.
+     * @param index  The index of the element.
+     * @param value  The resolved element.
+     */
+    @SuppressWarnings("unchecked")
+    void set(final @NotNull Object target, final int index, final @NotNull Object value) {
+        ((Collection<Object>) target).add(value);
+    }
+
+    private static int capacityOf(final int size) {
+        // Same as HashMap's default load factor, so it never resizes while it's filled
+        return Math.max((int) (size / 0.75f) + 1, 16);
+    }
+
+    private static final class ArrayTarget extends CollectionTarget {
+
+        private final Class<?> componentType;
+
+        private ArrayTarget(final @NotNull Class<?> componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override
+        @NotNull Object create(final int size) {
+            return Array.newInstance(componentType, size);
+        }
+
+        @Override
+        void set(final @NotNull Object target, final int index, final @NotNull Object value) {
+            // Object arrays are assigned directly, only the remaining primitive arrays unbox reflectively
+            if (target instanceof Object[]) {
+                ((Object[]) target)[index] = value;
+                return;
+            }
+
+            Array.set(target, index, value);
+        }
+    }
+
+    private static final class EnumSetTarget extends CollectionTarget {
+
+        private final Class<?> enumType;
+
+        private EnumSetTarget(final @NotNull Class<?> enumType) {
+            this.enumType = enumType;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        @NotNull Object create(final int size) {
+            return EnumSet.noneOf((Class<Enum>) enumType);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolver for the floating point primitives, {@code float} and {@code double}, and their boxes.
+ * The input is checked to be a decimal number with a single pass over its characters before it's parsed,
+ * so an invalid one costs no exception, and no regex is matched against it.
+ * Accepts an optional sign, digits with an optional fraction, an optional exponent, {@code NaN} and {@code Infinity}.
+ *
+ * @param <S> The sender type.
+ */
+public final class DecimalArgumentResolver<S> implements ArgumentResolver<S> {
+
+    private static final String NAN = "NaN";
+    private static final String INFINITY = "Infinity";
+
+    private final boolean single;
+    private final double min;
+    private final double max;
+    private final boolean bounded;
+
+    private DecimalArgumentResolver(final boolean single, final double min, final double max) {
+        this.single = single;
+        this.min = min;
+        this.max = max;
+        this.bounded = min != Double.NEGATIVE_INFINITY || max != Double.POSITIVE_INFINITY;
+    }
+
+    @Contract(" -> new")
+    public static <S> @NotNull DecimalArgumentResolver<S> ofFloat() {
+        return new DecimalArgumentResolver<>(true, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    @Contract(" -> new")
+    public static <S> @NotNull DecimalArgumentResolver<S> ofDouble() {
+        return new DecimalArgumentResolver<>(false, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Creates a copy of this resolver that only accepts numbers between the given bounds, both inclusive.
+     * A bounded resolver never accepts {@code NaN}.
+     *
+     * @param min The smallest value allowed.
+     * @param max The biggest value allowed.
+     * @return A new resolver with the bounds.
+     * @throws IllegalArgumentException If the bounds don't leave any value to accept.
+     */
+    @Contract("_, _ -> new")
+    public @NotNull DecimalArgumentResolver<S> withRange(final double min, final double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("Range minimum must not be greater than the maximum, got " + min + " > " + max);
+        }
+
+        return new DecimalArgumentResolver<>(single, min, max);
+    }
+
+    @Override
+    public @Nullable Object resolve(final @NotNull S sender, final @NotNull String argument) {
+        if (!isDecimal(argument)) return null;
+
+        if (single) {
+            final float value = Float.parseFloat(argument);
+            if (bounded && !(value >= min && value <= max)) return null;
+            return value;
+        }
+
+        final double value = Double.parseDouble(argument);
+        if (bounded && !(value >= min && value <= max)) return null;
+        return value;
+    }
+
+    /**
+     * Checks if the input is something that can be parsed without {@link NumberFormatException}.
+     * Narrower than what {@link Double#parseDouble(String)} takes, there are no spaces, hexadecimals or type suffixes.
+     *
+     * @param input The typed argument.
+     * @return Whether the input is a decimal number.
+     */
+    private static boolean isDecimal(final @NotNull String input) {
+        final int length = input.length();
+        if (length == 0) return false;
+
+        int index = 0;
+        final char first = input.charAt(0);
+        if (first == '-' || first == '+') index = 1;
+
+        if (input.startsWith(NAN, index)) return index + NAN.length() == length;
+        if (input.startsWith(INFINITY, index)) return index + INFINITY.length() == length;
+
+        final int integerStart = index;
+        index = skipDigits(input, index, length);
+        boolean digits = index > integerStart;
+
+        if (index < length && input.charAt(index) == '.') {
+            final int fractionStart = ++index;
+            index = skipDigits(input, index, length);
+            digits |= index > fractionStart;
+        }
+
+        // Needs at least one digit, on either side of the point
+        if (!digits) return false;
+        if (index == length) return true;
+
+        final char exponent = input.charAt(index);
+        if (exponent != 'e' && exponent != 'E') return false;
+        if (++index < length && (input.charAt(index) == '-' || input.charAt(index) == '+')) index++;
+
+        final int exponentStart = index;
+        index = skipDigits(input, index, length);
+        return index > exponentStart && index == length;
+    }
+
+    private static int skipDigits(final @NotNull String input, final int start, final int length) {
+        int index = start;
+        while (index < length) {
+            final char character = input.charAt(index);
+            if (character < '0' || character > '9') break;
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "DecimalArgumentResolver{" +
+                "type=" + (single ? "float" : "double") +
+                ", min=" + min +
+                ", max=" + max +
+                '}';
+    }
+}
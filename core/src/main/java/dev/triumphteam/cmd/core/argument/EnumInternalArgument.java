@@ -28,14 +28,11 @@ import dev.triumphteam.cmd.core.extension.InternalArgumentResult;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.message.context.InvalidArgumentContext;
 import dev.triumphteam.cmd.core.suggestion.InternalSuggestion;
+import dev.triumphteam.cmd.core.util.EnumLookup;
+import dev.triumphteam.cmd.core.util.EnumUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.ref.WeakReference;
-
-import static dev.triumphteam.cmd.core.util.EnumUtils.getEnumConstants;
-import static dev.triumphteam.cmd.core.util.EnumUtils.populateCache;
-
 /**
  * An argument type for {@link Enum}s.
  * This is needed instead of the normal {@link ResolverInternalArgument} because of different types of enums, which requires the class.
@@ -45,6 +42,7 @@ import static dev.triumphteam.cmd.core.util.EnumUtils.populateCache;
 public final class EnumInternalArgument<S, ST> extends StringInternalArgument<S, ST> {
 
     private final Class<? extends Enum<?>> enumType;
+    private final EnumLookup lookup;
 
     public EnumInternalArgument(
             final @NotNull CommandMeta meta,
@@ -58,8 +56,8 @@ public final class EnumInternalArgument<S, ST> extends StringInternalArgument<S,
         super(meta, name, description, type, suggestion, defaultValue, optional);
         this.enumType = type;
 
-        // Populates on creation to reduce runtime of the first run for certain enums, like Bukkit's Material.
-        populateCache(type);
+        // Created on registration to reduce runtime of the first run for certain enums, like Bukkit's Material.
+        this.lookup = EnumUtils.getLookup(type);
     }
 
     /**
@@ -72,15 +70,10 @@ public final class EnumInternalArgument<S, ST> extends StringInternalArgument<S,
     @Override
     public @NotNull InternalArgumentResult resolve(final @NotNull S sender, final @NotNull ArgumentInput input) {
         final String value = input.getInput();
-        final WeakReference<? extends Enum<?>> reference = getEnumConstants(enumType).get(value.toUpperCase());
-
-        if (reference == null) {
-            return InternalArgument.invalid((meta, syntax) -> new InvalidArgumentContext(meta, syntax, value, getName(), getType()));
-        }
+        final Enum<?> enumValue = lookup.get(value);
 
-        final Enum<?> enumValue = reference.get();
         if (enumValue == null) {
-            return InternalArgument.invalid((commands, arguments) -> new InvalidArgumentContext(commands, arguments, value, getName(), getType()));
+            return InternalArgument.invalid((meta, syntax) -> new InvalidArgumentContext(meta, syntax, value, getName(), getType()));
         }
 
         return InternalArgument.valid(enumValue);
@@ -0,0 +1,204 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolver for the integral primitives, {@code byte}, {@code short}, {@code int} and {@code long}, and their boxes.
+ * The number is parsed straight from the input, so an invalid one costs no exception, and the bounds
+ * are checked while parsing, stopping at the first digit that can no longer fit them.
+ * The only allocation is the box of the resolved value, and none for the small values the box caches.
+ *
+ * @param <S> The sender type.
+ */
+public final class IntegralArgumentResolver<S> implements ArgumentResolver<S> {
+
+    private static final int DEFAULT_RADIX = 10;
+
+    private final Type type;
+    private final long min;
+    private final long max;
+    private final int radix;
+
+    private IntegralArgumentResolver(final @NotNull Type type, final long min, final long max, final int radix) {
+        this.type = type;
+        this.min = min;
+        this.max = max;
+        this.radix = radix;
+    }
+
+    @Contract(" -> new")
+    public static <S> @NotNull IntegralArgumentResolver<S> ofByte() {
+        return of(Type.BYTE);
+    }
+
+    @Contract(" -> new")
+    public static <S> @NotNull IntegralArgumentResolver<S> ofShort() {
+        return of(Type.SHORT);
+    }
+
+    @Contract(" -> new")
+    public static <S> @NotNull IntegralArgumentResolver<S> ofInt() {
+        return of(Type.INT);
+    }
+
+    @Contract(" -> new")
+    public static <S> @NotNull IntegralArgumentResolver<S> ofLong() {
+        return of(Type.LONG);
+    }
+
+    private static <S> @NotNull IntegralArgumentResolver<S> of(final @NotNull Type type) {
+        return new IntegralArgumentResolver<>(type, type.min, type.max, DEFAULT_RADIX);
+    }
+
+    /**
+     * Creates a copy of this resolver that only accepts numbers between the given bounds, both inclusive.
+     * The bounds are narrowed to the ones of this resolver, so they never go past what the type can hold.
+     *
+     * @param min The smallest value allowed.
+     * @param max The biggest value allowed.
+     * @return A new resolver with the narrowed bounds.
+     * @throws IllegalArgumentException If the bounds don't leave any value to accept.
+     */
+    @Contract("_, _ -> new")
+    public @NotNull IntegralArgumentResolver<S> withRange(final long min, final long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Range minimum must not be greater than the maximum, got " + min + " > " + max);
+        }
+
+        final long narrowedMin = Math.max(this.min, min);
+        final long narrowedMax = Math.min(this.max, max);
+        if (narrowedMin > narrowedMax) {
+            throw new IllegalArgumentException("Range must overlap the bounds of " + type.name + ", got " + min + " to " + max);
+        }
+
+        return new IntegralArgumentResolver<>(type, narrowedMin, narrowedMax, radix);
+    }
+
+    /**
+     * Creates a copy of this resolver that reads numbers in the given base.
+     *
+     * @param radix The base of the number, between 2 and 36.
+     * @return A new resolver with the radix.
+     * @throws IllegalArgumentException If the radix is not supported.
+     */
+    @Contract("_ -> new")
+    public @NotNull IntegralArgumentResolver<S> withRadix(final int radix) {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new IllegalArgumentException("Radix must be between " + Character.MIN_RADIX + " and " + Character.MAX_RADIX + ", got " + radix);
+        }
+
+        return new IntegralArgumentResolver<>(type, min, max, radix);
+    }
+
+    @Override
+    public @Nullable Object resolve(final @NotNull S sender, final @NotNull String argument) {
+        final int length = argument.length();
+        if (length == 0) return null;
+
+        int index = 0;
+        final char first = argument.charAt(0);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (length == 1) return null;
+            index = 1;
+        }
+
+        // Signs that can never be in range fail before reading any digit
+        if (negative ? min > 0 : max < 0) return null;
+
+        // Accumulated negatively like Long#parseLong, so the minimum of long is reachable without overflowing,
+        // the limit being the bound on the side of the sign, which is never positive
+        final long limit = negative ? min : -max;
+        final long multiplyLimit = limit / radix;
+        long result = 0;
+
+        for (; index < length; index++) {
+            final int digit = Character.digit(argument.charAt(index), radix);
+            if (digit < 0 || result < multiplyLimit) return null;
+
+            result *= radix;
+            if (result < limit + digit) return null;
+            result -= digit;
+        }
+
+        // Only the bound on the side of the sign is checked by the loop
+        final long value = negative ? result : -result;
+        if (value < min || value > max) return null;
+
+        return type.box(value);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "IntegralArgumentResolver{" +
+                "type=" + type.name +
+                ", min=" + min +
+                ", max=" + max +
+                ", radix=" + radix +
+                '}';
+    }
+
+    private enum Type {
+        BYTE("byte", Byte.MIN_VALUE, Byte.MAX_VALUE) {
+            @Override
+            @NotNull Object box(final long value) {
+                return (byte) value;
+            }
+        },
+        SHORT("short", Short.MIN_VALUE, Short.MAX_VALUE) {
+            @Override
+            @NotNull Object box(final long value) {
+                return (short) value;
+            }
+        },
+        INT("int", Integer.MIN_VALUE, Integer.MAX_VALUE) {
+            @Override
+            @NotNull Object box(final long value) {
+                return (int) value;
+            }
+        },
+        LONG("long", Long.MIN_VALUE, Long.MAX_VALUE) {
+            @Override
+            @NotNull Object box(final long value) {
+                return value;
+            }
+        };
+
+        private final String name;
+        private final long min;
+        private final long max;
+
+        Type(final @NotNull String name, final long min, final long max) {
+            this.name = name;
+            this.min = min;
+            this.max = max;
+        }
+
+        abstract @NotNull Object box(final long value);
+    }
+}
@@ -29,11 +29,13 @@ import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.meta.CommandMetaContainer;
 import dev.triumphteam.cmd.core.message.context.InvalidArgumentContext;
 import dev.triumphteam.cmd.core.suggestion.InternalSuggestion;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
 /**
@@ -96,6 +98,47 @@ public interface InternalArgument<S, ST> extends CommandMetaContainer {
             final @NotNull Map<String, String> argumentsMap
     );
 
+    /**
+     * Same as {@link #suggestions(Object, String, List, Map)}, but returns at most the given amount of suggestions,
+     * for platforms that only show a few of them.
+     */
+    default @NotNull List<ST> suggestions(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap,
+            final int limit
+    ) {
+        final List<ST> suggestions = suggestions(sender, current, arguments, argumentsMap);
+        return suggestions.size() <= limit ? suggestions : suggestions.subList(0, limit);
+    }
+
+    /**
+     * Gets the suggestions of the argument without blocking on suggestions that are resolved asynchronously.
+     * Arguments without asynchronous suggestions complete immediately with their normal suggestions.
+     */
+    default @NotNull CompletableFuture<List<ST>> suggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap
+    ) {
+        return suggestionsAsync(sender, current, arguments, argumentsMap, SuggestionContext.NO_LIMIT);
+    }
+
+    /**
+     * Same as {@link #suggestionsAsync(Object, String, List, Map)}, but completes with at most the given amount of suggestions.
+     */
+    default @NotNull CompletableFuture<List<ST>> suggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap,
+            final int limit
+    ) {
+        return CompletableFuture.completedFuture(suggestions(sender, current, arguments, argumentsMap, limit));
+    }
+
     @NotNull InternalSuggestion<S, ST> getSuggestion();
 
     @FunctionalInterface
@@ -0,0 +1,226 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Separator of the tokens of a collection argument, compiled once when the argument is registered.
+ * Produces the same tokens {@link String#split(String)} does, without creating the array of them,
+ * a separator without regex meta characters is searched as is, anything else through a precompiled {@link Pattern}.
+ */
+abstract class Separator {
+
+    static final Separator SPACE = new Literal(" ");
+
+    static final int UNKNOWN_COUNT = -1;
+
+    // Same as the fast path of String#split, these are the only characters that make a separator a regex
+    private static final String META_CHARACTERS = ".$|()[{^?*+\\";
+
+    /**
+     * Compiles the separator.
+     *
+     * @param regex The separator, used as a regex like {@link String#split(String)} does.
+     * @return The literal separator if it contains no meta characters, or a single escaped one, a pattern otherwise.
+     */
+    @Contract("_ -> new")
+    static @NotNull Separator compile(final @NotNull String regex) {
+        final int length = regex.length();
+
+        if (length == 2 && regex.charAt(0) == '\\' && !Character.isLetterOrDigit(regex.charAt(1))) {
+            return new Literal(regex.substring(1));
+        }
+
+        boolean literal = length > 0;
+        for (int i = 0; i < length && literal; i++) {
+            literal = META_CHARACTERS.indexOf(regex.charAt(i)) == -1;
+        }
+
+        return literal ? new Literal(regex) : new Regex(Pattern.compile(regex));
+    }
+
+    /**
+     * Visits the region of each token of the input, in order.
+     * Trailing empty tokens are skipped, and an input without any separator is a single token, even when empty.
+     *
+     * @param input   The input to split.
+     * @param visitor The visitor of the tokens.
+     * @return False if the visitor stopped the iteration early, true otherwise.
+     */
+    abstract boolean forEach(final @NotNull String input, final @NotNull TokenVisitor visitor);
+
+    /**
+     * Counts the tokens only if that costs less than visiting them, so targets that need their size can be created up front.
+     *
+     * @param input The input to split.
+     * @return The amount of tokens {@link #forEach(String, TokenVisitor)} visits, or {@link #UNKNOWN_COUNT}.
+     */
+    abstract int countIfCheap(final @NotNull String input);
+
+    /**
+     * @param input The input to split.
+     * @return The amount of tokens {@link #forEach(String, TokenVisitor)} visits.
+     */
+    final int count(final @NotNull String input) {
+        final int[] count = {0};
+        forEach(input, (token, start, end) -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Visits a token found between two separators, empty tokens are only visited once a non-empty one follows them.
+     *
+     * @return False if the visitor stopped the iteration, true otherwise.
+     */
+    static boolean visit(
+            final @NotNull String input,
+            final @NotNull TokenVisitor visitor,
+            final int pendingEmpty,
+            final int start,
+            final int end
+    ) {
+        for (int i = 0; i < pendingEmpty; i++) {
+            if (!visitor.visit(input, start, start)) return false;
+        }
+
+        return visitor.visit(input, start, end);
+    }
+
+    @FunctionalInterface
+    interface TokenVisitor {
+
+        /**
+         * Visits a token, the region of the input from start to end.
+         *
+         * @param input The whole input.
+         * @param start Where the token starts, inclusive.
+         * @param end   Where the token ends, exclusive.
+         * @return Whether to keep visiting the next tokens.
+         */
+        boolean visit(final @NotNull String input, final int start, final int end);
+    }
+
+    private static final class Literal extends Separator {
+
+        private final String delimiter;
+
+        private Literal(final @NotNull String delimiter) {
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        boolean forEach(final @NotNull String input, final @NotNull TokenVisitor visitor) {
+            int index = input.indexOf(delimiter);
+            if (index == -1) return visitor.visit(input, 0, input.length());
+
+            int start = 0;
+            int pendingEmpty = 0;
+            while (true) {
+                final int end = index == -1 ? input.length() : index;
+
+                if (end == start) {
+                    pendingEmpty++;
+                } else {
+                    if (!visit(input, visitor, pendingEmpty, start, end)) return false;
+                    pendingEmpty = 0;
+                }
+
+                if (index == -1) return true;
+
+                start = index + delimiter.length();
+                index = input.indexOf(delimiter, start);
+            }
+        }
+
+        @Override
+        int countIfCheap(final @NotNull String input) {
+            // Only a few index searches, cheaper than growing the target
+            return count(input);
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "Literal{" +
+                    "delimiter='" + delimiter + '\'' +
+                    '}';
+        }
+    }
+
+    private static final class Regex extends Separator {
+
+        private final Pattern pattern;
+
+        private Regex(final @NotNull Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        boolean forEach(final @NotNull String input, final @NotNull TokenVisitor visitor) {
+            final Matcher matcher = pattern.matcher(input);
+
+            int start = 0;
+            int pendingEmpty = 0;
+            boolean matched = false;
+            while (matcher.find()) {
+                // Like String#split, a zero width match at the beginning never creates a leading empty token
+                if (matcher.end() == 0) continue;
+
+                matched = true;
+                if (matcher.start() == start) {
+                    pendingEmpty++;
+                } else {
+                    if (!visit(input, visitor, pendingEmpty, start, matcher.start())) return false;
+                    pendingEmpty = 0;
+                }
+
+                start = matcher.end();
+            }
+
+            if (!matched) return visitor.visit(input, 0, input.length());
+            if (start == input.length()) return true;
+            return visit(input, visitor, pendingEmpty, start, input.length());
+        }
+
+        @Override
+        int countIfCheap(final @NotNull String input) {
+            // Counting would run the matcher over the whole input a second time
+            return UNKNOWN_COUNT;
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "Regex{" +
+                    "pattern=" + pattern +
+                    '}';
+        }
+    }
+}
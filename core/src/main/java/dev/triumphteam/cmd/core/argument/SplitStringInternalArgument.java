@@ -46,7 +46,8 @@ public final class SplitStringInternalArgument<S, ST> extends StringInternalArgu
 
     private final String regex;
     private final InternalArgument<S, ST> internalArgument;
-    private final Class<?> collectionType;
+    private final Separator separator;
+    private final CollectionTarget target;
 
     public SplitStringInternalArgument(
             final @NotNull CommandMeta meta,
@@ -62,12 +63,13 @@ public final class SplitStringInternalArgument<S, ST> extends StringInternalArgu
         super(meta, name, description, String.class, suggestion, defaultValue, optional);
         this.regex = regex;
         this.internalArgument = internalArgument;
-        this.collectionType = collectionType;
+        this.separator = Separator.compile(regex);
+        this.target = CollectionTarget.of(collectionType, internalArgument.getType());
     }
 
     @Override
     public @NotNull InternalArgumentResult resolve(final @NotNull S sender, final @NotNull ArgumentInput input) {
-        return CollectionInternalArgument.resolveCollection(sender, internalArgument, Arrays.asList(input.getInput().split(regex)), collectionType);
+        return CollectionInternalArgument.resolveCollection(sender, internalArgument, input.getInput(), separator, target);
     }
 
     public @NotNull List<String> suggestions(
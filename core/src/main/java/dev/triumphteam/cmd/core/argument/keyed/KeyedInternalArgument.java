@@ -134,29 +134,31 @@ public final class KeyedInternalArgument<S, ST> extends LimitlessInternalArgumen
             final @NotNull S sender,
             final @NotNull String current,
             final @NotNull List<String> arguments,
-            final @NotNull Map<String, String> argumentsMap
+            final @NotNull Map<String, String> argumentsMap,
+            final int limit
     ) {
         final ArgumentParser.Result result = argumentParser.parse(arguments);
         final String resultCurrent = result.getCurrent();
 
         // Checking if we're waiting for a flag argument
-        final List<String> waitingFlagArguments = handleFlagArgument(resultCurrent, result, sender);
-        if (waitingFlagArguments != null) return map(waitingFlagArguments);
+        final List<String> waitingFlagArguments = handleFlagArgument(resultCurrent, result, sender, limit);
+        if (waitingFlagArguments != null) return map(waitingFlagArguments, limit);
 
         // Checking if we're waiting for an argument
-        final List<String> waitingArguments = handleNamedArgument(resultCurrent, result, sender);
-        if (waitingArguments != null) return map(waitingArguments);
+        final List<String> waitingArguments = handleNamedArgument(resultCurrent, result, sender, limit);
+        if (waitingArguments != null) return map(waitingArguments, limit);
 
         // Handle flags only when they are typed
-        if (current.startsWith("--")) return map(longFlags(resultCurrent, result.getFlags()));
-        if (current.startsWith("-")) return map(flags(resultCurrent, result.getFlags()));
+        if (current.startsWith("--")) return map(longFlags(resultCurrent, result.getFlags()), limit);
+        if (current.startsWith("-")) return map(flags(resultCurrent, result.getFlags()), limit);
 
         // If we're not dealing with flags or arguments, we return a list of named arguments that haven't been used yet
-        return map(namedArguments(resultCurrent, result.getNamedArguments()));
+        return map(namedArguments(resultCurrent, result.getNamedArguments()), limit);
     }
 
-    private @NotNull List<ST> map(final @NotNull List<String> suggestions) {
-        return mapper.map(suggestions, getType());
+    private @NotNull List<ST> map(final @NotNull List<String> suggestions, final int limit) {
+        // Only the suggestions that will be shown are mapped
+        return mapper.map(suggestions.size() <= limit ? suggestions : suggestions.subList(0, limit), getType());
     }
 
     private @NotNull List<String> longFlags(
@@ -204,7 +206,8 @@ public final class KeyedInternalArgument<S, ST> extends LimitlessInternalArgumen
     private @Nullable List<String> handleNamedArgument(
             final @NotNull String current,
             final @NotNull ArgumentParser.Result result,
-            final @NotNull S sender
+            final @NotNull S sender,
+            final int limit
     ) {
         // Checking if we're waiting for an argument
         final Argument waiting = result.getArgumentWaiting();
@@ -215,7 +218,7 @@ public final class KeyedInternalArgument<S, ST> extends LimitlessInternalArgumen
         if (internalArgument == null) return null;
         final String raw = (waiting.isLongNameArgument() ? waiting.getLongName() : waiting.getName()) + ":";
         // Get a suggestion from the internal argument and map it to the "raw" argument
-        final List<String> suggestions = internalArgument.suggestions(sender, current, Collections.singletonList(current), Collections.emptyMap())
+        final List<String> suggestions = internalArgument.suggestions(sender, current, Collections.singletonList(current), Collections.emptyMap(), limit)
                 .stream()
                 .map(it -> raw + it)
                 .collect(Collectors.toList());
@@ -230,7 +233,8 @@ public final class KeyedInternalArgument<S, ST> extends LimitlessInternalArgumen
     private @Nullable List<String> handleFlagArgument(
             final @NotNull String current,
             final @NotNull ArgumentParser.Result result,
-            final @NotNull S sender
+            final @NotNull S sender,
+            final int limit
     ) {
         final Pair<Flag, ArgumentParser.Result.FlagType> waitingFlag = result.getFlagWaiting();
         if (waitingFlag == null) return null;
@@ -242,7 +246,7 @@ public final class KeyedInternalArgument<S, ST> extends LimitlessInternalArgumen
         final InternalArgument<S, ST> internalArgument = flagInternalArguments.get(flag);
         if (internalArgument == null) return null;
 
-        return mapper.mapBackwards(internalArgument.suggestions(sender, current, Collections.singletonList(current), Collections.emptyMap()))
+        return mapper.mapBackwards(internalArgument.suggestions(sender, current, Collections.singletonList(current), Collections.emptyMap(), limit))
                 .stream()
                 .map(it -> {
                     if (!type.hasEquals()) return it; // No equals, so we just suggest the argument
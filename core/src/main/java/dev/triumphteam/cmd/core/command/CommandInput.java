@@ -0,0 +1,147 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.command;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reader over the raw input of a command, handing out one space separated token at a time.
+ * Every space is a separator, so consecutive spaces and a trailing space produce empty tokens,
+ * the same way platforms split their arguments.
+ * Commands only read what they need, limitless arguments take the remaining input as is, without splitting and joining it.
+ */
+public interface CommandInput {
+
+    /**
+     * Creates a cursor over the raw text typed after the command.
+     * Tokens are only created as they are read.
+     *
+     * @param input The raw input, an empty input has no tokens.
+     * @return A new {@link CommandInput}.
+     */
+    @Contract("_ -> new")
+    static @NotNull CommandInput of(final @NotNull String input) {
+        return new StringCommandInput(input);
+    }
+
+    /**
+     * Creates an input from arguments that were already split by the platform.
+     *
+     * @param arguments The split arguments.
+     * @return A new {@link CommandInput}.
+     */
+    @Contract("_ -> new")
+    static @NotNull CommandInput of(final @NotNull String @NotNull [] arguments) {
+        return new ListCommandInput(Arrays.asList(arguments));
+    }
+
+    /**
+     * Creates an input from arguments that were already split by the platform.
+     *
+     * @param arguments The split arguments, not copied.
+     * @return A new {@link CommandInput}.
+     */
+    @Contract("_ -> new")
+    static @NotNull CommandInput of(final @NotNull List<String> arguments) {
+        return new ListCommandInput(arguments);
+    }
+
+    /**
+     * Adapts a {@link Deque}, reading from it pops the deque as well.
+     *
+     * @param arguments The split arguments.
+     * @return A new {@link CommandInput}.
+     */
+    @Contract("_ -> new")
+    static @NotNull CommandInput of(final @NotNull Deque<String> arguments) {
+        return new DequeCommandInput(arguments);
+    }
+
+    /**
+     * @return Whether there is at least one more token, which may be empty.
+     */
+    boolean hasNext();
+
+    /**
+     * @return The next token without consuming it, or null if there is none.
+     */
+    @Nullable String peek();
+
+    /**
+     * Consumes the next token.
+     *
+     * @return The next token.
+     * @throws NoSuchElementException If there are no more tokens.
+     */
+    @NotNull String read();
+
+    /**
+     * Consumes the rest of the input.
+     *
+     * @return The remaining tokens separated by a space, or an empty string if there is none.
+     */
+    @NotNull String readRemaining();
+
+    /**
+     * Consumes all remaining tokens.
+     *
+     * @return A read only list with the remaining tokens, which may be a view of the original input.
+     */
+    @NotNull List<String> readTokens();
+
+    /**
+     * @return The amount of tokens left.
+     */
+    int remaining();
+
+    /**
+     * Consumes a quoted string, for example {@code "hello world"}, or a single token if it doesn't start with a quote.
+     * Quotes inside the string can be escaped with a backslash.
+     * A quote that is never closed takes the rest of the input.
+     *
+     * @return The unquoted string.
+     * @throws NoSuchElementException If there are no more tokens.
+     */
+    default @NotNull String readQuoted() {
+        final String first = read();
+        if (first.isEmpty() || first.charAt(0) != '"') return first;
+
+        final StringBuilder builder = new StringBuilder();
+        String token = first.substring(1);
+        while (true) {
+            if (QuotedStrings.appendUntilQuote(builder, token, 0)) return builder.toString();
+            if (!hasNext()) return builder.toString();
+
+            builder.append(' ');
+            token = read();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.command;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable snapshot of a parent's commands.
+ * Holds the registered names and aliases, and a lookup table compiled from them.
+ * The table uses open addressing with linear probing so a lookup is a single hash and at most a few probes,
+ * names always take priority over aliases.
+ * When case-insensitive, keys are stored lower case and the input is folded while hashing and comparing,
+ * so no new strings are created per lookup.
+ * The default and argument commands can't be looked up by name, so they are kept separately.
+ * The other names are also kept sorted, so the ones starting with what's being typed are found by binary search.
+ *
+ * @param <C> The command type.
+ */
+final class CommandTable<C> {
+
+    private final Map<String, C> commands;
+    private final Map<String, C> aliases;
+    private final C defaultCommand;
+    private final C argumentCommand;
+
+    private final String[] keys;
+    private final int[] hashes;
+    private final Object[] values;
+    private final int mask;
+    private final boolean caseInsensitive;
+
+    private final String[] sortedNames;
+    private final Object[] sortedCommands;
+
+    private CommandTable(
+            final @NotNull Map<String, C> commands,
+            final @NotNull Map<String, C> aliases,
+            final int capacity,
+            final boolean caseInsensitive
+    ) {
+        this.commands = Collections.unmodifiableMap(commands);
+        this.aliases = Collections.unmodifiableMap(aliases);
+        this.defaultCommand = commands.get(InternalCommand.DEFAULT_CMD_NAME);
+        this.argumentCommand = commands.get(InternalCommand.PARENT_CMD_WITH_ARGS_NAME);
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.caseInsensitive = caseInsensitive;
+
+        final List<String> names = new ArrayList<>(commands.keySet());
+        names.remove(InternalCommand.DEFAULT_CMD_NAME);
+        names.remove(InternalCommand.PARENT_CMD_WITH_ARGS_NAME);
+        Collections.sort(names);
+
+        this.sortedNames = names.toArray(new String[0]);
+        this.sortedCommands = new Object[sortedNames.length];
+        for (int i = 0; i < sortedNames.length; i++) {
+            sortedCommands[i] = commands.get(sortedNames[i]);
+        }
+    }
+
+    /**
+     * Compiles the names and aliases into a table.
+     *
+     * @param commands        The commands by name, these take priority, the map is owned by the table from now on.
+     * @param aliases         The commands by alias, the map is owned by the table from now on.
+     * @param caseInsensitive Whether the lookup should ignore casing.
+     * @param <C>             The command type.
+     * @return The new table.
+     */
+    static <C> @NotNull CommandTable<C> of(
+            final @NotNull Map<String, C> commands,
+            final @NotNull Map<String, C> aliases,
+            final boolean caseInsensitive
+    ) {
+        final int size = commands.size() + aliases.size();
+
+        // Keep the load factor at or below 0.5 so probe chains stay short
+        int capacity = 2;
+        while (capacity < size * 2) capacity <<= 1;
+
+        final CommandTable<C> table = new CommandTable<>(commands, aliases, capacity, caseInsensitive);
+        commands.forEach(table::insert);
+        aliases.forEach(table::insert);
+        return table;
+    }
+
+    /**
+     * @return The commands by name, including the default and argument commands.
+     */
+    @NotNull Map<String, C> getCommands() {
+        return commands;
+    }
+
+    /**
+     * @return The commands by alias.
+     */
+    @NotNull Map<String, C> getAliases() {
+        return aliases;
+    }
+
+    @Nullable C getDefaultCommand() {
+        return defaultCommand;
+    }
+
+    @Nullable C getArgumentCommand() {
+        return argumentCommand;
+    }
+
+    /**
+     * Looks up a command by its name or one of its aliases.
+     *
+     * @param key The name typed by the user.
+     * @return The command or null if none matches.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable C get(final @NotNull String key) {
+        final int hash = hash(key);
+        int index = hash & mask;
+
+        String current;
+        while ((current = keys[index]) != null) {
+            if (hashes[index] == hash && matches(current, key)) return (C) values[index];
+            index = (index + 1) & mask;
+        }
+
+        return null;
+    }
+
+    /**
+     * Goes through the commands whose name starts with the given prefix, in order of their names.
+     * Aliases, the default and the argument commands are left out, since they're never suggested.
+     *
+     * @param prefix   What the user is typing.
+     * @param consumer Called with the name and command of each match.
+     */
+    @SuppressWarnings("unchecked")
+    void forEachStartingWith(final @NotNull String prefix, final @NotNull BiConsumer<String, C> consumer) {
+        // First name that isn't lower than the prefix, the ones starting with it all come right after
+        int low = 0;
+        int high = sortedNames.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sortedNames[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        for (int i = low; i < sortedNames.length && sortedNames[i].startsWith(prefix); i++) {
+            consumer.accept(sortedNames[i], (C) sortedCommands[i]);
+        }
+    }
+
+    private void insert(final @NotNull String key, final @NotNull C value) {
+        if (InternalCommand.DEFAULT_CMD_NAME.equals(key) || InternalCommand.PARENT_CMD_WITH_ARGS_NAME.equals(key)) return;
+
+        final String stored = caseInsensitive ? fold(key) : key;
+        final int hash = hash(stored);
+        int index = hash & mask;
+
+        String current;
+        while ((current = keys[index]) != null) {
+            // First one in wins, so names shadow aliases
+            if (hashes[index] == hash && current.equals(stored)) return;
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = stored;
+        hashes[index] = hash;
+        values[index] = value;
+    }
+
+    private int hash(final @NotNull String key) {
+        int hash = 0;
+        for (int i = 0; i < key.length(); i++) {
+            final char character = key.charAt(i);
+            hash = 31 * hash + (caseInsensitive ? Character.toLowerCase(character) : character);
+        }
+
+        // Spread the higher bits since the mask only keeps the lower ones
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean matches(final @NotNull String stored, final @NotNull String key) {
+        if (!caseInsensitive) return stored.equals(key);
+        if (stored.length() != key.length()) return false;
+
+        for (int i = 0; i < key.length(); i++) {
+            if (stored.charAt(i) != Character.toLowerCase(key.charAt(i))) return false;
+        }
+
+        return true;
+    }
+
+    private static @NotNull String fold(final @NotNull String key) {
+        final StringBuilder builder = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            builder.append(Character.toLowerCase(key.charAt(i)));
+        }
+
+        return builder.toString();
+    }
+}
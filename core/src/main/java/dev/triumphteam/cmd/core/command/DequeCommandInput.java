@@ -0,0 +1,86 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.command;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link CommandInput} adapter for the {@link Deque} based API, reading pops the underlying deque.
+ */
+final class DequeCommandInput implements CommandInput {
+
+    private final Deque<String> arguments;
+
+    DequeCommandInput(final @NotNull Deque<String> arguments) {
+        this.arguments = arguments;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !arguments.isEmpty();
+    }
+
+    @Override
+    public @Nullable String peek() {
+        return arguments.peek();
+    }
+
+    @Override
+    public @NotNull String read() {
+        if (arguments.isEmpty()) throw new NoSuchElementException("No more input to read");
+        return arguments.pop();
+    }
+
+    @Override
+    public @NotNull String readRemaining() {
+        final String remaining = String.join(" ", arguments);
+        arguments.clear();
+        return remaining;
+    }
+
+    @Override
+    public @NotNull List<String> readTokens() {
+        final List<String> tokens = new ArrayList<>(arguments);
+        arguments.clear();
+        return tokens;
+    }
+
+    @Override
+    public int remaining() {
+        return arguments.size();
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "DequeCommandInput{" +
+                "arguments=" + arguments +
+                '}';
+    }
+}
@@ -28,6 +28,8 @@ import dev.triumphteam.cmd.core.argument.StringInternalArgument;
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
 import dev.triumphteam.cmd.core.extension.InternalArgumentResult;
 import dev.triumphteam.cmd.core.extension.meta.MetaKey;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.invoker.ConstructorInvoker;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.processor.BranchCommandProcessor;
 import dev.triumphteam.cmd.core.processor.CommandProcessor;
@@ -35,11 +37,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -57,11 +57,13 @@ public class InternalBranchCommand<D, S, ST> extends InternalParentCommand<D, S,
     private final String syntax;
 
     private final Object invocationInstance;
-    private final Constructor<?> constructor;
+    private final ConstructorInvoker constructor;
     private final boolean isStatic;
     private final StringInternalArgument<S, ST> argument;
     private final boolean hasArgument;
 
+    private final String argumentPath;
+
     public InternalBranchCommand(
             final @NotNull Object invocationInstance,
             final @NotNull Constructor<?> constructor,
@@ -70,10 +72,10 @@ public class InternalBranchCommand<D, S, ST> extends InternalParentCommand<D, S,
             final @NotNull BranchCommandProcessor<D, S, ST> processor,
             final @NotNull InternalCommand<D, S, ST> parentCommand
     ) {
-        super(processor);
+        super(processor, parentCommand.getPath() + " " + processor.getName());
 
         this.invocationInstance = invocationInstance;
-        this.constructor = constructor;
+        this.constructor = ConstructorInvoker.of(constructor);
         this.isStatic = isStatic;
         this.argument = argument;
         this.hasArgument = argument != null;
@@ -82,12 +84,14 @@ public class InternalBranchCommand<D, S, ST> extends InternalParentCommand<D, S,
         this.description = getMeta().getOrDefault(MetaKey.DESCRIPTION, "");
         this.aliases = processor.getAliases();
         this.syntax = createSyntax(parentCommand, processor);
+
+        this.argumentPath = hasArgument ? getPath() + " <" + argument.getName() + ">" : getPath();
     }
 
     public void execute(
             final @NotNull S sender,
             final @Nullable Supplier<Object> instanceSupplier,
-            final @NotNull Deque<String> arguments
+            final @NotNull CommandInput input
     ) throws Throwable {
         // Test all requirements before continuing.
         if (!getSettings().testRequirements(getMessageRegistry(), sender, getMeta(), getSenderExtension())) return;
@@ -95,11 +99,22 @@ public class InternalBranchCommand<D, S, ST> extends InternalParentCommand<D, S,
         // First, we handle the argument if there is any.
         final Object instance;
         if (hasArgument) {
-            final String argumentName = arguments.peek() == null ? "" : arguments.pop();
+            final String argumentName = input.hasNext() ? input.read() : "";
 
+            final boolean metered = getMetrics().isEnabled();
+            final long start = metered ? System.nanoTime() : 0L;
             final @NotNull InternalArgumentResult result =
                     argument.resolve(sender, new ArgumentInput(argumentName));
 
+            if (metered) {
+                getMetrics().record(
+                        CommandMetrics.Stage.ARGUMENT,
+                        argumentPath,
+                        System.nanoTime() - start,
+                        result instanceof InternalArgumentResult.Invalid ? MessageKey.INVALID_ARGUMENT : null
+                );
+            }
+
             if (result instanceof InternalArgumentResult.Invalid) {
                 getMessageRegistry().sendMessage(
                         MessageKey.INVALID_ARGUMENT,
@@ -121,19 +136,45 @@ public class InternalBranchCommand<D, S, ST> extends InternalParentCommand<D, S,
         }
 
         // Execute the command with the given instance.
-        findAndExecute(sender, () -> instance, arguments);
+        findAndExecute(sender, () -> instance, input);
     }
 
     @Override
-    public @NotNull List<ST> suggestions(@NotNull final S sender, final @NotNull Deque<String> arguments) {
+    public @NotNull List<ST> suggestions(@NotNull final S sender, final @NotNull CommandInput input) {
         // If we're dealing with only 1 argument, it means it's the argument suggestion
-        if (arguments.size() == 1 && hasArgument) {
-            return argument.suggestions(sender, arguments.peekLast(), new ArrayList<>(arguments), Collections.emptyMap());
+        if (hasArgument && input.remaining() == 1) {
+            final List<String> arguments = input.readTokens();
+            if (!getMetrics().isEnabled()) return argument.suggestions(sender, arguments.get(0), arguments, Collections.emptyMap());
+
+            final long start = System.nanoTime();
+            final List<ST> suggestions = argument.suggestions(sender, arguments.get(0), arguments, Collections.emptyMap());
+            getMetrics().recordSuggestion(argumentPath, arguments.get(0).length(), suggestions.size(), System.nanoTime() - start);
+            return suggestions;
         }
 
         // If we do have arguments, we need to pop them out before continuing
-        if (hasArgument) arguments.pop();
-        return super.suggestions(sender, arguments);
+        if (hasArgument) input.read();
+        return super.suggestions(sender, input);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<ST>> suggestionsAsync(final @NotNull S sender, final @NotNull CommandInput input) {
+        // If we're dealing with only 1 argument, it means it's the argument suggestion
+        if (hasArgument && input.remaining() == 1) {
+            final List<String> arguments = input.readTokens();
+            if (!getMetrics().isEnabled()) return argument.suggestionsAsync(sender, arguments.get(0), arguments, Collections.emptyMap());
+
+            final long start = System.nanoTime();
+            return argument.suggestionsAsync(sender, arguments.get(0), arguments, Collections.emptyMap()).whenComplete((suggestions, throwable) -> {
+                if (suggestions != null) {
+                    getMetrics().recordSuggestion(argumentPath, arguments.get(0).length(), suggestions.size(), System.nanoTime() - start);
+                }
+            });
+        }
+
+        // If we do have arguments, we need to pop them out before continuing
+        if (hasArgument) input.read();
+        return super.suggestionsAsync(sender, input);
     }
 
     /**
@@ -150,9 +191,12 @@ public class InternalBranchCommand<D, S, ST> extends InternalParentCommand<D, S,
             }
 
             return constructor.newInstance();
-        } catch (final InvocationTargetException | InstantiationException | IllegalAccessException exception) {
+        } catch (final Error error) {
+            // Not a failure of the command, like running out of memory, so it isn't wrapped
+            throw error;
+        } catch (final Throwable exception) {
             throw new CommandExecutionException("An error occurred while creating the command instance")
-                    .initCause(exception instanceof InvocationTargetException ? exception.getCause() : exception);
+                    .initCause(exception);
         }
     }
 
@@ -166,7 +210,7 @@ public class InternalBranchCommand<D, S, ST> extends InternalParentCommand<D, S,
     private @NotNull Object createInstanceWithArgument(
             final @Nullable Supplier<Object> instanceSupplier,
             final @Nullable Object argumentValue
-    ) throws InvocationTargetException, InstantiationException, IllegalAccessException {
+    ) throws Throwable {
         // Non-static classes required parent instance
         if (!isStatic) {
             return constructor.newInstance(instanceSupplier == null ? invocationInstance : instanceSupplier.get(), argumentValue);
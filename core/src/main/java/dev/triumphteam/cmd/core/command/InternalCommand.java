@@ -47,6 +47,13 @@ public interface InternalCommand<D, S, ST> extends CommandMetaContainer {
      */
     @NotNull String getName();
 
+    /**
+     * @return The names from the root command down to this command, separated by spaces, only the name by default.
+     */
+    default @NotNull String getPath() {
+        return getName();
+    }
+
     /**
      * @return The command's description.
      */
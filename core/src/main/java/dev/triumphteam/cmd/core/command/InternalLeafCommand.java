@@ -23,7 +23,9 @@
  */
 package dev.triumphteam.cmd.core.command;
 
+import dev.triumphteam.cmd.core.annotations.Async;
 import dev.triumphteam.cmd.core.annotations.Syntax;
+import dev.triumphteam.cmd.core.argument.AsyncResolverInternalArgument;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.argument.LimitlessInternalArgument;
 import dev.triumphteam.cmd.core.argument.StringInternalArgument;
@@ -32,11 +34,14 @@ import dev.triumphteam.cmd.core.extension.CommandOptions;
 import dev.triumphteam.cmd.core.extension.InternalArgumentResult;
 import dev.triumphteam.cmd.core.extension.ValidationResult;
 import dev.triumphteam.cmd.core.extension.command.CommandExecutor;
+import dev.triumphteam.cmd.core.extension.command.ExecutionScheduler;
 import dev.triumphteam.cmd.core.extension.command.Settings;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.meta.MetaKey;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
 import dev.triumphteam.cmd.core.extension.registry.MessageRegistry;
 import dev.triumphteam.cmd.core.extension.sender.SenderExtension;
+import dev.triumphteam.cmd.core.invoker.MethodInvoker;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.context.MessageContext;
 import dev.triumphteam.cmd.core.message.context.SyntaxMessageContext;
@@ -46,12 +51,12 @@ import dev.triumphteam.cmd.core.util.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -60,26 +65,40 @@ import static java.util.Collections.emptyList;
 @SuppressWarnings("unchecked")
 public class InternalLeafCommand<D, S, ST> implements InternalCommand<D, S, ST> {
 
+    private static final ArgumentInput[] NO_INPUTS = new ArgumentInput[0];
+    // Start of an execution that isn't measured, the metrics are only checked once when it starts
+    private static final long NOT_METERED = Long.MIN_VALUE;
+
     private final Class<? extends S> senderType;
 
     private final List<InternalArgument<S, ST>> argumentList;
     private final Map<String, InternalArgument<S, ST>> argumentMap;
 
     private final String name;
+    private final String path;
     private final List<String> aliases;
     private final String description;
     private final String syntax;
     private final boolean containsLimitless;
+    private final boolean containsAsync;
 
     private final CommandMeta meta;
     private final Settings<D, S> settings;
 
     private final Object invocationInstance;
-    private final Method method;
+    private final MethodInvoker invoker;
     private final CommandExecutor<S> commandExecutor;
 
+    private final boolean async;
+    private final ExecutionScheduler executionScheduler;
+
+    private final CommandMetrics metrics;
+    private final String[] argumentPaths;
+    private final String[] argumentNames;
+
     private final SenderExtension<D, S> senderExtension;
     private final MessageRegistry<S> messageRegistry;
+    private final MessageRegistry<S> syncMessageRegistry;
 
     public InternalLeafCommand(
             final @NotNull Object invocationInstance,
@@ -93,8 +112,9 @@ public class InternalLeafCommand<D, S, ST> implements InternalCommand<D, S, ST>
         this.meta = processor.createMeta(settingsBuilder);
 
         this.invocationInstance = invocationInstance;
-        this.method = method;
+        this.invoker = MethodInvoker.of(method);
         this.name = processor.getName();
+        this.path = parentCommand.getPath() + " " + name;
         this.aliases = processor.getAliases();
         this.description = meta.getOrDefault(MetaKey.DESCRIPTION, "");
 
@@ -105,6 +125,7 @@ public class InternalLeafCommand<D, S, ST> implements InternalCommand<D, S, ST>
                 .collect(Collectors.toMap(Pair::first, Pair::second));
 
         this.containsLimitless = argumentList.stream().anyMatch(LimitlessInternalArgument.class::isInstance);
+        this.containsAsync = argumentList.stream().anyMatch(AsyncResolverInternalArgument.class::isInstance);
 
         final CommandOptions<?, ?, D, S, ST> commandOptions = processor.getCommandOptions();
 
@@ -112,43 +133,187 @@ public class InternalLeafCommand<D, S, ST> implements InternalCommand<D, S, ST>
         this.senderExtension = commandOptions.getCommandExtensions().getSenderExtension();
         this.commandExecutor = commandOptions.getCommandExtensions().getCommandExecutor();
 
+        this.async = meta.isPresent(Async.META_KEY);
+        this.executionScheduler = commandOptions.getCommandExtensions().getExecutionScheduler();
+        this.syncMessageRegistry = messageRegistry.dispatchingTo(executionScheduler::sync);
+
         this.syntax = createSyntax(parentCommand, processor);
 
-        this.settings = settingsBuilder.build();
+        this.metrics = commandOptions.getCommandExtensions().getCommandMetrics();
+        this.argumentPaths = argumentList.stream()
+                .map(argument -> path + " <" + argument.getName() + ">")
+                .toArray(String[]::new);
+        this.argumentNames = argumentList.stream().map(InternalArgument::getName).toArray(String[]::new);
+
+        this.settings = settingsBuilder.setMetrics(metrics, path).build();
+    }
+
+    /**
+     * Executes the command with the raw arguments typed by the sender.
+     * The arguments are bound by position, without building a map of the inputs.
+     *
+     * @param sender           The sender of the command.
+     * @param instanceSupplier The instance supplier from parents.
+     * @param input            The input left after the command name.
+     */
+    public void execute(
+            final @NotNull S sender,
+            final @Nullable Supplier<Object> instanceSupplier,
+            final @NotNull CommandInput input
+    ) throws Throwable {
+        final long start = metrics.isEnabled() ? System.nanoTime() : NOT_METERED;
+        if (!canExecute(sender, start)) return;
+
+        final ArgumentInput[] inputs = argumentList.isEmpty() ? NO_INPUTS : new ArgumentInput[argumentList.size()];
+        final int size = bindArguments(input, inputs);
+
+        execute(sender, instanceSupplier, inputs, size, start);
     }
 
+    /**
+     * Executes the command with arguments already keyed by their names.
+     * Used by platforms that deliver named options, like slash commands.
+     *
+     * @param sender           The sender of the command.
+     * @param instanceSupplier The instance supplier from parents.
+     * @param arguments        The arguments keyed by their names.
+     */
     public void execute(
             final @NotNull S sender,
             final @Nullable Supplier<Object> instanceSupplier,
             final @NotNull Map<String, ArgumentInput> arguments
     ) throws Throwable {
+        final long start = metrics.isEnabled() ? System.nanoTime() : NOT_METERED;
+        if (!canExecute(sender, start)) return;
+
+        final ArgumentInput[] inputs = argumentList.isEmpty() ? NO_INPUTS : new ArgumentInput[argumentList.size()];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = arguments.get(argumentList.get(i).getName());
+        }
+
+        execute(sender, instanceSupplier, inputs, arguments.size(), start);
+    }
+
+    /**
+     * Validates the sender and tests the requirements, sending the messages when either fails.
+     *
+     * @param sender The sender of the command.
+     * @param start  When the execution started, for the metrics.
+     * @return Whether the execution should continue.
+     */
+    private boolean canExecute(final @NotNull S sender, final long start) {
         final ValidationResult<MessageKey<MessageContext>> validationResult = senderExtension.validate(meta, senderType, sender);
 
         // If the result is invalid for a reason given by the validator, we stop the execution and use its key to send
         // a message to the sender
         if (validationResult instanceof ValidationResult.Invalid) {
-            messageRegistry.sendMessage(
-                    ((ValidationResult.Invalid<MessageKey<MessageContext>>) validationResult).getMessage(),
-                    sender,
-                    new SyntaxMessageContext(meta, syntax)
-            );
+            final MessageKey<MessageContext> key = ((ValidationResult.Invalid<MessageKey<MessageContext>>) validationResult).getMessage();
+            if (start != NOT_METERED) recordExecution(sender, start, key);
+
+            messageRegistry.sendMessage(key, sender, new SyntaxMessageContext(meta, syntax));
+            return false;
+        }
+
+        // Testing if all requirements pass before we continue, denials are recorded by the settings
+        return settings.testRequirements(messageRegistry, sender, meta, senderExtension);
+    }
+
+    /**
+     * Checks the amount of inputs and then resolves them and invokes the command,
+     * on the {@link ExecutionScheduler} if the command is {@link Async}.
+     *
+     * @param sender           The sender of the command.
+     * @param instanceSupplier The instance supplier from parents.
+     * @param arguments        The inputs, indexed the same as the argument list, null when not given.
+     * @param size             The amount of inputs given by the sender, including the ones past the argument list.
+     * @param start            When the execution started, for the metrics.
+     */
+    private void execute(
+            final @NotNull S sender,
+            final @Nullable Supplier<Object> instanceSupplier,
+            final @Nullable ArgumentInput @NotNull [] arguments,
+            final int size,
+            final long start
+    ) throws Throwable {
+        if ((!containsLimitless) && size > argumentList.size()) {
+            if (start != NOT_METERED) recordExecution(sender, start, MessageKey.TOO_MANY_ARGUMENTS);
+            messageRegistry.sendMessage(MessageKey.TOO_MANY_ARGUMENTS, sender, new SyntaxMessageContext(meta, syntax));
             return;
         }
 
-        // Testing if all requirements pass before we continue
-        if (!settings.testRequirements(messageRegistry, sender, meta, senderExtension)) return;
+        if (!async) {
+            resolveAndInvoke(sender, instanceSupplier, arguments, messageRegistry, start);
+            return;
+        }
 
-        // Creates the invoking arguments list
-        final List<Object> invokeArguments = new ArrayList<>();
-        invokeArguments.add(sender);
+        // Only what's left runs off the caller's thread, messages and failures are sent back through the scheduler
+        executionScheduler.async(() -> {
+            try {
+                resolveAndInvoke(sender, instanceSupplier, arguments, syncMessageRegistry, start);
+            } catch (final @NotNull Throwable exception) {
+                rethrowOnPlatform(exception);
+            }
+        });
+    }
 
-        if ((!containsLimitless) && arguments.size() > argumentList.size()) {
-            messageRegistry.sendMessage(MessageKey.TOO_MANY_ARGUMENTS, sender, new SyntaxMessageContext(meta, syntax));
+    /**
+     * Resolves the arguments and invokes the command.
+     * If the command has asynchronous arguments, they are resolved after all the others are valid,
+     * and the command is only invoked once they complete, see {@link #awaitArguments}.
+     *
+     * @param sender           The sender of the command.
+     * @param instanceSupplier The instance supplier from parents.
+     * @param arguments        The inputs, indexed the same as the argument list, null when not given.
+     * @param messages         The registry to send the messages through.
+     * @param start            When the execution started, for the metrics.
+     */
+    private void resolveAndInvoke(
+            final @NotNull S sender,
+            final @Nullable Supplier<Object> instanceSupplier,
+            final @Nullable ArgumentInput @NotNull [] arguments,
+            final @NotNull MessageRegistry<S> messages,
+            final long start
+    ) throws Throwable {
+        // Creates the invoking arguments, the sender always comes first
+        final Object[] invokeArguments = new Object[argumentList.size() + 1];
+        invokeArguments[0] = sender;
+
+        final ArgumentInput[] asyncInputs = containsAsync ? new ArgumentInput[argumentList.size()] : null;
+        final MessageKey<?> failure = resolveArguments(sender, arguments, invokeArguments, asyncInputs, messages, start != NOT_METERED);
+
+        if (failure == null && asyncInputs != null) {
+            awaitArguments(sender, instanceSupplier, invokeArguments, asyncInputs, start);
             return;
         }
 
-        for (final InternalArgument<S, ST> internalArgument : argumentList) {
-            final ArgumentInput argumentInput = arguments.get(internalArgument.getName());
+        if (failure == null) invoke(sender, instanceSupplier, invokeArguments, messages);
+        if (start != NOT_METERED) recordExecution(sender, start, failure);
+    }
+
+    /**
+     * Resolves the arguments into the invoking arguments.
+     * Asynchronous arguments are not resolved, their usable input is collected instead.
+     *
+     * @param sender          The sender of the command.
+     * @param arguments       The inputs, indexed the same as the argument list, null when not given.
+     * @param invokeArguments The arguments to invoke the command with, the sender being the first.
+     * @param asyncInputs     Where the inputs of asynchronous arguments are collected, null if the command has none.
+     * @param messages        The registry to send the messages through.
+     * @param metered         Whether the execution is measured.
+     * @return The key of the message sent if the arguments failed, null if they are valid.
+     */
+    private @Nullable MessageKey<?> resolveArguments(
+            final @NotNull S sender,
+            final @Nullable ArgumentInput @NotNull [] arguments,
+            final @Nullable Object @NotNull [] invokeArguments,
+            final @Nullable ArgumentInput @Nullable [] asyncInputs,
+            final @NotNull MessageRegistry<S> messages,
+            final boolean metered
+    ) {
+        for (int i = 0; i < argumentList.size(); i++) {
+            final InternalArgument<S, ST> internalArgument = argumentList.get(i);
+            final ArgumentInput argumentInput = arguments[i];
+            final long argumentStart = metered ? System.nanoTime() : 0L;
 
             final InternalArgumentResult result;
             if (internalArgument instanceof LimitlessInternalArgument) {
@@ -166,70 +331,255 @@ public class InternalLeafCommand<D, S, ST> implements InternalCommand<D, S, ST>
 
                         // If nothing is provided, we just add null and move on.
                         if (defaultValue == null) {
-                            invokeArguments.add(null);
+                            invokeArguments[i + 1] = null;
                             continue;
                         }
 
                         // If not null, we provide the default as input.
                         usableInput = new ArgumentInput(defaultValue);
                     } else {
-                        messageRegistry.sendMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, sender, new SyntaxMessageContext(meta, syntax));
-                        return;
+                        messages.sendMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, sender, new SyntaxMessageContext(meta, syntax));
+                        return MessageKey.NOT_ENOUGH_ARGUMENTS;
                     }
                 }
+
+                // Resolved later, together with the other asynchronous arguments
+                if (asyncInputs != null && internalArgument instanceof AsyncResolverInternalArgument) {
+                    asyncInputs[i] = usableInput;
+                    continue;
+                }
+
                 result = stringArgument.resolve(sender, usableInput);
             } else {
                 // Should never happen, this should be a sealed type ... but hey, it's Java 8
                 throw new CommandExecutionException("Found unsupported argument", "", name);
             }
 
+            if (metered) {
+                metrics.record(
+                        CommandMetrics.Stage.ARGUMENT,
+                        argumentPaths[i],
+                        System.nanoTime() - argumentStart,
+                        result instanceof InternalArgumentResult.Invalid ? MessageKey.INVALID_ARGUMENT : null
+                );
+            }
+
             // In case of failure, we send the Sender a message.
             if (result instanceof InternalArgumentResult.Invalid) {
-                messageRegistry.sendMessage(
+                messages.sendMessage(
                         MessageKey.INVALID_ARGUMENT,
                         sender,
                         ((InternalArgumentResult.Invalid) result).getFail().apply(meta, syntax)
                 );
-                return;
+                return MessageKey.INVALID_ARGUMENT;
             }
 
             // In case of success, we add the results.
             if (result instanceof InternalArgumentResult.Valid) {
-                invokeArguments.add(((InternalArgumentResult.Valid) result).getValue());
+                invokeArguments[i + 1] = ((InternalArgumentResult.Valid) result).getValue();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves the asynchronous arguments concurrently, and invokes the command once all of them complete.
+     * If they are already complete the command is invoked right away on the current thread,
+     * otherwise it's handed to the {@link ExecutionScheduler}, never running on the thread that completed the arguments.
+     *
+     * @param sender           The sender of the command.
+     * @param instanceSupplier The instance supplier from parents.
+     * @param invokeArguments  The arguments to invoke the command with, missing the asynchronous ones.
+     * @param asyncInputs      The inputs of the asynchronous arguments, null for the others.
+     * @param start            When the execution started, for the metrics.
+     */
+    private void awaitArguments(
+            final @NotNull S sender,
+            final @Nullable Supplier<Object> instanceSupplier,
+            final @Nullable Object @NotNull [] invokeArguments,
+            final @Nullable ArgumentInput @NotNull [] asyncInputs,
+            final long start
+    ) throws Throwable {
+        final boolean metered = start != NOT_METERED;
+        final List<CompletableFuture<InternalArgumentResult>> results = new ArrayList<>(asyncInputs.length);
+        final List<CompletableFuture<InternalArgumentResult>> pending = new ArrayList<>(asyncInputs.length);
+
+        for (int i = 0; i < asyncInputs.length; i++) {
+            final ArgumentInput input = asyncInputs[i];
+            if (input == null) {
+                results.add(null);
+                continue;
+            }
+
+            final long argumentStart = metered ? System.nanoTime() : 0L;
+            final String argumentPath = argumentPaths[i];
+            CompletableFuture<InternalArgumentResult> result = ((AsyncResolverInternalArgument<S, ST>) argumentList.get(i)).resolveAsync(sender, input);
+
+            if (metered) {
+                result = result.whenComplete((resolved, throwable) -> metrics.record(
+                        CommandMetrics.Stage.ARGUMENT,
+                        argumentPath,
+                        System.nanoTime() - argumentStart,
+                        resolved instanceof InternalArgumentResult.Invalid ? MessageKey.INVALID_ARGUMENT : null
+                ));
+            }
+
+            results.add(result);
+            pending.add(result);
+        }
+
+        final MessageRegistry<S> messages = async ? syncMessageRegistry : messageRegistry;
+
+        // The futures never fail, invalid and timed out arguments complete with an invalid result
+        final CompletableFuture<Void> all = CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+
+        // Nothing to wait for, failures reach the caller like any other command
+        if (all.isDone()) {
+            finishExecution(sender, instanceSupplier, invokeArguments, results, messages, start);
+            return;
+        }
+
+        // The completion only hands the command off, so failures aren't swallowed by the future
+        // and the command never runs on the thread that completed the arguments, like the timeout thread
+        all.whenComplete((ignored, throwable) -> executionScheduler.async(() -> {
+            if (async) {
+                try {
+                    finishExecution(sender, instanceSupplier, invokeArguments, results, messages, start);
+                } catch (final @NotNull Throwable exception) {
+                    rethrowOnPlatform(exception);
+                }
+                return;
             }
+
+            executionScheduler.sync(() -> {
+                try {
+                    finishExecution(sender, instanceSupplier, invokeArguments, results, messages, start);
+                } catch (final @NotNull Throwable exception) {
+                    throw executionFailure(exception);
+                }
+            });
+        }));
+    }
+
+    /**
+     * Invokes the command once the asynchronous arguments completed, if they are all valid.
+     *
+     * @param sender           The sender of the command.
+     * @param instanceSupplier The instance supplier from parents.
+     * @param invokeArguments  The arguments to invoke the command with, missing the asynchronous ones.
+     * @param results          The completed results, null for the arguments that aren't asynchronous.
+     * @param messages         The registry to send the messages through.
+     * @param start            When the execution started, for the metrics.
+     */
+    private void finishExecution(
+            final @NotNull S sender,
+            final @Nullable Supplier<Object> instanceSupplier,
+            final @Nullable Object @NotNull [] invokeArguments,
+            final @NotNull List<@Nullable CompletableFuture<InternalArgumentResult>> results,
+            final @NotNull MessageRegistry<S> messages,
+            final long start
+    ) throws Throwable {
+        final MessageKey<?> failure = collectArguments(sender, invokeArguments, results, messages);
+        if (failure == null) invoke(sender, instanceSupplier, invokeArguments, messages);
+        if (start != NOT_METERED) recordExecution(sender, start, failure);
+    }
+
+    /**
+     * Adds the results of the asynchronous arguments to the invoking arguments, in the order of the arguments.
+     *
+     * @param sender          The sender of the command.
+     * @param invokeArguments The arguments to invoke the command with.
+     * @param results         The completed results, null for the arguments that aren't asynchronous.
+     * @param messages        The registry to send the messages through.
+     * @return The key of the message sent if an argument is invalid, null if they are all valid.
+     */
+    private @Nullable MessageKey<?> collectArguments(
+            final @NotNull S sender,
+            final @Nullable Object @NotNull [] invokeArguments,
+            final @NotNull List<@Nullable CompletableFuture<InternalArgumentResult>> results,
+            final @NotNull MessageRegistry<S> messages
+    ) {
+        for (int i = 0; i < results.size(); i++) {
+            final CompletableFuture<InternalArgumentResult> future = results.get(i);
+            if (future == null) continue;
+
+            final InternalArgumentResult result = future.join();
+            if (result instanceof InternalArgumentResult.Invalid) {
+                messages.sendMessage(
+                        MessageKey.INVALID_ARGUMENT,
+                        sender,
+                        ((InternalArgumentResult.Invalid) result).getFail().apply(meta, syntax)
+                );
+                return MessageKey.INVALID_ARGUMENT;
+            }
+
+            invokeArguments[i + 1] = ((InternalArgumentResult.Valid) result).getValue();
         }
 
+        return null;
+    }
+
+    private void invoke(
+            final @NotNull S sender,
+            final @Nullable Supplier<Object> instanceSupplier,
+            final @Nullable Object @NotNull [] invokeArguments,
+            final @NotNull MessageRegistry<S> messages
+    ) throws Throwable {
         commandExecutor.execute(
                 meta,
-                messageRegistry,
+                messages,
                 sender,
                 instanceSupplier == null ? invocationInstance : instanceSupplier.get(),
-                method,
+                invoker,
                 invokeArguments
         );
     }
 
-    public @NotNull Map<String, ArgumentInput> mapArguments(final @NotNull Deque<String> arguments) {
-        final Map<String, ArgumentInput> mappedArguments = new HashMap<>();
+    /**
+     * Throws the failure of a command that ran off the caller's thread back on the platform's thread.
+     *
+     * @param exception The failure.
+     */
+    private void rethrowOnPlatform(final @NotNull Throwable exception) {
+        executionScheduler.sync(() -> {
+            throw executionFailure(exception);
+        });
+    }
+
+    private static @NotNull CommandExecutionException executionFailure(final @NotNull Throwable exception) {
+        return new CommandExecutionException("An error occurred while executing the command")
+                .initCause(exception instanceof InvocationTargetException ? exception.getCause() : exception);
+    }
+
+    private void recordExecution(final @NotNull S sender, final long start, final @Nullable MessageKey<?> failure) {
+        metrics.recordExecution(path, sender.getClass(), System.nanoTime() - start, failure);
+    }
 
+    /**
+     * Binds the raw arguments to the position of the argument they belong to.
+     * Empty inputs are left unbound so they count as not given.
+     *
+     * @param input  The raw input, consumed while binding.
+     * @param inputs The array to bind into, sized from the argument list.
+     * @return The amount of inputs the sender gave.
+     */
+    private int bindArguments(final @NotNull CommandInput input, final @Nullable ArgumentInput @NotNull [] inputs) {
         int index = 0;
-        while (!arguments.isEmpty()) {
-            final String arg = arguments.peek();
+        String arg;
+        while ((arg = input.peek()) != null) {
             final InternalArgument<S, ST> internalArgument = getArgument(index);
 
             if (internalArgument == null || arg.isEmpty()) {
-                mappedArguments.put(String.valueOf(index), new ArgumentInput(arg));
-                arguments.pop(); // Pop before continuing.
-                index++; // increment before continuing.
+                input.read(); // Pop before continuing.
+                index++; // Only counted, surplus and empty inputs are not bound.
                 continue;
             }
 
-            index++; // Increment early so it doesn't need to repeat later.
-
             if (internalArgument instanceof LimitlessInternalArgument) {
-                // Join all leftover arguments.
-                mappedArguments.put(internalArgument.getName(), new ArgumentInput(String.join(" ", arguments)));
-                break;
+                // Take all leftover input as is.
+                inputs[index] = new ArgumentInput(input.readRemaining());
+                return index + 1;
             }
 
             if (!(internalArgument instanceof StringInternalArgument)) {
@@ -237,11 +587,11 @@ public class InternalLeafCommand<D, S, ST> implements InternalCommand<D, S, ST>
                 throw new CommandExecutionException("Found unsupported argument", "", name);
             }
 
-            arguments.pop(); // Pop here so we don't remove the first argument of a "limitless".
-            mappedArguments.put(internalArgument.getName(), new ArgumentInput(arg));
+            input.read(); // Read here so we don't remove the first argument of a "limitless".
+            inputs[index++] = new ArgumentInput(arg);
         }
 
-        return mappedArguments;
+        return index;
     }
 
     public @NotNull List<ST> suggestions(
@@ -254,20 +604,55 @@ public class InternalLeafCommand<D, S, ST> implements InternalCommand<D, S, ST>
         final InternalArgument<S, ST> currentArgument = getArgumentFromIndex(index);
         if (currentArgument == null) return emptyList();
 
-        final Map<String, String> argumentsMap = new HashMap<>();
-        for (int i = 0; i < argumentList.size(); i++) {
-            final InternalArgument<S, ST> argument = argumentList.get(i);
-            if (i < arguments.size()) {
-                argumentsMap.put(argument.getName(), arguments.get(i));
-            }
-        }
+        final Map<String, String> argumentsMap = new SuggestionArguments(argumentNames, arguments);
+        final String current = arguments.get(index);
+        if (!metrics.isEnabled()) return currentArgument.suggestions(sender, current, arguments, argumentsMap);
 
-        if (arguments.isEmpty()) {
-            return currentArgument.suggestions(sender, "", arguments, argumentsMap);
-        }
+        final long start = System.nanoTime();
+        final List<ST> suggestions = currentArgument.suggestions(sender, current, arguments, argumentsMap);
+        recordSuggestion(index, current, suggestions, start);
+        return suggestions;
+    }
 
+    /**
+     * Same as {@link #suggestions(Object, List)} but doesn't block on arguments with asynchronous suggestions.
+     *
+     * @param sender    The sender requesting the suggestions.
+     * @param arguments The arguments typed so far, the last one being the one to suggest.
+     * @return A future completed with the suggestions.
+     */
+    public @NotNull CompletableFuture<List<ST>> suggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull List<String> arguments
+    ) {
+        if (arguments.isEmpty()) return CompletableFuture.completedFuture(emptyList());
+
+        final int index = arguments.size() - 1;
+        final InternalArgument<S, ST> currentArgument = getArgumentFromIndex(index);
+        if (currentArgument == null) return CompletableFuture.completedFuture(emptyList());
+
+        final Map<String, String> argumentsMap = new SuggestionArguments(argumentNames, arguments);
         final String current = arguments.get(index);
-        return currentArgument.suggestions(sender, current, arguments, argumentsMap);
+        if (!metrics.isEnabled()) return currentArgument.suggestionsAsync(sender, current, arguments, argumentsMap);
+
+        final long start = System.nanoTime();
+        return currentArgument.suggestionsAsync(sender, current, arguments, argumentsMap).whenComplete((suggestions, throwable) -> {
+            if (suggestions != null) recordSuggestion(index, current, suggestions, start);
+        });
+    }
+
+    private void recordSuggestion(
+            final int index,
+            final @NotNull String current,
+            final @NotNull List<ST> suggestions,
+            final long start
+    ) {
+        metrics.recordSuggestion(
+                argumentPaths[Math.min(index, argumentPaths.length - 1)],
+                current.length(),
+                suggestions.size(),
+                System.nanoTime() - start
+        );
     }
 
     public @Nullable InternalArgument<S, ST> getArgumentFromIndex(final int index) {
@@ -325,6 +710,11 @@ public class InternalLeafCommand<D, S, ST> implements InternalCommand<D, S, ST>
         return aliases;
     }
 
+    @Override
+    public @NotNull String getPath() {
+        return path;
+    }
+
     @Override
     public @NotNull String getSyntax() {
         return syntax;
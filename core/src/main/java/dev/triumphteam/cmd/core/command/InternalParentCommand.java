@@ -27,11 +27,13 @@ import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.extension.SuggestionMapper;
 import dev.triumphteam.cmd.core.extension.command.Settings;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
 import dev.triumphteam.cmd.core.extension.registry.MessageRegistry;
 import dev.triumphteam.cmd.core.extension.sender.SenderExtension;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.context.InvalidCommandContext;
 import dev.triumphteam.cmd.core.processor.CommandProcessor;
+import dev.triumphteam.cmd.core.util.BoundedCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,8 +42,9 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 
@@ -53,24 +56,43 @@ import static java.util.Collections.emptyList;
  */
 public abstract class InternalParentCommand<D, S, ST> implements InternalCommand<D, S, ST> {
 
-    private final Map<String, InternalCommand<D, S, ST>> commands = new HashMap<>();
-    private final Map<String, InternalCommand<D, S, ST>> commandAliases = new HashMap<>();
+    // Senders whose visible commands are remembered at once, per parent
+    private static final int VISIBILITY_CACHE_SIZE = 512;
+
+    private final boolean caseInsensitive;
+    private final String path;
     private final CommandMeta meta;
     private final Settings<D, S> settings;
     private final MessageRegistry<S> messageRegistry;
     private final SenderExtension<D, S> senderExtension;
     private final SuggestionMapper<ST> suggestionMapper;
+    private final CommandMetrics metrics;
+
+    private final long visibilityCacheNanos;
+    private final @Nullable BoundedCache<Object, Visibility> visibilityCache;
+    private volatile long lastVisibilityPurge;
+
+    // Replaced as a whole on registration, so readers never lock and never see a half registered command
+    private volatile CommandTable<InternalCommand<D, S, ST>> commandTable;
+
+    public InternalParentCommand(final @NotNull CommandProcessor<D, S, ST> processor, final @NotNull String path) {
+        this.path = path;
+        this.metrics = processor.getCommandOptions().getCommandExtensions().getCommandMetrics();
 
-    public InternalParentCommand(final @NotNull CommandProcessor<D, S, ST> processor) {
-        final Settings.Builder<D, S> settingsBuilder = new Settings.Builder<>();
+        final Settings.Builder<D, S> settingsBuilder = new Settings.Builder<D, S>().setMetrics(metrics, path);
         processor.captureRequirements(settingsBuilder);
         this.meta = processor.createMeta(settingsBuilder);
 
         this.messageRegistry = processor.getRegistryContainer().getMessageRegistry();
         this.senderExtension = processor.getCommandOptions().getCommandExtensions().getSenderExtension();
         this.suggestionMapper = processor.getCommandOptions().getCommandExtensions().getSuggestionMapper();
+        this.caseInsensitive = processor.getCommandOptions().caseInsensitiveCommands();
+        this.visibilityCacheNanos = processor.getCommandOptions().getVisibilityCacheNanos();
+        this.visibilityCache = visibilityCacheNanos > 0 ? new BoundedCache<>(VISIBILITY_CACHE_SIZE) : null;
+        this.lastVisibilityPurge = System.nanoTime();
 
         this.settings = settingsBuilder.build();
+        this.commandTable = CommandTable.of(new HashMap<>(), new HashMap<>(), caseInsensitive);
     }
 
     /**
@@ -79,89 +101,168 @@ public abstract class InternalParentCommand<D, S, ST> implements InternalCommand
      * @param instance The instance of the command the commands came from.
      * @param commands A list of command to be added.
      */
-    public void addCommands(
+    public synchronized void addCommands(
             final @NotNull Object instance,
             final @NotNull List<InternalCommand<D, S, ST>> commands
     ) {
+        // Work on copies so the current table stays untouched until the new one is ready
+        final CommandTable<InternalCommand<D, S, ST>> current = commandTable;
+        final Map<String, InternalCommand<D, S, ST>> names = new HashMap<>(current.getCommands());
+        final Map<String, InternalCommand<D, S, ST>> aliases = new HashMap<>(current.getAliases());
+
         for (final InternalCommand<D, S, ST> command : commands) {
             // If it's a parent command with an argument, we add it
             if (command instanceof InternalBranchCommand && command.hasArguments()) {
-                if (this.commands.containsKey(InternalCommand.PARENT_CMD_WITH_ARGS_NAME)) {
+                if (names.containsKey(InternalCommand.PARENT_CMD_WITH_ARGS_NAME)) {
                     throw new CommandRegistrationException("Only one inner command with argument is allowed per command", instance.getClass());
                 }
             }
 
             // Normal commands are added here
-            this.commands.put(command.getName(), command);
+            names.put(command.getName(), command);
 
             for (final String alias : command.getAliases()) {
-                this.commandAliases.put(alias, command);
+                aliases.put(alias, command);
             }
         }
+
+        // Compiles the names and aliases into a single lookup table and publishes it
+        this.commandTable = CommandTable.of(names, aliases, caseInsensitive);
     }
 
     protected void findAndExecute(
             final @NotNull S sender,
             final @Nullable Supplier<Object> instanceSupplier,
-            final @NotNull Deque<String> arguments
+            final @NotNull CommandInput input
     ) throws Throwable {
-        final InternalCommand<D, S, ST> command = findCommand(sender, arguments, true);
+        final InternalCommand<D, S, ST> command = findCommand(sender, input, true);
         if (command == null) return;
 
         // Executing the command and catch all exceptions to rethrow with a better message
         if (command instanceof InternalBranchCommand) {
-            ((InternalBranchCommand<D, S, ST>) command).execute(sender, instanceSupplier, arguments);
+            ((InternalBranchCommand<D, S, ST>) command).execute(sender, instanceSupplier, input);
             return;
         }
 
         final InternalLeafCommand<D, S, ST> leafCommand = (InternalLeafCommand<D, S, ST>) command;
-        leafCommand.execute(sender, instanceSupplier, leafCommand.mapArguments(arguments));
+        leafCommand.execute(sender, instanceSupplier, input);
     }
 
     public @NotNull List<ST> suggestions(
             final @NotNull S sender,
             final @NotNull Deque<String> arguments
     ) {
-        final String argument = arguments.peek();
+        return suggestions(sender, CommandInput.of(arguments));
+    }
+
+    public @NotNull List<ST> suggestions(
+            final @NotNull S sender,
+            final @NotNull CommandInput input
+    ) {
+        final String argument = input.peek();
         if (argument == null) return emptyList();
 
-        final InternalCommand<D, S, ST> command = findCommand(sender, arguments, false);
-        if (command == null) {
-            return suggestionMapper.map(
-                    commands.entrySet().stream()
-                            // Remove the default command from the list.
-                            .filter(it -> !it.getValue().isDefault())
-                            // Filter commands the sender can't see.
-                            .filter(it -> it.getValue().getCommandSettings().testRequirements(sender, meta, senderExtension))
-                            // Commands that match what the sender is typing.
-                            .filter(it -> it.getKey().startsWith(argument))
-                            // Only use the names.
-                            .map(Map.Entry::getKey)
-                            .collect(Collectors.toList())
-            );
-        }
+        final InternalCommand<D, S, ST> command = findCommand(sender, input, false);
+        if (command == null) return commandSuggestions(sender, argument);
 
         if (command instanceof InternalBranchCommand) {
-            return ((InternalBranchCommand<D, S, ST>) command).suggestions(sender, arguments);
+            return ((InternalBranchCommand<D, S, ST>) command).suggestions(sender, input);
         }
 
         if (!(command instanceof InternalLeafCommand)) {
             return emptyList();
         }
 
-        return ((InternalLeafCommand<D, S, ST>) command).suggestions(sender, new ArrayList<>(arguments));
+        return ((InternalLeafCommand<D, S, ST>) command).suggestions(sender, input.readTokens());
+    }
+
+    /**
+     * Same as {@link #suggestions(Object, CommandInput)} but doesn't block on arguments with asynchronous suggestions.
+     *
+     * @param sender The sender requesting the suggestions.
+     * @param input  The current input of the command.
+     * @return A future completed with the suggestions.
+     */
+    public @NotNull CompletableFuture<List<ST>> suggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull CommandInput input
+    ) {
+        final String argument = input.peek();
+        if (argument == null) return CompletableFuture.completedFuture(emptyList());
+
+        final InternalCommand<D, S, ST> command = findCommand(sender, input, false);
+        if (command == null) return CompletableFuture.completedFuture(commandSuggestions(sender, argument));
+
+        if (command instanceof InternalBranchCommand) {
+            return ((InternalBranchCommand<D, S, ST>) command).suggestionsAsync(sender, input);
+        }
+
+        if (!(command instanceof InternalLeafCommand)) {
+            return CompletableFuture.completedFuture(emptyList());
+        }
+
+        return ((InternalLeafCommand<D, S, ST>) command).suggestionsAsync(sender, input.readTokens());
     }
 
+    private @NotNull List<ST> commandSuggestions(final @NotNull S sender, final @NotNull String argument) {
+        final Visibility visibility = getVisibility(sender);
+        final List<String> names = new ArrayList<>();
+
+        // Only the commands that match what the sender is typing have their requirements tested
+        commandTable.forEachStartingWith(argument, (name, command) -> {
+            if (isVisible(sender, command, visibility)) names.add(name);
+        });
+
+        return suggestionMapper.map(names);
+    }
+
+    private boolean isVisible(
+            final @NotNull S sender,
+            final @NotNull InternalCommand<D, S, ST> command,
+            final @Nullable Visibility visibility
+    ) {
+        if (visibility == null) return command.getCommandSettings().testRequirements(sender, meta, senderExtension);
+        return visibility.commands.computeIfAbsent(command, it -> command.getCommandSettings().testRequirements(sender, meta, senderExtension));
+    }
+
+    private @Nullable Visibility getVisibility(final @NotNull S sender) {
+        if (visibilityCache == null) return null;
+
+        // Keyed by the sender's identity, so senders aren't kept alive and new instances of the same one still hit
+        final Object key = senderExtension.getSenderKey(sender);
+        final long now = System.nanoTime();
+        final Visibility cached = visibilityCache.get(key);
+        if (cached != null && now - cached.createdAt < visibilityCacheNanos) return cached;
+
+        // Expired entries would otherwise stay until evicted, dropped at most once per expiry time
+        if (now - lastVisibilityPurge >= visibilityCacheNanos) {
+            lastVisibilityPurge = now;
+            visibilityCache.removeValuesIf(it -> now - it.createdAt >= visibilityCacheNanos);
+        }
+
+        final Visibility visibility = new Visibility(now);
+        visibilityCache.put(key, visibility);
+        return visibility;
+    }
 
     public @Nullable InternalCommand<D, S, ST> findCommand(
             final @NotNull S sender,
             final @NotNull Deque<String> arguments,
             final boolean sendMessage
     ) {
-        final String name = arguments.peek();
+        return findCommand(sender, CommandInput.of(arguments), sendMessage);
+    }
+
+    public @Nullable InternalCommand<D, S, ST> findCommand(
+            final @NotNull S sender,
+            final @NotNull CommandInput input,
+            final boolean sendMessage
+    ) {
+        final String name = input.peek();
 
-        // Instant check for default
-        final InternalCommand<D, S, ST> defaultCommand = getCommandByName(InternalCommand.DEFAULT_CMD_NAME);
+        // Everything is read from the same table, even if it's replaced in the meantime
+        final CommandTable<InternalCommand<D, S, ST>> commandTable = this.commandTable;
+        final InternalCommand<D, S, ST> defaultCommand = commandTable.getDefaultCommand();
 
         // No argument passed
         if (name == null) {
@@ -174,16 +275,16 @@ public abstract class InternalParentCommand<D, S, ST> implements InternalCommand
             return defaultCommand;
         }
 
-        final InternalCommand<D, S, ST> command = safelyGetCommandByName(name);
+        final InternalCommand<D, S, ST> command = commandTable.get(name);
         if (command != null) {
             // Pop the command out of the argument list and returns it
-            arguments.pop();
+            input.read();
             return command;
         }
 
         if (defaultCommand == null || !defaultCommand.hasArguments()) {
             // No command found with the name [name]
-            final InternalCommand<D, S, ST> parentCommandWithArgument = getCommandByName(InternalCommand.PARENT_CMD_WITH_ARGS_NAME);
+            final InternalCommand<D, S, ST> parentCommandWithArgument = commandTable.getArgumentCommand();
             if (parentCommandWithArgument == null && sendMessage) {
                 messageRegistry.sendMessage(MessageKey.UNKNOWN_COMMAND, sender, new InvalidCommandContext(meta, getSyntax(), name));
             }
@@ -197,7 +298,7 @@ public abstract class InternalParentCommand<D, S, ST> implements InternalCommand
     }
 
     public @Nullable InternalCommand<D, S, ST> getCommand(final @NotNull String name) {
-        return commands.get(name);
+        return commandTable.getCommands().get(name);
     }
 
     @Override
@@ -205,6 +306,11 @@ public abstract class InternalParentCommand<D, S, ST> implements InternalCommand
         return settings;
     }
 
+    @Override
+    public @NotNull String getPath() {
+        return path;
+    }
+
     @Override
     public boolean isDefault() {
         return false;
@@ -215,19 +321,16 @@ public abstract class InternalParentCommand<D, S, ST> implements InternalCommand
         return false;
     }
 
+    /**
+     * @return An immutable snapshot of the commands by name.
+     */
     public @NotNull Map<String, InternalCommand<D, S, ST>> getCommands() {
-        return commands;
+        return commandTable.getCommands();
     }
 
     protected @Nullable InternalCommand<D, S, ST> safelyGetCommandByName(final @NotNull String key) {
-        // Don't let the default command be retrieved by the name.
-        if (key.equals(InternalCommand.DEFAULT_CMD_NAME)) return null;
-        if (key.equals(InternalCommand.PARENT_CMD_WITH_ARGS_NAME)) return null;
-        return getCommandByName(key);
-    }
-
-    protected @Nullable InternalCommand<D, S, ST> getCommandByName(final @NotNull String key) {
-        return commands.getOrDefault(key, commandAliases.get(key));
+        // The default command can't be retrieved by the name, it's not in the table.
+        return commandTable.get(key);
     }
 
     @Override
@@ -246,4 +349,21 @@ public abstract class InternalParentCommand<D, S, ST> implements InternalCommand
     protected @NotNull SenderExtension<D, S> getSenderExtension() {
         return senderExtension;
     }
+
+    protected @NotNull CommandMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Which commands a sender could see, remembered for a short while.
+     */
+    private static final class Visibility {
+
+        private final long createdAt;
+        private final Map<InternalCommand<?, ?, ?>, Boolean> commands = new ConcurrentHashMap<>();
+
+        private Visibility(final long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
 }
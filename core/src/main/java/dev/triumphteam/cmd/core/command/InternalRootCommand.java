@@ -25,8 +25,11 @@ package dev.triumphteam.cmd.core.command;
 
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
 import dev.triumphteam.cmd.core.extension.meta.MetaKey;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.processor.RootCommandProcessor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Deque;
@@ -40,7 +43,7 @@ public class InternalRootCommand<D, S, ST> extends InternalParentCommand<D, S, S
     private final String syntax;
 
     public InternalRootCommand(final @NotNull RootCommandProcessor<D, S, ST> processor) {
-        super(processor);
+        super(processor, processor.getName());
 
         this.name = processor.getName();
         this.description = getMeta().getOrDefault(MetaKey.DESCRIPTION, "");
@@ -48,20 +51,53 @@ public class InternalRootCommand<D, S, ST> extends InternalParentCommand<D, S, S
         this.syntax = "/" + name;
     }
 
+    /**
+     * Executes the command with arguments that were already split.
+     *
+     * @param sender    The sender of the command.
+     * @param arguments The arguments typed after the command name.
+     */
     public void execute(
             final @NotNull S sender,
             final @NotNull Deque<String> arguments
     ) {
+        execute(sender, CommandInput.of(arguments));
+    }
+
+    /**
+     * Executes the command, reading the arguments from the input as they are needed.
+     *
+     * @param sender The sender of the command.
+     * @param input  The input typed after the command name.
+     */
+    public void execute(
+            final @NotNull S sender,
+            final @NotNull CommandInput input
+    ) {
+        final boolean metered = getMetrics().isEnabled();
+        final long start = metered ? System.nanoTime() : 0L;
+
         // Test all requirements before continuing
-        if (!getSettings().testRequirements(getMessageRegistry(), sender, getMeta(), getSenderExtension())) return;
+        if (!getSettings().testRequirements(getMessageRegistry(), sender, getMeta(), getSenderExtension())) {
+            if (metered) recordDispatch(start, CommandMetrics.DENIED);
+            return;
+        }
 
         // Executing the command and catch all exceptions to rethrow with a better message
         try {
-            findAndExecute(sender, null, arguments);
+            findAndExecute(sender, null, input);
         } catch (final @NotNull Throwable exception) {
+            if (metered) recordDispatch(start, CommandMetrics.ERROR);
             throw new CommandExecutionException("An error occurred while executing the command")
                     .initCause(exception instanceof InvocationTargetException ? exception.getCause() : exception);
         }
+
+        // Other failures are recorded by the stages that caused them
+        if (metered) recordDispatch(start, null);
+    }
+
+    private void recordDispatch(final long start, final @Nullable MessageKey<?> failure) {
+        getMetrics().record(CommandMetrics.Stage.DISPATCH, getPath(), System.nanoTime() - start, failure);
     }
 
     @Override
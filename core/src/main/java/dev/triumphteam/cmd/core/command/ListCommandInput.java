@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.command;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link CommandInput} over arguments that were already split, keeping an index into the list instead of copying it.
+ */
+final class ListCommandInput implements CommandInput {
+
+    private final List<String> arguments;
+    private int index = 0;
+
+    ListCommandInput(final @NotNull List<String> arguments) {
+        this.arguments = arguments;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < arguments.size();
+    }
+
+    @Override
+    public @Nullable String peek() {
+        return index < arguments.size() ? arguments.get(index) : null;
+    }
+
+    @Override
+    public @NotNull String read() {
+        if (index >= arguments.size()) throw new NoSuchElementException("No more input to read");
+        return arguments.get(index++);
+    }
+
+    @Override
+    public @NotNull String readRemaining() {
+        final int size = arguments.size();
+        if (index >= size) return "";
+
+        // Most of the time only one is left, no need to join
+        if (index == size - 1) return arguments.get(index++);
+
+        final String remaining = String.join(" ", arguments.subList(index, size));
+        index = size;
+        return remaining;
+    }
+
+    @Override
+    public @NotNull List<String> readTokens() {
+        final int size = arguments.size();
+        if (index >= size) {
+            index = size;
+            return Collections.emptyList();
+        }
+
+        // The input never modifies the list, so a read only view saves copying the tokens
+        final List<String> tokens = Collections.unmodifiableList(index == 0 ? arguments : arguments.subList(index, size));
+        index = size;
+        return tokens;
+    }
+
+    @Override
+    public int remaining() {
+        return Math.max(0, arguments.size() - index);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ListCommandInput{" +
+                "arguments=" + arguments +
+                ", index=" + index +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.command;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shared unquoting for the {@link CommandInput} implementations.
+ */
+final class QuotedStrings {
+
+    private QuotedStrings() {
+        throw new AssertionError("Util must not be initialized");
+    }
+
+    /**
+     * Appends the characters of the text until a closing quote is found, unescaping escaped quotes and backslashes.
+     *
+     * @param builder The builder to append to.
+     * @param text    The text to read from.
+     * @param start   The index to start reading from.
+     * @return Whether the closing quote was found.
+     */
+    static boolean appendUntilQuote(final @NotNull StringBuilder builder, final @NotNull String text, final int start) {
+        return indexAfterQuote(builder, text, start, text.length()) != -1;
+    }
+
+    /**
+     * Appends the characters of the text until a closing quote is found, unescaping escaped quotes and backslashes.
+     *
+     * @param builder The builder to append to.
+     * @param text    The text to read from.
+     * @param start   The index to start reading from.
+     * @param end     The index to stop reading at.
+     * @return The index after the closing quote, or {@code -1} if there is none.
+     */
+    static int indexAfterQuote(final @NotNull StringBuilder builder, final @NotNull String text, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char character = text.charAt(i);
+
+            if (character == '\\' && i + 1 < end) {
+                final char next = text.charAt(i + 1);
+                if (next == '"' || next == '\\') {
+                    builder.append(next);
+                    i++;
+                    continue;
+                }
+            }
+
+            if (character == '"') return i + 1;
+            builder.append(character);
+        }
+
+        return -1;
+    }
+}
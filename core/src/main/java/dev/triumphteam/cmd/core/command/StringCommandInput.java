@@ -0,0 +1,136 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.command;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link CommandInput} that keeps an offset into the original string.
+ * A token is only cut out of the string once it's peeked or read, and the remaining input is a single substring.
+ */
+final class StringCommandInput implements CommandInput {
+
+    private final String input;
+    private final int length;
+
+    // Start of the next token, past the length when there are no more tokens
+    private int position;
+    // Cached token at the position, so peeking and then reading only creates one string
+    private String next;
+
+    StringCommandInput(final @NotNull String input) {
+        this.input = input;
+        this.length = input.length();
+        this.position = input.isEmpty() ? 1 : 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position <= length;
+    }
+
+    @Override
+    public @Nullable String peek() {
+        if (position > length) return null;
+        if (next == null) next = input.substring(position, tokenEnd());
+        return next;
+    }
+
+    @Override
+    public @NotNull String read() {
+        final String token = peek();
+        if (token == null) throw new NoSuchElementException("No more input to read");
+
+        position += token.length() + 1;
+        next = null;
+        return token;
+    }
+
+    @Override
+    public @NotNull String readRemaining() {
+        if (position > length) return "";
+
+        final String remaining = position == 0 ? input : input.substring(position);
+        position = length + 1;
+        next = null;
+        return remaining;
+    }
+
+    @Override
+    public @NotNull List<String> readTokens() {
+        final List<String> tokens = new ArrayList<>(remaining());
+        while (hasNext()) tokens.add(read());
+        return tokens;
+    }
+
+    @Override
+    public int remaining() {
+        if (position > length) return 0;
+
+        int count = 1;
+        for (int i = position; i < length; i++) {
+            if (input.charAt(i) == ' ') count++;
+        }
+
+        return count;
+    }
+
+    @Override
+    public @NotNull String readQuoted() {
+        if (position > length) throw new NoSuchElementException("No more input to read");
+        if (position == length || input.charAt(position) != '"') return read();
+
+        final StringBuilder builder = new StringBuilder();
+        final int end = QuotedStrings.indexAfterQuote(builder, input, position + 1, length);
+
+        if (end == -1) {
+            position = length + 1;
+        } else {
+            // Skip to the next token, anything glued to the closing quote is dropped
+            final int space = input.indexOf(' ', end);
+            position = space == -1 ? length + 1 : space + 1;
+        }
+
+        next = null;
+        return builder.toString();
+    }
+
+    private int tokenEnd() {
+        final int space = input.indexOf(' ', position);
+        return space == -1 ? length : space;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "StringCommandInput{" +
+                "input='" + input + '\'' +
+                ", position=" + position +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.command;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read only view of the typed arguments keyed by the name of the argument they belong to.
+ * Lookups scan the names directly, the backing map is only built if the entries are iterated.
+ */
+final class SuggestionArguments extends AbstractMap<String, String> {
+
+    private final String[] names;
+    private final List<String> arguments;
+    private final int size;
+
+    private Map<String, String> materialized;
+
+    SuggestionArguments(final @NotNull String @NotNull [] names, final @NotNull List<String> arguments) {
+        this.names = names;
+        this.arguments = arguments;
+        this.size = Math.min(names.length, arguments.size());
+    }
+
+    @Override
+    public @Nullable String get(final @Nullable Object key) {
+        final int index = indexOf(key);
+        return index == -1 ? null : arguments.get(index);
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, String>> entrySet() {
+        if (materialized == null) {
+            final Map<String, String> map = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                map.put(names[i], arguments.get(i));
+            }
+            materialized = Collections.unmodifiableMap(map);
+        }
+
+        return materialized.entrySet();
+    }
+
+    private int indexOf(final @Nullable Object key) {
+        if (key == null) return -1;
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(key)) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Describes a class annotated with {@link dev.triumphteam.cmd.core.annotations.Command}, either a root or a branch.
+ */
+public final class CommandDescriptor extends ElementDescriptor {
+
+    private final String className;
+    private final List<LeafDescriptor> leaves;
+    private final List<CommandDescriptor> branches;
+    private final List<String> suggestionMethods;
+    private final List<String> contextualSuggestionMethods;
+
+    /**
+     * Main constructor, called by the generated code.
+     *
+     * @param className                   The binary name of the described class.
+     * @param name                        The final name of the command.
+     * @param aliases                     The final aliases of the command.
+     * @param leaves                      The public methods annotated as commands.
+     * @param branches                    The public inner classes annotated as commands.
+     * @param suggestionMethods           The suggestion methods without parameters.
+     * @param contextualSuggestionMethods The suggestion methods that take a {@link SuggestionContext}.
+     */
+    public CommandDescriptor(
+            final @NotNull String className,
+            final @NotNull String name,
+            final @NotNull List<String> aliases,
+            final @NotNull List<LeafDescriptor> leaves,
+            final @NotNull List<CommandDescriptor> branches,
+            final @NotNull List<String> suggestionMethods,
+            final @NotNull List<String> contextualSuggestionMethods
+    ) {
+        super(name, aliases);
+        this.className = className;
+        this.leaves = leaves;
+        this.branches = branches;
+        this.suggestionMethods = suggestionMethods;
+        this.contextualSuggestionMethods = contextualSuggestionMethods;
+    }
+
+    /**
+     * @return The binary name of the described class.
+     */
+    public @NotNull String getClassName() {
+        return className;
+    }
+
+    public @NotNull List<LeafDescriptor> getLeaves() {
+        return leaves;
+    }
+
+    public @NotNull List<CommandDescriptor> getBranches() {
+        return branches;
+    }
+
+    /**
+     * Loads the described class, used for branches.
+     *
+     * @param loader The class loader of the root command class.
+     * @return The described class.
+     */
+    public @NotNull Class<?> resolveClass(final @NotNull ClassLoader loader) {
+        try {
+            return Class.forName(className, false, loader);
+        } catch (final ClassNotFoundException exception) {
+            throw new CommandRegistrationException("Could not find class \"" + className + "\" from the generated command descriptor")
+                    .initCause(exception);
+        }
+    }
+
+    /**
+     * Looks up the suggestion methods of the class directly, instead of scanning all of its methods.
+     *
+     * @param klass The described class.
+     * @return All the suggestion methods of the class.
+     */
+    public @NotNull Method @NotNull [] resolveSuggestionMethods(final @NotNull Class<?> klass) {
+        final Method[] methods = new Method[suggestionMethods.size() + contextualSuggestionMethods.size()];
+
+        int index = 0;
+        for (final String method : suggestionMethods) {
+            methods[index++] = Descriptors.declaredMethod(klass, method);
+        }
+
+        for (final String method : contextualSuggestionMethods) {
+            methods[index++] = Descriptors.declaredMethod(klass, method, SuggestionContext.class);
+        }
+
+        return methods;
+    }
+
+    /**
+     * Implemented by the generated descriptor classes.
+     */
+    public interface Provider {
+
+        @NotNull CommandDescriptor getDescriptor();
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Access point to the descriptors generated at compile time by the {@code triumph-cmd-annotation-processor}.
+ * A generated descriptor is named after the command class with the {@link #SUFFIX} appended.
+ * For example, {@code foo.BarCommand} becomes {@code foo.BarCommand_CommandDescriptor}.
+ */
+public final class Descriptors {
+
+    /**
+     * Suffix appended to the binary name of the command class to get its descriptor.
+     */
+    public static final String SUFFIX = "_CommandDescriptor";
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        PRIMITIVES.put("boolean", boolean.class);
+        PRIMITIVES.put("byte", byte.class);
+        PRIMITIVES.put("short", short.class);
+        PRIMITIVES.put("char", char.class);
+        PRIMITIVES.put("int", int.class);
+        PRIMITIVES.put("long", long.class);
+        PRIMITIVES.put("float", float.class);
+        PRIMITIVES.put("double", double.class);
+    }
+
+    // Lookups happen once per processor, so caching alongside the class itself avoids repeated class loading attempts
+    private static final ClassValue<Optional<CommandDescriptor>> DESCRIPTORS = new ClassValue<Optional<CommandDescriptor>>() {
+        @Override
+        protected @NotNull Optional<CommandDescriptor> computeValue(final @NotNull Class<?> type) {
+            return Optional.ofNullable(load(type));
+        }
+    };
+
+    private Descriptors() {throw new AssertionError("Util must not be initialized");}
+
+    /**
+     * Finds the generated descriptor of the given command class.
+     *
+     * @param type The command class.
+     * @return The descriptor, or null if the class wasn't processed at compile time.
+     */
+    public static @Nullable CommandDescriptor find(final @NotNull Class<?> type) {
+        return DESCRIPTORS.get(type).orElse(null);
+    }
+
+    private static @Nullable CommandDescriptor load(final @NotNull Class<?> type) {
+        final Class<?> generated;
+        try {
+            generated = Class.forName(type.getName() + SUFFIX, true, type.getClassLoader());
+        } catch (final ClassNotFoundException | LinkageError ignored) {
+            // Not generated, reflection will be used instead
+            return null;
+        }
+
+        if (!CommandDescriptor.Provider.class.isAssignableFrom(generated)) return null;
+
+        try {
+            return ((CommandDescriptor.Provider) generated.getDeclaredConstructor().newInstance()).getDescriptor();
+        } catch (final ReflectiveOperationException exception) {
+            throw new CommandRegistrationException("Could not create the generated command descriptor", type)
+                    .initCause(exception);
+        }
+    }
+
+    static @NotNull Class<?> loadClass(final @NotNull Class<?> owner, final @NotNull String name) {
+        final Class<?> primitive = PRIMITIVES.get(name);
+        if (primitive != null) return primitive;
+
+        try {
+            return Class.forName(name, false, owner.getClassLoader());
+        } catch (final ClassNotFoundException exception) {
+            throw new CommandRegistrationException("Could not find class \"" + name + "\" from the generated command descriptor", owner)
+                    .initCause(exception);
+        }
+    }
+
+    static @NotNull Method declaredMethod(
+            final @NotNull Class<?> owner,
+            final @NotNull String name,
+            final @NotNull Class<?> @NotNull ... parameterTypes
+    ) {
+        try {
+            return owner.getDeclaredMethod(name, parameterTypes);
+        } catch (final NoSuchMethodException exception) {
+            throw new CommandRegistrationException("Method \"" + name + "\" from the generated command descriptor was not found, the descriptor is likely outdated", owner)
+                    .initCause(exception);
+        }
+    }
+}
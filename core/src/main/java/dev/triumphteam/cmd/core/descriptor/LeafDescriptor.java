@@ -0,0 +1,89 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Describes a public method annotated with {@link dev.triumphteam.cmd.core.annotations.Command}.
+ */
+public final class LeafDescriptor extends ElementDescriptor {
+
+    private final String methodName;
+    private final List<String> parameterTypes;
+    private final List<String> argumentNames;
+
+    /**
+     * Main constructor, called by the generated code.
+     *
+     * @param methodName     The name of the method.
+     * @param parameterTypes The binary names of the erased parameter types, sender included.
+     * @param name           The final name of the command.
+     * @param aliases        The final aliases of the command.
+     * @param argumentNames  The final argument names, sender excluded.
+     */
+    public LeafDescriptor(
+            final @NotNull String methodName,
+            final @NotNull List<String> parameterTypes,
+            final @NotNull String name,
+            final @NotNull List<String> aliases,
+            final @NotNull List<String> argumentNames
+    ) {
+        super(name, aliases);
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+        this.argumentNames = argumentNames;
+    }
+
+    public @NotNull String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * The argument names are taken from the source, so they're available even without compiling with "-parameters".
+     *
+     * @return The final argument names, sender excluded.
+     */
+    public @NotNull List<String> getArgumentNames() {
+        return argumentNames;
+    }
+
+    /**
+     * Looks up the described method directly, instead of scanning all the methods of the class.
+     *
+     * @param klass The class that declares the method.
+     * @return The described method.
+     */
+    public @NotNull Method resolveMethod(final @NotNull Class<?> klass) {
+        final Class<?>[] types = new Class<?>[parameterTypes.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = Descriptors.loadClass(klass, parameterTypes.get(i));
+        }
+
+        return Descriptors.declaredMethod(klass, methodName, types);
+    }
+}
@@ -23,7 +23,9 @@
  */
 package dev.triumphteam.cmd.core.exceptions;
 
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.AnnotatedElement;
 
@@ -50,4 +52,11 @@ public final class CommandRegistrationException extends RuntimeException {
     ) {
         super(message + ". In Method \"" + element + "\" in Class \"" + commandClass.getName() + "\"");
     }
+
+    @Contract("_ -> this")
+    @Override
+    public synchronized @NotNull CommandRegistrationException initCause(final @Nullable Throwable cause) {
+        super.initCause(cause);
+        return this;
+    }
 }
@@ -26,7 +26,9 @@ package dev.triumphteam.cmd.core.extension;
 import dev.triumphteam.cmd.core.extension.command.CommandExecutor;
 import dev.triumphteam.cmd.core.extension.annotation.AnnotationProcessor;
 import dev.triumphteam.cmd.core.extension.argument.ArgumentValidator;
+import dev.triumphteam.cmd.core.extension.command.ExecutionScheduler;
 import dev.triumphteam.cmd.core.extension.command.Processor;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
 import dev.triumphteam.cmd.core.extension.sender.SenderExtension;
 import org.jetbrains.annotations.NotNull;
 
@@ -43,6 +45,8 @@ public final class CommandExtensions<D, S, ST> {
     private final ArgumentValidator<S, ST> argumentValidator;
     private final CommandExecutor<S> commandExecutor;
     private final SuggestionMapper<ST> suggestionMapper;
+    private final ExecutionScheduler executionScheduler;
+    private final CommandMetrics commandMetrics;
 
     public CommandExtensions(
             final @NotNull SenderExtension<D, S> senderExtension,
@@ -50,7 +54,9 @@ public final class CommandExtensions<D, S, ST> {
             final @NotNull List<Processor<D, S>> processors,
             final @NotNull ArgumentValidator<S, ST> argumentValidator,
             final @NotNull CommandExecutor<S> commandExecutor,
-            final @NotNull SuggestionMapper<ST> suggestionMapper
+            final @NotNull SuggestionMapper<ST> suggestionMapper,
+            final @NotNull ExecutionScheduler executionScheduler,
+            final @NotNull CommandMetrics commandMetrics
     ) {
         this.senderExtension = senderExtension;
         this.annotationProcessors = annotationProcessors;
@@ -58,6 +64,8 @@ public final class CommandExtensions<D, S, ST> {
         this.argumentValidator = argumentValidator;
         this.commandExecutor = commandExecutor;
         this.suggestionMapper = suggestionMapper;
+        this.executionScheduler = executionScheduler;
+        this.commandMetrics = commandMetrics;
     }
 
     public @NotNull Map<Class<? extends Annotation>, AnnotationProcessor<? extends Annotation>> getAnnotationProcessors() {
@@ -83,4 +91,12 @@ public final class CommandExtensions<D, S, ST> {
     public @NotNull SuggestionMapper<ST> getSuggestionMapper() {
         return suggestionMapper;
     }
+
+    public @NotNull ExecutionScheduler getExecutionScheduler() {
+        return executionScheduler;
+    }
+
+    public @NotNull CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
 }
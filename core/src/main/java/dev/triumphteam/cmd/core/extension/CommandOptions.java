@@ -29,14 +29,19 @@ import dev.triumphteam.cmd.core.suggestion.SuggestionMethod;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class CommandOptions<O extends CommandOptions<O, M, D, S, ST>, M extends CommandManager<M, O, D, S, ST>, D, S, ST> {
 
     private final CommandExtensions<D, S, ST> commandExtensions;
     private final boolean suggestLowercaseEnum;
+    private final boolean caseInsensitiveCommands;
     private final Consumer<M> setup;
     private final SuggestionMethod suggestionMethod;
+    private final long suggestionTimeoutMillis;
+    private final long argumentTimeoutMillis;
+    private final long visibilityCacheNanos;
 
     public CommandOptions(
             final @NotNull SenderExtension<D, S> senderExtension,
@@ -45,8 +50,12 @@ public class CommandOptions<O extends CommandOptions<O, M, D, S, ST>, M extends
 
         this.commandExtensions = builder.extensionBuilder.build(senderExtension);
         this.suggestLowercaseEnum = builder.suggestLowercaseEnum;
+        this.caseInsensitiveCommands = builder.caseInsensitiveCommands;
         this.setup = builder.setup;
         this.suggestionMethod = builder.suggestionMethod;
+        this.suggestionTimeoutMillis = builder.suggestionTimeoutMillis;
+        this.argumentTimeoutMillis = builder.argumentTimeoutMillis;
+        this.visibilityCacheNanos = builder.visibilityCacheNanos;
     }
 
     public @NotNull CommandExtensions<D, S, ST> getCommandExtensions() {
@@ -61,16 +70,51 @@ public class CommandOptions<O extends CommandOptions<O, M, D, S, ST>, M extends
         return suggestionMethod;
     }
 
+    /**
+     * How long a platform waits for asynchronous suggestions before replying with no suggestions.
+     *
+     * @return The timeout in milliseconds.
+     */
+    public long getSuggestionTimeoutMillis() {
+        return suggestionTimeoutMillis;
+    }
+
+    /**
+     * How long asynchronous arguments are waited for by default before they are treated as invalid.
+     *
+     * @return The timeout in milliseconds.
+     */
+    public long getArgumentTimeoutMillis() {
+        return argumentTimeoutMillis;
+    }
+
+    /**
+     * How long whether a sender can see a sub command is remembered for when suggesting sub commands.
+     *
+     * @return The duration in nanoseconds, or 0 if it's tested every time.
+     */
+    public long getVisibilityCacheNanos() {
+        return visibilityCacheNanos;
+    }
+
     public boolean suggestLowercaseEnum() {
         return suggestLowercaseEnum;
     }
 
+    public boolean caseInsensitiveCommands() {
+        return caseInsensitiveCommands;
+    }
+
     public static abstract class Builder<B extends Builder<B, M, O, D, S, ST>, M extends CommandManager<M, O, D, S, ST>, O extends CommandOptions<O, M, D, S, ST>, D, S, ST> {
 
         private final ExtensionBuilder<D, S, ST> extensionBuilder = new ExtensionBuilder<>();
         private Consumer<M> setup = setup -> {};
         private boolean suggestLowercaseEnum = false;
+        private boolean caseInsensitiveCommands = false;
         private SuggestionMethod suggestionMethod = SuggestionMethod.STARTS_WITH;
+        private long suggestionTimeoutMillis = 2000;
+        private long argumentTimeoutMillis = 5000;
+        private long visibilityCacheNanos = 0;
 
         protected abstract @NotNull B getThis();
 
@@ -92,10 +136,67 @@ public class CommandOptions<O extends CommandOptions<O, M, D, S, ST>, M extends
             return getThis();
         }
 
+        /**
+         * Makes sub command names and aliases match regardless of the casing the user typed.
+         *
+         * @return This builder.
+         */
+        @Contract(" -> this")
+        public @NotNull B caseInsensitiveCommands() {
+            this.caseInsensitiveCommands = true;
+            return getThis();
+        }
+
         @Contract("_ -> this")
         public @NotNull B defaultSuggestionMethod(final @NotNull SuggestionMethod suggestionMethod) {
             this.suggestionMethod = suggestionMethod;
             return getThis();
         }
+
+        /**
+         * Sets how long asynchronous suggestions are waited for before replying with no suggestions.
+         *
+         * @param timeout The timeout.
+         * @param unit    The unit of the timeout.
+         * @return This builder.
+         */
+        @Contract("_, _ -> this")
+        public @NotNull B suggestionTimeout(final long timeout, final @NotNull TimeUnit unit) {
+            if (timeout < 0) throw new IllegalArgumentException("Suggestion timeout must not be negative, got " + timeout);
+            this.suggestionTimeoutMillis = unit.toMillis(timeout);
+            return getThis();
+        }
+
+        /**
+         * Sets how long asynchronous arguments are waited for by default before they are treated as invalid.
+         *
+         * @param timeout The timeout.
+         * @param unit    The unit of the timeout.
+         * @return This builder.
+         */
+        @Contract("_, _ -> this")
+        public @NotNull B argumentTimeout(final long timeout, final @NotNull TimeUnit unit) {
+            if (timeout <= 0) throw new IllegalArgumentException("Argument timeout must be positive, got " + timeout);
+            this.argumentTimeoutMillis = unit.toMillis(timeout);
+            return getThis();
+        }
+
+        /**
+         * Remembers whether a sender passes the requirements of each sub command for a short while,
+         * instead of testing them every time sub command names are suggested.
+         * Only suggestions use it, the requirements are always tested before executing a command.
+         * A sender that gains or loses a requirement may see outdated sub command suggestions for up to the duration.
+         * Senders are told apart by {@link SenderExtension#getSenderKey(Object)}.
+         *
+         * @param duration How long the results are remembered for.
+         * @param unit     The unit of the duration.
+         * @return This builder.
+         */
+        @Contract("_, _ -> this")
+        public @NotNull B cacheCommandVisibility(final long duration, final @NotNull TimeUnit unit) {
+            if (duration < 0) throw new IllegalArgumentException("Duration must not be negative, got " + duration);
+            this.visibilityCacheNanos = unit.toNanos(duration);
+            return getThis();
+        }
     }
 }
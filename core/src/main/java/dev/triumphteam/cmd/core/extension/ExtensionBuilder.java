@@ -23,11 +23,17 @@
  */
 package dev.triumphteam.cmd.core.extension;
 
+import dev.triumphteam.cmd.core.annotations.Async;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.extension.annotation.AnnotationProcessor;
 import dev.triumphteam.cmd.core.extension.argument.ArgumentValidator;
 import dev.triumphteam.cmd.core.extension.command.CommandExecutor;
+import dev.triumphteam.cmd.core.extension.command.ExecutionScheduler;
 import dev.triumphteam.cmd.core.extension.command.Processor;
+import dev.triumphteam.cmd.core.extension.defaults.AsyncAnnotationProcessor;
+import dev.triumphteam.cmd.core.extension.defaults.DefaultExecutionScheduler;
+import dev.triumphteam.cmd.core.extension.defaults.DisabledCommandMetrics;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
 import dev.triumphteam.cmd.core.extension.sender.SenderExtension;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -47,6 +53,13 @@ public final class ExtensionBuilder<D, S, ST> {
     private ArgumentValidator<S, ST> argumentValidator = null;
     private CommandExecutor<S> commandExecutor = null;
     private SuggestionMapper<ST> suggestionMapper = null;
+    private ExecutionScheduler executionScheduler = null;
+    private CommandMetrics commandMetrics = null;
+
+    public ExtensionBuilder() {
+        // Commands can always be marked as async, the scheduler decides where they run
+        annotationProcessors.put(Async.class, new AsyncAnnotationProcessor());
+    }
 
     @Contract("_, _ -> this")
     public <A extends Annotation> @NotNull ExtensionBuilder<D, S, ST> addAnnotationProcessor(
@@ -87,6 +100,18 @@ public final class ExtensionBuilder<D, S, ST> {
         return this;
     }
 
+    @Contract("_ -> this")
+    public @NotNull ExtensionBuilder<D, S, ST> setExecutionScheduler(final @NotNull ExecutionScheduler executionScheduler) {
+        this.executionScheduler = executionScheduler;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull ExtensionBuilder<D, S, ST> setCommandMetrics(final @NotNull CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+        return this;
+    }
+
     public @NotNull CommandExtensions<D, S, ST> build(final @NotNull SenderExtension<D, S> defaultExtension) {
         if (argumentValidator == null) {
             throw new CommandRegistrationException("No argument validator was added to Command Manager.");
@@ -106,7 +131,9 @@ public final class ExtensionBuilder<D, S, ST> {
                 processors,
                 argumentValidator,
                 commandExecutor,
-                suggestionMapper
+                suggestionMapper,
+                executionScheduler == null ? new DefaultExecutionScheduler() : executionScheduler,
+                commandMetrics == null ? new DisabledCommandMetrics() : commandMetrics
         );
     }
 }
@@ -26,6 +26,7 @@ package dev.triumphteam.cmd.core.extension;
 import dev.triumphteam.cmd.core.suggestion.SuggestionMethod;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.List;
 
 public interface SuggestionMapper<ST> {
@@ -40,5 +41,57 @@ public interface SuggestionMapper<ST> {
 
     @NotNull List<ST> filter(final @NotNull String input, final @NotNull List<ST> values, final SuggestionMethod method);
 
+    /**
+     * Same as {@link #filter(String, List, SuggestionMethod)}, but keeps at most the given amount of suggestions.
+     * Implementations should stop filtering once the limit is reached instead of filtering everything.
+     *
+     * @param input  What the sender typed.
+     * @param values The suggestions to filter.
+     * @param method The {@link SuggestionMethod} to filter with.
+     * @param limit  The most suggestions to keep.
+     * @return The first suggestions that match the input, up to the limit.
+     */
+    default @NotNull List<ST> filter(
+            final @NotNull String input,
+            final @NotNull List<ST> values,
+            final SuggestionMethod method,
+            final int limit
+    ) {
+        final List<ST> filtered = filter(input, values, method);
+        return filtered.size() <= limit ? filtered : filtered.subList(0, limit);
+    }
+
+    /**
+     * Filters plain suggestions and maps the ones that are kept, like mapping them with {@link #map(List)} and then
+     * filtering them with {@link #filter(String, List, SuggestionMethod, int)}.
+     * Implementations whose mapped suggestions are filtered by the same text can filter first,
+     * so only the suggestions that will be shown are mapped.
+     *
+     * @param input  What the sender typed.
+     * @param values The plain suggestions.
+     * @param method The {@link SuggestionMethod} to filter with.
+     * @param limit  The most suggestions to keep.
+     * @return The mapped suggestions that match the input, up to the limit.
+     */
+    default @NotNull List<ST> filterAndMap(
+            final @NotNull String input,
+            final @NotNull List<String> values,
+            final SuggestionMethod method,
+            final int limit
+    ) {
+        return filter(input, map(values), method, limit);
+    }
+
+    /**
+     * Gets the text of a suggestion that {@link #filter} compares the input against.
+     * Used to index suggestions that never change, so they don't need filtering on every call.
+     *
+     * @param value The suggestion.
+     * @return The text the suggestion is filtered by.
+     */
+    default @NotNull String toFilterString(final @NotNull ST value) {
+        return mapBackwards(Collections.singletonList(value)).get(0);
+    }
+
     @NotNull Class<?> getType();
 }
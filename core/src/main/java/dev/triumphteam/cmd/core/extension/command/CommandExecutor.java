@@ -25,10 +25,12 @@ package dev.triumphteam.cmd.core.extension.command;
 
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.registry.MessageRegistry;
+import dev.triumphteam.cmd.core.invoker.MethodInvoker;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 
 public interface CommandExecutor<S> {
@@ -42,6 +44,30 @@ public interface CommandExecutor<S> {
             final @NotNull List<Object> arguments
     ) throws Throwable;
 
+    /**
+     * Executes the command through its pre-bound {@link MethodInvoker}.
+     * This is the path used by the commands, by default it delegates to the {@link Method} variant,
+     * executors that don't need the {@link Method} itself should override it to avoid reflection.
+     *
+     * @param meta            The command meta.
+     * @param messageRegistry The message registry.
+     * @param sender          The sender executing the command.
+     * @param instance        The instance to invoke the command on.
+     * @param invoker         The invoker bound to the command method.
+     * @param arguments       The invoke arguments, starting with the sender.
+     * @throws Throwable Anything thrown by the command.
+     */
+    default void execute(
+            final @NotNull CommandMeta meta,
+            final @NotNull MessageRegistry<S> messageRegistry,
+            final @NotNull S sender,
+            final @NotNull Object instance,
+            final @NotNull MethodInvoker invoker,
+            final @Nullable Object @NotNull [] arguments
+    ) throws Throwable {
+        execute(meta, messageRegistry, sender, instance, invoker.getMethod(), Arrays.asList(arguments));
+    }
+
     default void handleResult(
             final @NotNull CommandMeta meta,
             final @NotNull MessageRegistry<S> messageRegistry,
@@ -0,0 +1,49 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.extension.command;
+
+import dev.triumphteam.cmd.core.annotations.Async;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Decides where commands run.
+ * Commands marked with {@link Async} have their arguments resolved and are invoked through {@link #async(Runnable)},
+ * anything that needs to go back to the platform, like messages, goes through {@link #sync(Runnable)}.
+ */
+public interface ExecutionScheduler {
+
+    /**
+     * Runs the task away from the thread the command was sent on.
+     *
+     * @param task The task to run.
+     */
+    void async(final @NotNull Runnable task);
+
+    /**
+     * Runs the task on the platform's thread, immediately if already on it.
+     *
+     * @param task The task to run.
+     */
+    void sync(final @NotNull Runnable task);
+}
@@ -23,7 +23,9 @@
  */
 package dev.triumphteam.cmd.core.extension.command;
 
+import dev.triumphteam.cmd.core.extension.defaults.DisabledCommandMetrics;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
 import dev.triumphteam.cmd.core.extension.registry.MessageRegistry;
 import dev.triumphteam.cmd.core.extension.sender.SenderMapper;
 import dev.triumphteam.cmd.core.requirement.Requirement;
@@ -36,8 +38,21 @@ public final class ImmutableSettings<D, S> implements Settings<D, S> {
 
     private final List<Requirement<D, S>> requirements;
 
+    private final CommandMetrics metrics;
+    private final String path;
+
     public ImmutableSettings(final @NotNull List<Requirement<D, S>> requirements) {
+        this(requirements, new DisabledCommandMetrics(), "");
+    }
+
+    public ImmutableSettings(
+            final @NotNull List<Requirement<D, S>> requirements,
+            final @NotNull CommandMetrics metrics,
+            final @NotNull String path
+    ) {
         this.requirements = requirements;
+        this.metrics = metrics;
+        this.path = path;
     }
 
     @Override
@@ -47,7 +62,20 @@ public final class ImmutableSettings<D, S> implements Settings<D, S> {
             final @NotNull CommandMeta meta,
             final @NotNull SenderMapper<D, S> senderMapper
     ) {
+        // Nothing worth measuring without requirements
+        final boolean metered = !requirements.isEmpty() && metrics.isEnabled();
+        final long start = metered ? System.nanoTime() : 0L;
         final Requirement<D, S> requirement = getFailedRequirement(sender, meta, senderMapper);
+
+        if (metered) {
+            metrics.record(
+                    CommandMetrics.Stage.REQUIREMENT,
+                    path,
+                    System.nanoTime() - start,
+                    requirement == null ? null : requirement.getMessageKey()
+            );
+        }
+
         if (requirement == null) return true;
 
         requirement.onDeny(sender, messageRegistry, meta);
@@ -23,7 +23,9 @@
  */
 package dev.triumphteam.cmd.core.extension.command;
 
+import dev.triumphteam.cmd.core.extension.defaults.DisabledCommandMetrics;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
 import dev.triumphteam.cmd.core.extension.registry.MessageRegistry;
 import dev.triumphteam.cmd.core.extension.sender.SenderMapper;
 import dev.triumphteam.cmd.core.requirement.Requirement;
@@ -76,16 +78,33 @@ public interface Settings<D, S> {
 
         private final List<Requirement<D, S>> requirements = new ArrayList<>();
 
+        private CommandMetrics metrics = new DisabledCommandMetrics();
+        private String path = "";
+
         @Contract("_ -> this")
         public @NotNull Builder<D, S> addRequirement(final @NotNull Requirement<D, S> requirement) {
             requirements.add(requirement);
             return this;
         }
 
+        /**
+         * Sets where the time spent testing the requirements is reported to.
+         *
+         * @param metrics The {@link CommandMetrics} to report to.
+         * @param path    The path of the command the settings belong to.
+         * @return This builder.
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder<D, S> setMetrics(final @NotNull CommandMetrics metrics, final @NotNull String path) {
+            this.metrics = metrics;
+            this.path = path;
+            return this;
+        }
+
         // TODO add more things to the settings
 
         public Settings<D, S> build() {
-            return new ImmutableSettings<>(Collections.unmodifiableList(requirements));
+            return new ImmutableSettings<>(Collections.unmodifiableList(requirements), metrics, path);
         }
     }
 }
@@ -26,7 +26,9 @@ package dev.triumphteam.cmd.core.extension.defaults;
 import dev.triumphteam.cmd.core.extension.command.CommandExecutor;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.registry.MessageRegistry;
+import dev.triumphteam.cmd.core.invoker.MethodInvoker;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -45,4 +47,17 @@ public final class DefaultCommandExecutor<S> implements CommandExecutor<S> {
         // Executes and handles the result.
         handleResult(meta, messageRegistry, sender, method.invoke(instance, arguments.toArray()));
     }
+
+    @Override
+    public void execute(
+            final @NotNull CommandMeta meta,
+            final @NotNull MessageRegistry<S> messageRegistry,
+            final @NotNull S sender,
+            final @NotNull Object instance,
+            final @NotNull MethodInvoker invoker,
+            final @Nullable Object @NotNull [] arguments
+    ) throws Throwable {
+        // Executes and handles the result.
+        handleResult(meta, messageRegistry, sender, invoker.invoke(instance, arguments));
+    }
 }
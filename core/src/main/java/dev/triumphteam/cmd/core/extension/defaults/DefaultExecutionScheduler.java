@@ -0,0 +1,57 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.extension.defaults;
+
+import dev.triumphteam.cmd.core.extension.command.ExecutionScheduler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Default {@link ExecutionScheduler} for platforms without a main thread.
+ * Async tasks run on the given executor, the common pool by default, and sync tasks run right away.
+ */
+public final class DefaultExecutionScheduler implements ExecutionScheduler {
+
+    private final Executor executor;
+
+    public DefaultExecutionScheduler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public DefaultExecutionScheduler(final @NotNull Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void async(final @NotNull Runnable task) {
+        executor.execute(task);
+    }
+
+    @Override
+    public void sync(final @NotNull Runnable task) {
+        task.run();
+    }
+}
@@ -24,10 +24,13 @@
 package dev.triumphteam.cmd.core.extension.defaults;
 
 import dev.triumphteam.cmd.core.extension.SuggestionMapper;
+import dev.triumphteam.cmd.core.suggestion.FuzzySearch;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import dev.triumphteam.cmd.core.suggestion.SuggestionMethod;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public final class DefaultSuggestionMapper implements SuggestionMapper<String> {
@@ -44,18 +47,37 @@ public final class DefaultSuggestionMapper implements SuggestionMapper<String> {
 
     @Override
     public @NotNull List<String> filter(final @NotNull String input, final @NotNull List<String> values, final SuggestionMethod method) {
+        return filter(input, values, method, SuggestionContext.NO_LIMIT);
+    }
+
+    @Override
+    public @NotNull List<String> filter(
+            final @NotNull String input,
+            final @NotNull List<String> values,
+            final SuggestionMethod method,
+            final int limit
+    ) {
+        final String lowercaseInput = input.toLowerCase();
         switch (method) {
             case STARTS_WITH:
-                return values.stream().filter(it -> it.toLowerCase().startsWith(input.toLowerCase())).collect(Collectors.toList());
+                return values.stream().filter(it -> it.toLowerCase().startsWith(lowercaseInput)).limit(limit).collect(Collectors.toList());
 
             case CONTAINS:
-                return values.stream().filter(it -> it.toLowerCase().contains(input.toLowerCase())).collect(Collectors.toList());
+                return values.stream().filter(it -> it.toLowerCase().contains(lowercaseInput)).limit(limit).collect(Collectors.toList());
+
+            case FUZZY:
+                return FuzzySearch.filter(input, values, Function.identity(), limit);
 
             default:
-                return values;
+                return values.size() <= limit ? values : values.subList(0, limit);
         }
     }
 
+    @Override
+    public @NotNull String toFilterString(final @NotNull String value) {
+        return value;
+    }
+
     @Override
     public @NotNull Class<?> getType() {
         return String.class;
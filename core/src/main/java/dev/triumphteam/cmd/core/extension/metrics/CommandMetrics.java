@@ -0,0 +1,154 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.extension.metrics;
+
+import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.message.context.MessageContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives the timings of the different stages a command goes through.
+ * Commands are identified by their path, the names from the root command down to it separated by spaces,
+ * arguments are identified by the path of their command followed by <code>&lt;name&gt;</code>.
+ * Implementations are called from every thread commands run in, so they must be thread safe.
+ */
+public interface CommandMetrics {
+
+    /**
+     * Failure of a {@link Stage#DISPATCH} denied by the requirements of the root command.
+     */
+    MessageKey<MessageContext> DENIED = MessageKey.of("dispatch.denied", MessageContext.class);
+
+    /**
+     * Failure of a {@link Stage#DISPATCH} that threw an exception.
+     */
+    MessageKey<MessageContext> ERROR = MessageKey.of("dispatch.error", MessageContext.class);
+
+    /**
+     * Whether anything should be measured at all.
+     * Checked whenever a command starts executing or suggesting, so it must be cheap,
+     * when false that execution or suggestion never calls the clock or {@link #record}.
+     *
+     * @return True if the commands should report into this.
+     */
+    boolean isEnabled();
+
+    /**
+     * Records a measured stage.
+     *
+     * @param stage   The {@link Stage} that was measured.
+     * @param path    The path of the command or argument.
+     * @param nanos   How long the stage took, in nanoseconds.
+     * @param failure The key of the message sent to the sender if the stage failed, null if it succeeded.
+     */
+    void record(
+            final @NotNull Stage stage,
+            final @NotNull String path,
+            final long nanos,
+            final @Nullable MessageKey<?> failure
+    );
+
+    /**
+     * Records the execution of a sub command, with the sender that executed it.
+     *
+     * @param path       The path of the command.
+     * @param senderType The type of the sender that executed the command.
+     * @param nanos      How long the execution took, in nanoseconds.
+     * @param failure    The key of the message sent to the sender if the execution failed, null if it succeeded.
+     */
+    default void recordExecution(
+            final @NotNull String path,
+            final @NotNull Class<?> senderType,
+            final long nanos,
+            final @Nullable MessageKey<?> failure
+    ) {
+        record(Stage.EXECUTION, path, nanos, failure);
+    }
+
+    /**
+     * Records the creation of the suggestions of an argument.
+     *
+     * @param path        The path of the argument.
+     * @param inputLength The length of what the sender had typed for the argument.
+     * @param results     How many suggestions were created.
+     * @param nanos       How long the suggestions took, in nanoseconds.
+     */
+    default void recordSuggestion(
+            final @NotNull String path,
+            final int inputLength,
+            final int results,
+            final long nanos
+    ) {
+        record(Stage.SUGGESTION, path, nanos, null);
+    }
+
+    /**
+     * Records the registration of a command class.
+     *
+     * @param command The class of the command that was registered.
+     * @param leaves  How many sub commands were created from it.
+     * @param nanos   How long it took to create the commands, in nanoseconds.
+     */
+    default void recordRegistration(
+            final @NotNull Class<?> command,
+            final int leaves,
+            final long nanos
+    ) {
+        record(Stage.REGISTRATION, command.getName(), nanos, null);
+    }
+
+    /**
+     * The stages of a command that are measured.
+     */
+    enum Stage {
+        /**
+         * The whole execution of a root command, from the requirements to the end of the sub command.
+         * Recorded for every execution, failing with {@link #DENIED} or {@link #ERROR},
+         * other failures are only recorded by the stage that caused them.
+         */
+        DISPATCH,
+        /**
+         * The execution of a sub command, including resolving its arguments.
+         * Executions denied by a requirement are only recorded as {@link #REQUIREMENT}.
+         */
+        EXECUTION,
+        /**
+         * A single argument being resolved.
+         */
+        ARGUMENT,
+        /**
+         * The requirements of a command being tested.
+         */
+        REQUIREMENT,
+        /**
+         * The suggestions of an argument being created.
+         */
+        SUGGESTION,
+        /**
+         * The commands of a class being created when it's registered, the path is the name of the class.
+         */
+        REGISTRATION
+    }
+}
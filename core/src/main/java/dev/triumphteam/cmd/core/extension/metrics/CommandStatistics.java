@@ -0,0 +1,157 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.extension.metrics;
+
+import dev.triumphteam.cmd.core.message.MessageKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A snapshot of what was recorded for a path in a {@link RecordingCommandMetrics}.
+ * Recording keeps going while the snapshot is taken, so the values might be a few recordings apart.
+ */
+public final class CommandStatistics {
+
+    private final CommandMetrics.Stage stage;
+    private final String path;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] buckets;
+    private final Map<MessageKey<?>, Long> failures;
+
+    CommandStatistics(
+            final @NotNull CommandMetrics.Stage stage,
+            final @NotNull String path,
+            final long count,
+            final long totalNanos,
+            final long maxNanos,
+            final long @NotNull [] buckets,
+            final @NotNull Map<MessageKey<?>, Long> failures
+    ) {
+        this.stage = stage;
+        this.path = path;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.buckets = buckets;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    public @NotNull CommandMetrics.Stage getStage() {
+        return stage;
+    }
+
+    public @NotNull String getPath() {
+        return path;
+    }
+
+    /**
+     * @return How many times the stage was recorded.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The sum of all recorded latencies, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return The highest recorded latency, in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * @return The average latency, in nanoseconds.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * @return How many times the stage failed, by the key of the message that was sent.
+     */
+    public @NotNull Map<MessageKey<?>, Long> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return How many times the stage failed.
+     */
+    public long getFailureCount() {
+        long failed = 0;
+        for (final long value : failures.values()) {
+            failed += value;
+        }
+        return failed;
+    }
+
+    /**
+     * Gets the latency under which the given fraction of the recordings are.
+     * The value is the upper bound of the bucket it falls in, so it's at most 12.5% higher than the real value.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The latency at the percentile, in nanoseconds.
+     */
+    public long getPercentileNanos(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+        }
+
+        long recorded = 0;
+        for (final long bucket : buckets) {
+            recorded += bucket;
+        }
+        if (recorded == 0) return 0;
+
+        final long target = Math.max(1, (long) Math.ceil(recorded * (percentile / 100)));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target) return Math.min(LatencyRecorder.bucketUpperBound(i), maxNanos);
+        }
+
+        return maxNanos;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "CommandStatistics{" +
+                "stage=" + stage +
+                ", path='" + path + '\'' +
+                ", count=" + count +
+                ", meanNanos=" + getMeanNanos() +
+                ", maxNanos=" + maxNanos +
+                ", failures=" + getFailureCount() +
+                '}';
+    }
+}
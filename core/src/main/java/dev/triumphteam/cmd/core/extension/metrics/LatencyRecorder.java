@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.extension.metrics;
+
+import dev.triumphteam.cmd.core.message.MessageKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free recorder of the timings of a single path.
+ * Latencies go into log-linear buckets, each power of two is split into {@link #SUB_BUCKETS} buckets,
+ * which keeps every recorded value within 12.5% of its bucket's bounds with a fixed amount of memory.
+ */
+final class LatencyRecorder {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final Map<MessageKey<?>, LongAdder> failures = new ConcurrentHashMap<>();
+
+    void record(final long nanos, final @Nullable MessageKey<?> failure) {
+        final long value = Math.max(nanos, 0L);
+
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+        buckets.incrementAndGet(bucketIndex(value));
+
+        if (failure == null) return;
+
+        final LongAdder failed = failures.get(failure);
+        if (failed != null) {
+            failed.increment();
+            return;
+        }
+
+        failures.computeIfAbsent(failure, key -> new LongAdder()).increment();
+    }
+
+    @NotNull CommandStatistics snapshot(final @NotNull CommandMetrics.Stage stage, final @NotNull String path) {
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+        }
+
+        final Map<MessageKey<?>, Long> failed = new HashMap<>();
+        failures.forEach((key, adder) -> failed.put(key, adder.sum()));
+
+        return new CommandStatistics(stage, path, count.sum(), total.sum(), max.get(), counts, failed);
+    }
+
+    /**
+     * Gets the bucket a value belongs to.
+     * Values smaller than {@link #SUB_BUCKETS} have their own bucket, the rest are split by their highest bit
+     * and the {@link #SUB_BUCKET_BITS} bits that follow it.
+     *
+     * @param value A positive value.
+     * @return The index of the bucket.
+     */
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the highest value that goes into a bucket.
+     *
+     * @param index The index of the bucket.
+     * @return The highest value of the bucket.
+     */
+    static long bucketUpperBound(final int index) {
+        if (index < SUB_BUCKETS) return index;
+
+        final int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final int shift = magnitude - SUB_BUCKET_BITS;
+        final long lower = (1L << magnitude) | ((long) (index % SUB_BUCKETS) << shift);
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.extension.metrics;
+
+import dev.triumphteam.cmd.core.message.MessageKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CommandMetrics} that keeps counts, failures and a latency histogram for every path, for every {@link Stage}.
+ * Recording never locks, the recorders of a path are only created the first time it's recorded.
+ */
+public final class RecordingCommandMetrics implements CommandMetrics {
+
+    private final Map<Stage, Map<String, LatencyRecorder>> recorders = new EnumMap<>(Stage.class);
+
+    public RecordingCommandMetrics() {
+        // Filled once so the enum map is only ever read afterwards
+        for (final Stage stage : Stage.values()) {
+            recorders.put(stage, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void record(
+            final @NotNull Stage stage,
+            final @NotNull String path,
+            final long nanos,
+            final @Nullable MessageKey<?> failure
+    ) {
+        final Map<String, LatencyRecorder> stageRecorders = recorders.get(stage);
+
+        LatencyRecorder recorder = stageRecorders.get(path);
+        if (recorder == null) recorder = stageRecorders.computeIfAbsent(path, key -> new LatencyRecorder());
+
+        recorder.record(nanos, failure);
+    }
+
+    /**
+     * Gets the statistics of every path recorded for a stage.
+     *
+     * @param stage The {@link Stage} to get the statistics of.
+     * @return The statistics sorted by their total time, highest first.
+     */
+    public @NotNull List<CommandStatistics> getStatistics(final @NotNull Stage stage) {
+        final List<CommandStatistics> statistics = new ArrayList<>();
+        recorders.get(stage).forEach((path, recorder) -> statistics.add(recorder.snapshot(stage, path)));
+        statistics.sort(Comparator.comparingLong(CommandStatistics::getTotalNanos).reversed());
+        return statistics;
+    }
+
+    /**
+     * Gets the statistics of a single path.
+     *
+     * @param stage The {@link Stage} to get the statistics of.
+     * @param path  The path of the command or argument.
+     * @return The statistics or null if the path was never recorded for the stage.
+     */
+    public @Nullable CommandStatistics getStatistics(final @NotNull Stage stage, final @NotNull String path) {
+        final LatencyRecorder recorder = recorders.get(stage).get(path);
+        if (recorder == null) return null;
+        return recorder.snapshot(stage, path);
+    }
+
+    /**
+     * Clears everything recorded so far.
+     */
+    public void reset() {
+        recorders.values().forEach(Map::clear);
+    }
+}
@@ -23,16 +23,14 @@
  */
 package dev.triumphteam.cmd.core.extension.registry;
 
-import com.google.common.primitives.Doubles;
-import com.google.common.primitives.Floats;
-import com.google.common.primitives.Ints;
-import com.google.common.primitives.Longs;
 import dev.triumphteam.cmd.core.argument.ArgumentResolver;
+import dev.triumphteam.cmd.core.argument.DecimalArgumentResolver;
+import dev.triumphteam.cmd.core.argument.IntegralArgumentResolver;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -44,25 +42,27 @@ import java.util.Map;
  */
 public final class ArgumentRegistry<S, ST> implements Registry {
 
-    private final Map<Class<?>, ArgumentResolver<S>> arguments = new HashMap<>();
-    private final Map<Class<?>, InternalArgument.Factory<S, ST>> internals = new HashMap<>();
+    private final Map<Class<?>, ArgumentResolver<S>> arguments = new CopyOnWriteMap<>();
+    private final Map<Class<?>, InternalArgument.Factory<S, ST>> internals = new CopyOnWriteMap<>();
 
-    @SuppressWarnings("UnstableApiUsage")
     public ArgumentRegistry() {
-        register(short.class, (sender, arg) -> Ints.tryParse(arg));
-        register(Short.class, (sender, arg) -> Ints.tryParse(arg));
+        register(byte.class, IntegralArgumentResolver.ofByte());
+        register(Byte.class, IntegralArgumentResolver.ofByte());
 
-        register(int.class, (sender, arg) -> Ints.tryParse(arg));
-        register(Integer.class, (sender, arg) -> Ints.tryParse(arg));
+        register(short.class, IntegralArgumentResolver.ofShort());
+        register(Short.class, IntegralArgumentResolver.ofShort());
 
-        register(long.class, (sender, arg) -> Longs.tryParse(arg));
-        register(Long.class, (sender, arg) -> Longs.tryParse(arg));
+        register(int.class, IntegralArgumentResolver.ofInt());
+        register(Integer.class, IntegralArgumentResolver.ofInt());
 
-        register(float.class, (sender, arg) -> Floats.tryParse(arg));
-        register(Float.class, (sender, arg) -> Floats.tryParse(arg));
+        register(long.class, IntegralArgumentResolver.ofLong());
+        register(Long.class, IntegralArgumentResolver.ofLong());
 
-        register(double.class, (sender, arg) -> Doubles.tryParse(arg));
-        register(Double.class, (sender, arg) -> Doubles.tryParse(arg));
+        register(float.class, DecimalArgumentResolver.ofFloat());
+        register(Float.class, DecimalArgumentResolver.ofFloat());
+
+        register(double.class, DecimalArgumentResolver.ofDouble());
+        register(Double.class, DecimalArgumentResolver.ofDouble());
 
         register(boolean.class, (sender, arg) -> Boolean.valueOf(arg));
         register(Boolean.class, (sender, arg) -> Boolean.valueOf(arg));
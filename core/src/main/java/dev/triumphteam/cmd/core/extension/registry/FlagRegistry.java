@@ -25,16 +25,16 @@ package dev.triumphteam.cmd.core.extension.registry;
 
 import dev.triumphteam.cmd.core.argument.keyed.FlagKey;
 import dev.triumphteam.cmd.core.argument.keyed.Flag;
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public final class FlagRegistry implements Registry {
 
-    private final Map<FlagKey, List<Flag>> suggestions = new HashMap<>();
+    private final Map<FlagKey, List<Flag>> suggestions = new CopyOnWriteMap<>();
 
     public void register(final @NotNull FlagKey key, final @NotNull List<Flag> flags) {
         suggestions.put(key, flags);
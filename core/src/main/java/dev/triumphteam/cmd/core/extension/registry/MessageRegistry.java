@@ -28,10 +28,12 @@ import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.MessageResolver;
 import dev.triumphteam.cmd.core.message.MessageSender;
 import dev.triumphteam.cmd.core.message.context.MessageContext;
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Registry with all the messages that'll be sent to the user.
@@ -40,7 +42,32 @@ import java.util.Map;
  */
 public final class MessageRegistry<S> implements MessageSender<S>,  Registry {
 
-    private final Map<ContextualKey<?>, MessageResolver<S, ? extends MessageContext>> messages = new HashMap<>();
+    private final Map<ContextualKey<?>, MessageResolver<S, ? extends MessageContext>> messages;
+    private final Executor dispatcher;
+
+    public MessageRegistry() {
+        this(new CopyOnWriteMap<>(), null);
+    }
+
+    private MessageRegistry(
+            final @NotNull Map<ContextualKey<?>, MessageResolver<S, ? extends MessageContext>> messages,
+            final @Nullable Executor dispatcher
+    ) {
+        this.messages = messages;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Creates a view of this registry that sends the messages through the given executor.
+     * Used so messages from commands running elsewhere are still sent on the platform's thread.
+     * Messages registered in either are shared.
+     *
+     * @param dispatcher The executor the messages will be sent through.
+     * @return A new {@link MessageRegistry} backed by this one.
+     */
+    public @NotNull MessageRegistry<S> dispatchingTo(final @NotNull Executor dispatcher) {
+        return new MessageRegistry<>(messages, dispatcher);
+    }
 
     /**
      * Registers a new message to be used by the plugin.
@@ -73,7 +100,13 @@ public final class MessageRegistry<S> implements MessageSender<S>,  Registry {
         //noinspection unchecked
         final MessageResolver<S, C> messageResolver = (MessageResolver<S, C>) messages.get(key);
         if (messageResolver == null) return;
-        messageResolver.resolve(sender, context);
+
+        if (dispatcher == null) {
+            messageResolver.resolve(sender, context);
+            return;
+        }
+
+        dispatcher.execute(() -> messageResolver.resolve(sender, context));
     }
 
 }
@@ -25,16 +25,16 @@ package dev.triumphteam.cmd.core.extension.registry;
 
 import dev.triumphteam.cmd.core.argument.keyed.Argument;
 import dev.triumphteam.cmd.core.argument.keyed.ArgumentKey;
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public final class NamedArgumentRegistry implements Registry {
 
-    private final Map<ArgumentKey, List<Argument>> namedArguments = new HashMap<>();
+    private final Map<ArgumentKey, List<Argument>> namedArguments = new CopyOnWriteMap<>();
 
     public void register(final @NotNull ArgumentKey key, final @NotNull List<Argument> arguments) {
         namedArguments.put(key, arguments);
@@ -25,10 +25,10 @@ package dev.triumphteam.cmd.core.extension.registry;
 
 import dev.triumphteam.cmd.core.requirement.RequirementKey;
 import dev.triumphteam.cmd.core.requirement.RequirementResolver;
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -38,7 +38,7 @@ import java.util.Map;
  */
 public final class RequirementRegistry<D, S> implements Registry {
 
-    private final Map<RequirementKey, RequirementResolver<D, S>> requirements = new HashMap<>();
+    private final Map<RequirementKey, RequirementResolver<D, S>> requirements = new CopyOnWriteMap<>();
 
     /**
      * Registers a new {@link RequirementResolver} for the specific Key.
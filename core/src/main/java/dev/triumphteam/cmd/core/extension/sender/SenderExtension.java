@@ -63,6 +63,18 @@ public interface SenderExtension<D, S> extends SenderMapper<D, S> {
         }
     }
 
+    /**
+     * Gives a key that stays the same for a sender across commands, used to remember things per sender for a while.
+     * Defaults to the sender itself, platforms that create a new sender for every command, or whose senders
+     * shouldn't be kept around, should return something stable and small instead, like the user's id.
+     *
+     * @param sender The sender.
+     * @return The key that identifies the sender.
+     */
+    default @NotNull Object getSenderKey(final @NotNull S sender) {
+        return sender;
+    }
+
     default ValidationResult<@NotNull MessageKey<@NotNull MessageContext>> valid() {
         return new ValidationResult.Valid<>();
     }
@@ -0,0 +1,103 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.invoker;
+
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/**
+ * Invoker for a {@link Constructor}, bound once into a {@link MethodHandle} so new instances skip reflection checks.
+ * Unlike {@link Constructor#newInstance(Object...)}, exceptions thrown by the constructor are not wrapped.
+ */
+public final class ConstructorInvoker {
+
+    private final Constructor<?> constructor;
+    private final MethodHandle handle;
+
+    private ConstructorInvoker(final @NotNull Constructor<?> constructor, final @NotNull MethodHandle handle) {
+        this.constructor = constructor;
+        this.handle = handle;
+    }
+
+    /**
+     * Binds the given constructor into a new invoker.
+     *
+     * @param constructor The constructor to bind.
+     * @return A new {@link ConstructorInvoker} for the constructor.
+     */
+    @Contract("_ -> new")
+    public static @NotNull ConstructorInvoker of(final @NotNull Constructor<?> constructor) {
+        try {
+            // Not always possible, for example when the class is inside a module that isn't open to us
+            constructor.setAccessible(true);
+        } catch (final RuntimeException ignored) {}
+
+        final MethodHandle unreflected;
+        try {
+            unreflected = MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (final IllegalAccessException exception) {
+            throw new CommandRegistrationException("Could not access constructor", constructor, constructor.getDeclaringClass())
+                    .initCause(exception);
+        }
+
+        final int parameterCount = constructor.getParameterCount();
+        final MethodHandle handle = unreflected
+                .asType(MethodType.genericMethodType(parameterCount))
+                .asSpreader(Object[].class, parameterCount);
+
+        return new ConstructorInvoker(constructor, handle);
+    }
+
+    /**
+     * Creates a new instance using the constructor.
+     *
+     * @param arguments The arguments of the constructor, must match the parameter count.
+     * @return The newly created instance.
+     * @throws Throwable Anything that the constructor itself throws.
+     */
+    public @NotNull Object newInstance(final @Nullable Object @NotNull ... arguments) throws Throwable {
+        return (Object) handle.invokeExact(arguments);
+    }
+
+    /**
+     * @return The constructor this invoker was created from.
+     */
+    public @NotNull Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ConstructorInvoker{" +
+                "constructor=" + constructor +
+                '}';
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.invoker;
+
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invoker for a {@link Method}, bound once into a {@link MethodHandle} so invocations skip reflection checks.
+ * The handle is adapted to the shape {@code (Object, Object[]) -> Object}, so every method is called the same way.
+ * Unlike {@link Method#invoke(Object, Object...)}, exceptions thrown by the method are not wrapped.
+ */
+public final class MethodInvoker {
+
+    private final Method method;
+    private final MethodHandle handle;
+
+    private MethodInvoker(final @NotNull Method method, final @NotNull MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * Binds the given method into a new invoker.
+     *
+     * @param method The method to bind.
+     * @return A new {@link MethodInvoker} for the method.
+     */
+    @Contract("_ -> new")
+    public static @NotNull MethodInvoker of(final @NotNull Method method) {
+        try {
+            // Not always possible, for example when the method is inside a module that isn't open to us
+            method.setAccessible(true);
+        } catch (final RuntimeException ignored) {}
+
+        final MethodHandle unreflected;
+        try {
+            unreflected = MethodHandles.lookup().unreflect(method);
+        } catch (final IllegalAccessException exception) {
+            throw new CommandRegistrationException("Could not access method", method, method.getDeclaringClass())
+                    .initCause(exception);
+        }
+
+        final int parameterCount = method.getParameterCount();
+
+        // Static methods have no receiver, so we simply ignore the instance passed
+        final MethodHandle receiving = Modifier.isStatic(method.getModifiers())
+                ? MethodHandles.dropArguments(unreflected, 0, method.getDeclaringClass())
+                : unreflected;
+
+        final MethodHandle handle = receiving
+                .asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount);
+
+        return new MethodInvoker(method, handle);
+    }
+
+    /**
+     * Invokes the method.
+     *
+     * @param instance  The instance to invoke the method on, ignored for static methods.
+     * @param arguments The arguments of the method, must match the parameter count.
+     * @return The value returned by the method, or null if it returns void.
+     * @throws Throwable Anything that the method itself throws.
+     */
+    public @Nullable Object invoke(final @Nullable Object instance, final @Nullable Object @NotNull [] arguments) throws Throwable {
+        return (Object) handle.invokeExact(instance, arguments);
+    }
+
+    /**
+     * @return The method this invoker was created from.
+     */
+    public @NotNull Method getMethod() {
+        return method;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "MethodInvoker{" +
+                "method=" + method +
+                '}';
+    }
+}
@@ -29,12 +29,16 @@ import dev.triumphteam.cmd.core.annotations.Command;
 import dev.triumphteam.cmd.core.annotations.Description;
 import dev.triumphteam.cmd.core.annotations.Join;
 import dev.triumphteam.cmd.core.annotations.Optional;
+import dev.triumphteam.cmd.core.annotations.Radix;
+import dev.triumphteam.cmd.core.annotations.Range;
 import dev.triumphteam.cmd.core.annotations.Split;
 import dev.triumphteam.cmd.core.annotations.Suggestion;
 import dev.triumphteam.cmd.core.annotations.Syntax;
 import dev.triumphteam.cmd.core.argument.ArgumentResolver;
 import dev.triumphteam.cmd.core.argument.CollectionInternalArgument;
+import dev.triumphteam.cmd.core.argument.DecimalArgumentResolver;
 import dev.triumphteam.cmd.core.argument.EnumInternalArgument;
+import dev.triumphteam.cmd.core.argument.IntegralArgumentResolver;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.argument.JoinedStringInternalArgument;
 import dev.triumphteam.cmd.core.argument.ResolverInternalArgument;
@@ -49,6 +53,9 @@ import dev.triumphteam.cmd.core.argument.keyed.Flags;
 import dev.triumphteam.cmd.core.argument.keyed.Keyed;
 import dev.triumphteam.cmd.core.argument.keyed.KeyedInternalArgument;
 import dev.triumphteam.cmd.core.argument.keyed.ListArgument;
+import dev.triumphteam.cmd.core.descriptor.CommandDescriptor;
+import dev.triumphteam.cmd.core.descriptor.Descriptors;
+import dev.triumphteam.cmd.core.descriptor.ElementDescriptor;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.extension.CommandOptions;
 import dev.triumphteam.cmd.core.extension.SuggestionMapper;
@@ -56,7 +63,6 @@ import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.registry.ArgumentRegistry;
 import dev.triumphteam.cmd.core.extension.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
-import dev.triumphteam.cmd.core.suggestion.EnumSuggestion;
 import dev.triumphteam.cmd.core.suggestion.InternalSuggestion;
 import dev.triumphteam.cmd.core.suggestion.SimpleSuggestion;
 import dev.triumphteam.cmd.core.suggestion.SimpleSuggestionHolder;
@@ -115,14 +121,23 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
     AbstractCommandProcessor(
             final @NotNull Object invocationInstance,
             final @NotNull AnnotatedElement annotatedElement,
+            final @Nullable ElementDescriptor descriptor,
             final @NotNull RegistryContainer<D, S, ST> registryContainer,
             final @NotNull CommandOptions<?, ?, D, S, ST> commandOptions,
             final @NotNull CommandMeta parentMeta
     ) {
         this.invocationInstance = invocationInstance;
         this.annotatedElement = annotatedElement;
-        this.name = nameOf();
-        this.aliases = aliasesOf();
+
+        // Generated descriptors already contain the final names
+        if (descriptor == null) {
+            this.name = nameOf();
+            this.aliases = aliasesOf();
+        } else {
+            this.name = descriptor.getName();
+            this.aliases = descriptor.getAliases();
+        }
+
         this.parentMeta = parentMeta;
 
         this.commandOptions = commandOptions;
@@ -138,6 +153,16 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
 
     protected abstract String defaultCommandName();
 
+    /**
+     * Gets the argument name known ahead of time, for example from a generated descriptor.
+     *
+     * @param position The position of the parameter.
+     * @return The final name of the argument or null if it isn't known.
+     */
+    protected @Nullable String knownArgumentName(final int position) {
+        return null;
+    }
+
     @Override
     public @NotNull RegistryContainer<D, S, ST> getRegistryContainer() {
         return registryContainer;
@@ -203,7 +228,8 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
             final int position
     ) {
         final Class<?> type = parameter.getType();
-        final String argumentName = getArgName(parameter);
+        final String knownArgumentName = knownArgumentName(position);
+        final String argumentName = knownArgumentName == null ? getArgName(parameter) : knownArgumentName;
         final String argumentDescription = getArgumentDescription(argDescriptions, parameter, position);
 
         final Optional optionalAnnotation = parameter.getAnnotation(Optional.class);
@@ -223,7 +249,7 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
         }
 
         // Handles collection internalArgument.
-        if (SUPPORTED_COLLECTIONS.stream().anyMatch(it -> it.isAssignableFrom(type))) {
+        if (isCollection(type)) {
             final Class<?> collectionType = getGenericType(parameter);
             final InternalArgument<S, ST> argument = createSimpleArgument(
                     meta,
@@ -232,7 +258,8 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
                     argumentDescription,
                     suggestions.getOrDefault(position, suggestionFromParam(parameter)),
                     null,
-                    true
+                    true,
+                    parameter
             );
 
             // Throw exception on unknown arguments for a collection parameter type
@@ -315,7 +342,8 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
                 argumentDescription,
                 suggestions.getOrDefault(position, suggestionFromParam(parameter)),
                 defaultValue,
-                isOptional
+                isOptional,
+                parameter
         );
     }
 
@@ -327,9 +355,23 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
             final @NotNull InternalSuggestion<S, ST> suggestion,
             final @Nullable String defaultValue,
             final boolean optional
+    ) {
+        return createSimpleArgument(meta, type, name, description, suggestion, defaultValue, optional, null);
+    }
+
+    private @NotNull StringInternalArgument<S, ST> createSimpleArgument(
+            final @NotNull CommandMeta meta,
+            final @NotNull Class<?> type,
+            final @NotNull String name,
+            final @NotNull String description,
+            final @NotNull InternalSuggestion<S, ST> suggestion,
+            final @Nullable String defaultValue,
+            final boolean optional,
+            final @Nullable Parameter parameter
     ) {
         // All other types default to the resolver.
-        final ArgumentResolver<S> resolver = argumentRegistry.getResolver(type);
+        final ArgumentResolver<S> registered = argumentRegistry.getResolver(type);
+        final ArgumentResolver<S> resolver = parameter == null ? registered : constrainResolver(registered, parameter);
         if (resolver == null) {
             // Handler for using any Enum.
             if (Enum.class.isAssignableFrom(type)) {
@@ -364,6 +406,41 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
         );
     }
 
+    /**
+     * Applies the {@link Range} and {@link Radix} of the parameter to its numeric resolver.
+     *
+     * @param resolver  The resolver registered for the type, if any.
+     * @param parameter The parameter of the argument.
+     * @return The constrained resolver, or the same one if the parameter has no constraints.
+     */
+    private @Nullable ArgumentResolver<S> constrainResolver(
+            final @Nullable ArgumentResolver<S> resolver,
+            final @NotNull Parameter parameter
+    ) {
+        final Range range = parameter.getAnnotation(Range.class);
+        final Radix radix = parameter.getAnnotation(Radix.class);
+        if (range == null && radix == null) return resolver;
+
+        try {
+            if (resolver instanceof IntegralArgumentResolver) {
+                IntegralArgumentResolver<S> constrained = (IntegralArgumentResolver<S>) resolver;
+                // Casting saturates, so the infinite defaults become the bounds of long
+                if (range != null) constrained = constrained.withRange((long) Math.ceil(range.min()), (long) Math.floor(range.max()));
+                if (radix != null) constrained = constrained.withRadix(radix.value());
+                return constrained;
+            }
+
+            if (resolver instanceof DecimalArgumentResolver) {
+                if (radix != null) throw createException("@Radix is only supported on integral arguments");
+                return ((DecimalArgumentResolver<S>) resolver).withRange(range.min(), range.max());
+            }
+        } catch (final IllegalArgumentException exception) {
+            throw createException("Invalid constraints on parameter \"" + parameter.getName() + "\"").initCause(exception);
+        }
+
+        throw createException("@Range and @Radix are only supported on numeric arguments");
+    }
+
     private Map<Flag, StringInternalArgument<S, ST>> createFlagInternals(
             final @NotNull CommandMeta meta,
             final @NotNull ArgumentGroup<Flag> group
@@ -423,7 +500,7 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
                                 listArgument.getDescription(),
                                 listArgument.getSeparator(),
                                 internalArgument,
-                                listArgument.getType(),
+                                listArgument.getCollectionType(),
                                 suggestion,
                                 null,
                                 true
@@ -496,27 +573,38 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
         return "";
     }
 
+    private boolean isCollection(final @NotNull Class<?> type) {
+        // Arrays registered as their own argument type keep resolving as a single argument
+        if (type.isArray()) return argumentRegistry.getResolver(type) == null && argumentRegistry.getFactory(type) == null;
+        return SUPPORTED_COLLECTIONS.stream().anyMatch(it -> it.isAssignableFrom(type));
+    }
+
     private @NotNull Class<?> getGenericType(final @NotNull Parameter parameter) {
         final Class<?> type = parameter.getType();
-        if (SUPPORTED_COLLECTIONS.stream().anyMatch(it -> it.isAssignableFrom(type))) {
-            final ParameterizedType parameterizedType = (ParameterizedType) parameter.getParameterizedType();
-            final Type[] types = parameterizedType.getActualTypeArguments();
+        if (!isCollection(type)) return type;
+        if (type.isArray()) return type.getComponentType();
 
-            if (types.length != 1) {
-                throw createException("Unsupported collection type \"" + type + "\"");
-            }
+        final ParameterizedType parameterizedType = (ParameterizedType) parameter.getParameterizedType();
+        final Type[] types = parameterizedType.getActualTypeArguments();
 
-            final Type genericType = types[0];
-            return (Class<?>) (genericType instanceof WildcardType ? ((WildcardType) genericType).getUpperBounds()[0] : genericType);
+        if (types.length != 1) {
+            throw createException("Unsupported collection type \"" + type + "\"");
         }
 
-        return type;
+        final Type genericType = types[0];
+        return (Class<?>) (genericType instanceof WildcardType ? ((WildcardType) genericType).getUpperBounds()[0] : genericType);
     }
 
     private Map<SuggestionKey, InternalSuggestion<S, ST>> collectLocalSuggestions() {
         final Map<SuggestionKey, InternalSuggestion<S, ST>> suggestions = new HashMap<>();
 
-        for (final Method method : invocationInstance.getClass().getDeclaredMethods()) {
+        final Class<?> klass = invocationInstance.getClass();
+
+        // With a generated descriptor we only look at the methods we know are suggestions
+        final CommandDescriptor descriptor = Descriptors.find(klass);
+        final Method[] methods = descriptor == null ? klass.getDeclaredMethods() : descriptor.resolveSuggestionMethods(klass);
+
+        for (final Method method : methods) {
             final Suggestion suggestionAnnotation = method.getAnnotation(Suggestion.class);
             if (suggestionAnnotation == null) continue;
 
@@ -589,7 +677,12 @@ abstract class AbstractCommandProcessor<D, S, ST> implements CommandProcessor<D,
     ) {
         if (suggestionKey == null || suggestionKey.getKey().isEmpty()) {
             if (Enum.class.isAssignableFrom(type)) {
-                return new EnumSuggestion<>((Class<? extends Enum<?>>) type, suggestionMapper, method, commandOptions.suggestLowercaseEnum());
+                return suggestionRegistry.getEnumSuggestion(
+                        (Class<? extends Enum<?>>) type,
+                        method,
+                        commandOptions.suggestLowercaseEnum(),
+                        suggestionMapper
+                );
             }
 
             final InternalSuggestion<S, ST> suggestion = suggestionRegistry.getSuggestion(type);
@@ -24,6 +24,7 @@
 package dev.triumphteam.cmd.core.processor;
 
 import dev.triumphteam.cmd.core.command.InternalCommand;
+import dev.triumphteam.cmd.core.descriptor.CommandDescriptor;
 import dev.triumphteam.cmd.core.extension.CommandOptions;
 import dev.triumphteam.cmd.core.extension.annotation.ProcessorTarget;
 import dev.triumphteam.cmd.core.extension.command.Settings;
@@ -31,6 +32,7 @@ import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.meta.MetaKey;
 import dev.triumphteam.cmd.core.extension.registry.RegistryContainer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.AnnotatedElement;
 
@@ -50,11 +52,12 @@ public final class BranchCommandProcessor<D, S, ST> extends AbstractCommandProce
     BranchCommandProcessor(
             final @NotNull Object invocationInstance,
             final @NotNull Class<?> klass,
+            final @Nullable CommandDescriptor descriptor,
             final @NotNull RegistryContainer<D, S, ST> registryContainer,
             final @NotNull CommandOptions<?, ?, D, S, ST> commandOptions,
             final @NotNull CommandMeta parentMeta
     ) {
-        super(invocationInstance, klass, registryContainer, commandOptions, parentMeta);
+        super(invocationInstance, klass, descriptor, registryContainer, commandOptions, parentMeta);
 
         this.klass = klass;
     }
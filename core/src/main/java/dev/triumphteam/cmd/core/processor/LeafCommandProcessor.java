@@ -36,6 +36,7 @@ import dev.triumphteam.cmd.core.argument.keyed.ArgumentKey;
 import dev.triumphteam.cmd.core.argument.keyed.Flag;
 import dev.triumphteam.cmd.core.argument.keyed.FlagKey;
 import dev.triumphteam.cmd.core.command.InternalCommand;
+import dev.triumphteam.cmd.core.descriptor.LeafDescriptor;
 import dev.triumphteam.cmd.core.extension.CommandOptions;
 import dev.triumphteam.cmd.core.extension.ValidationResult;
 import dev.triumphteam.cmd.core.extension.annotation.ProcessorTarget;
@@ -50,6 +51,7 @@ import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
 import dev.triumphteam.cmd.core.suggestion.InternalSuggestion;
 import dev.triumphteam.cmd.core.suggestion.SuggestionKey;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
@@ -78,19 +80,22 @@ import static java.util.Collections.singletonList;
 public final class LeafCommandProcessor<D, S, ST> extends AbstractCommandProcessor<D, S, ST> {
 
     private final Method method;
+    private final LeafDescriptor descriptor;
     private final NamedArgumentRegistry namedArgumentRegistry;
     private final FlagRegistry flagRegistry;
 
     LeafCommandProcessor(
             final @NotNull Object invocationInstance,
             final @NotNull Method method,
+            final @Nullable LeafDescriptor descriptor,
             final @NotNull RegistryContainer<D, S, ST> registryContainer,
             final @NotNull CommandOptions<?, ?, D, S, ST> commandOptions,
             final @NotNull CommandMeta parentMeta
     ) {
-        super(invocationInstance, method, registryContainer, commandOptions, parentMeta);
+        super(invocationInstance, method, descriptor, registryContainer, commandOptions, parentMeta);
 
         this.method = method;
+        this.descriptor = descriptor;
         this.namedArgumentRegistry = registryContainer.getNamedArgumentRegistry();
         this.flagRegistry = registryContainer.getFlagRegistry();
     }
@@ -100,6 +105,17 @@ public final class LeafCommandProcessor<D, S, ST> extends AbstractCommandProcess
         return InternalCommand.DEFAULT_CMD_NAME;
     }
 
+    @Override
+    protected @Nullable String knownArgumentName(final int position) {
+        if (descriptor == null) return null;
+
+        // Descriptor names don't include the sender
+        final List<String> argumentNames = descriptor.getArgumentNames();
+        final int index = position - 1;
+        if (index < 0 || index >= argumentNames.size()) return null;
+        return argumentNames.get(index);
+    }
+
     @Override
     public @NotNull AnnotatedElement getAnnotatedElement() {
         return method;
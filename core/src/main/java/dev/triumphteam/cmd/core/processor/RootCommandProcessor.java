@@ -34,12 +34,17 @@ import dev.triumphteam.cmd.core.argument.keyed.ArgumentGroup;
 import dev.triumphteam.cmd.core.command.InternalBranchCommand;
 import dev.triumphteam.cmd.core.command.InternalCommand;
 import dev.triumphteam.cmd.core.command.InternalLeafCommand;
+import dev.triumphteam.cmd.core.command.InternalParentCommand;
+import dev.triumphteam.cmd.core.descriptor.CommandDescriptor;
+import dev.triumphteam.cmd.core.descriptor.Descriptors;
+import dev.triumphteam.cmd.core.descriptor.LeafDescriptor;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.extension.CommandOptions;
 import dev.triumphteam.cmd.core.extension.annotation.ProcessorTarget;
 import dev.triumphteam.cmd.core.extension.command.Settings;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.meta.MetaKey;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
 import dev.triumphteam.cmd.core.extension.registry.RegistryContainer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -51,6 +56,7 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -61,6 +67,7 @@ import static java.util.Collections.emptyMap;
 public class RootCommandProcessor<D, S, ST> implements CommandProcessor<D, S, ST> {
 
     private final Object invocationInstance;
+    private final CommandDescriptor descriptor;
 
     private final String name;
     private final Syntax syntax;
@@ -75,9 +82,16 @@ public class RootCommandProcessor<D, S, ST> implements CommandProcessor<D, S, ST
             final @NotNull CommandOptions<?, ?, D, S, ST> commandOptions
     ) {
         this.invocationInstance = invocationInstance;
-
-        this.name = nameOf();
-        this.aliases = aliasesOf();
+        this.descriptor = Descriptors.find(invocationInstance.getClass());
+
+        // Generated descriptors already contain the final names
+        if (descriptor == null) {
+            this.name = nameOf();
+            this.aliases = aliasesOf();
+        } else {
+            this.name = descriptor.getName();
+            this.aliases = descriptor.getAliases();
+        }
 
         this.registryContainer = registryContainer;
         this.commandOptions = commandOptions;
@@ -137,8 +151,22 @@ public class RootCommandProcessor<D, S, ST> implements CommandProcessor<D, S, ST
     }
 
     public @NotNull List<InternalCommand<D, S, ST>> commands(final @NotNull InternalCommand<D, S, ST> parentCommand) {
+        final CommandMetrics metrics = getCommandOptions().getCommandExtensions().getCommandMetrics();
+        if (!metrics.isEnabled()) return createCommands(parentCommand);
+
+        final long start = System.nanoTime();
+        final List<InternalCommand<D, S, ST>> commands = createCommands(parentCommand);
+        metrics.recordRegistration(invocationInstance.getClass(), countLeaves(commands), System.nanoTime() - start);
+
+        return commands;
+    }
+
+    private @NotNull List<InternalCommand<D, S, ST>> createCommands(final @NotNull InternalCommand<D, S, ST> parentCommand) {
         final Class<?> klass = invocationInstance.getClass();
 
+        // Generated descriptors already know exactly which methods and classes are commands
+        if (descriptor != null) return descriptorCommands(parentCommand, klass, descriptor);
+
         final List<InternalCommand<D, S, ST>> subCommands = new ArrayList<>();
         subCommands.addAll(methodCommands(parentCommand, klass.getDeclaredMethods()));
         subCommands.addAll(classCommands(parentCommand, klass.getDeclaredClasses()));
@@ -146,6 +174,64 @@ public class RootCommandProcessor<D, S, ST> implements CommandProcessor<D, S, ST
         return subCommands;
     }
 
+    private int countLeaves(final @NotNull Collection<InternalCommand<D, S, ST>> commands) {
+        int leaves = 0;
+        for (final InternalCommand<D, S, ST> command : commands) {
+            if (command instanceof InternalParentCommand) {
+                leaves += countLeaves(((InternalParentCommand<D, S, ST>) command).getCommands().values());
+                continue;
+            }
+
+            leaves++;
+        }
+        return leaves;
+    }
+
+    private @NotNull List<InternalCommand<D, S, ST>> descriptorCommands(
+            final @NotNull InternalCommand<D, S, ST> parentCommand,
+            final @NotNull Class<?> klass,
+            final @NotNull CommandDescriptor descriptor
+    ) {
+        final List<InternalCommand<D, S, ST>> commands = new ArrayList<>();
+        for (final LeafDescriptor leaf : descriptor.getLeaves()) {
+            final Method method = leaf.resolveMethod(klass);
+
+            final LeafCommandProcessor<D, S, ST> processor = new LeafCommandProcessor<>(
+                    invocationInstance,
+                    method,
+                    leaf,
+                    registryContainer,
+                    commandOptions,
+                    parentCommand.getMeta()
+            );
+
+            commands.add(new InternalLeafCommand<>(invocationInstance, method, processor, parentCommand));
+        }
+
+        for (final CommandDescriptor branch : descriptor.getBranches()) {
+            final Class<?> branchClass = branch.resolveClass(klass.getClassLoader());
+
+            final BranchCommandProcessor<D, S, ST> processor = new BranchCommandProcessor<>(
+                    invocationInstance,
+                    branchClass,
+                    branch,
+                    registryContainer,
+                    commandOptions,
+                    parentCommand.getMeta()
+            );
+
+            final InternalBranchCommand<D, S, ST> parent = branchCommand(parentCommand, branchClass, processor);
+
+            // Add children commands to parent
+            parent.addCommands(invocationInstance, descriptorCommands(parent, branchClass, branch));
+
+            // Add parent command to main list
+            commands.add(parent);
+        }
+
+        return commands;
+    }
+
     private @NotNull List<InternalCommand<D, S, ST>> methodCommands(
             final @NotNull InternalCommand<D, S, ST> parentCommand,
             final @NotNull Method[] methods
@@ -158,6 +244,7 @@ public class RootCommandProcessor<D, S, ST> implements CommandProcessor<D, S, ST
             final LeafCommandProcessor<D, S, ST> processor = new LeafCommandProcessor<>(
                     invocationInstance,
                     method,
+                    null,
                     registryContainer,
                     commandOptions,
                     parentCommand.getMeta()
@@ -185,6 +272,7 @@ public class RootCommandProcessor<D, S, ST> implements CommandProcessor<D, S, ST
             final BranchCommandProcessor<D, S, ST> processor = new BranchCommandProcessor<>(
                     invocationInstance,
                     klass,
+                    null,
                     registryContainer,
                     commandOptions,
                     parentCommand.getMeta()
@@ -193,59 +281,7 @@ public class RootCommandProcessor<D, S, ST> implements CommandProcessor<D, S, ST
             // Not a command, ignore the method
             if (processor.getName() == null) continue;
 
-            // Validation for allowed constructor
-            final Constructor<?>[] constructors = klass.getConstructors();
-            if (constructors.length != 1) {
-                throw new CommandRegistrationException("Inner command class can only have a single constructor, " + constructors.length + " found", klass);
-            }
-
-            // Validation for allowed arguments
-            final Constructor<?> constructor = constructors[0];
-            final Parameter[] parameters = constructor.getParameters();
-
-            final boolean isStatic = Modifier.isStatic(klass.getModifiers());
-            final int arguments = (isStatic ? parameters.length : parameters.length - 1);
-            final boolean hasArgument = arguments != 0;
-
-            if (arguments > 1) {
-                throw new CommandRegistrationException("Inner command class can only have a maximum of 1 argument, " + arguments + " found", klass);
-            }
-
-            final InternalArgument<S, ST> argument;
-            if (!hasArgument) argument = null;
-            else {
-                if (!InternalCommand.PARENT_CMD_WITH_ARGS_NAME.equals(processor.getName())) {
-                    throw new CommandRegistrationException("Inner command class with argument must not have a name", klass);
-                }
-
-                final Parameter parameter = isStatic ? parameters[0] : parameters[1];
-
-                final CommandMeta.Builder meta = new CommandMeta.Builder(null);
-                processAnnotations(getCommandOptions().getCommandExtensions(), parameter, ProcessorTarget.ARGUMENT, meta);
-
-                argument = processor.argumentFromParameter(
-                        meta.build(),
-                        parameter,
-                        emptyList(),
-                        emptyMap(),
-                        ArgumentGroup.flags(emptyList()),
-                        ArgumentGroup.named(emptyList()),
-                        0
-                );
-
-                if (!(argument instanceof StringInternalArgument)) {
-                    throw new CommandRegistrationException("Inner command class with argument must not be limitless, only single string argument is allowed", klass);
-                }
-            }
-
-            final InternalBranchCommand<D, S, ST> parent = new InternalBranchCommand<>(
-                    invocationInstance,
-                    constructor,
-                    isStatic,
-                    (StringInternalArgument<S, ST>) argument,
-                    processor,
-                    parentCommand
-            );
+            final InternalBranchCommand<D, S, ST> parent = branchCommand(parentCommand, klass, processor);
 
             // Add children commands to parent
             parent.addCommands(invocationInstance, methodCommands(parent, klass.getDeclaredMethods()));
@@ -258,6 +294,66 @@ public class RootCommandProcessor<D, S, ST> implements CommandProcessor<D, S, ST
         return commands;
     }
 
+    private @NotNull InternalBranchCommand<D, S, ST> branchCommand(
+            final @NotNull InternalCommand<D, S, ST> parentCommand,
+            final @NotNull Class<?> klass,
+            final @NotNull BranchCommandProcessor<D, S, ST> processor
+    ) {
+        // Validation for allowed constructor
+        final Constructor<?>[] constructors = klass.getConstructors();
+        if (constructors.length != 1) {
+            throw new CommandRegistrationException("Inner command class can only have a single constructor, " + constructors.length + " found", klass);
+        }
+
+        // Validation for allowed arguments
+        final Constructor<?> constructor = constructors[0];
+        final Parameter[] parameters = constructor.getParameters();
+
+        final boolean isStatic = Modifier.isStatic(klass.getModifiers());
+        final int arguments = (isStatic ? parameters.length : parameters.length - 1);
+        final boolean hasArgument = arguments != 0;
+
+        if (arguments > 1) {
+            throw new CommandRegistrationException("Inner command class can only have a maximum of 1 argument, " + arguments + " found", klass);
+        }
+
+        final InternalArgument<S, ST> argument;
+        if (!hasArgument) argument = null;
+        else {
+            if (!InternalCommand.PARENT_CMD_WITH_ARGS_NAME.equals(processor.getName())) {
+                throw new CommandRegistrationException("Inner command class with argument must not have a name", klass);
+            }
+
+            final Parameter parameter = isStatic ? parameters[0] : parameters[1];
+
+            final CommandMeta.Builder meta = new CommandMeta.Builder(null);
+            processAnnotations(getCommandOptions().getCommandExtensions(), parameter, ProcessorTarget.ARGUMENT, meta);
+
+            argument = processor.argumentFromParameter(
+                    meta.build(),
+                    parameter,
+                    emptyList(),
+                    emptyMap(),
+                    ArgumentGroup.flags(emptyList()),
+                    ArgumentGroup.named(emptyList()),
+                    0
+            );
+
+            if (!(argument instanceof StringInternalArgument)) {
+                throw new CommandRegistrationException("Inner command class with argument must not be limitless, only single string argument is allowed", klass);
+            }
+        }
+
+        return new InternalBranchCommand<>(
+                invocationInstance,
+                constructor,
+                isStatic,
+                (StringInternalArgument<S, ST>) argument,
+                processor,
+                parentCommand
+        );
+    }
+
     private @NotNull String nameOf() {
         final Class<?> commandClass = invocationInstance.getClass();
         final Command commandAnnotation = commandClass.getAnnotation(Command.class);
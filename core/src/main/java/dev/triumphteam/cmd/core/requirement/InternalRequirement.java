@@ -70,6 +70,11 @@ public final class InternalRequirement<D, S> implements Requirement<D, S> {
         messageRegistry.sendMessage(messageKey, sender, new BasicMessageContext(meta));
     }
 
+    @Override
+    public @NotNull MessageKey<MessageContext> getMessageKey() {
+        return messageKey;
+    }
+
     @Override
     public @NotNull String toString() {
         return "InternalRequirement{" +
@@ -26,7 +26,9 @@ package dev.triumphteam.cmd.core.requirement;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.registry.MessageRegistry;
 import dev.triumphteam.cmd.core.extension.sender.SenderMapper;
+import dev.triumphteam.cmd.core.message.MessageKey;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public interface Requirement<D, S> {
 
@@ -41,4 +43,13 @@ public interface Requirement<D, S> {
             final @NotNull MessageRegistry<S> messageRegistry,
             final @NotNull CommandMeta meta
     );
+
+    /**
+     * The key of the message sent by {@link #onDeny}, used to tell failures apart in the metrics.
+     *
+     * @return The message key or null if it isn't known.
+     */
+    default @Nullable MessageKey<?> getMessageKey() {
+        return null;
+    }
 }
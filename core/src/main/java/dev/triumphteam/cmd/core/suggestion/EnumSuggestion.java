@@ -27,6 +27,7 @@ import dev.triumphteam.cmd.core.extension.SuggestionMapper;
 import dev.triumphteam.cmd.core.util.EnumUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -38,19 +39,53 @@ public final class EnumSuggestion<S, ST> implements InternalSuggestion.Simple<S,
     private final SuggestionMapper<ST> mapper;
     private final SuggestionMethod method;
     private final boolean suggestLowercase;
+    private final SuggestionIndex<ST> index;
 
     public EnumSuggestion(
             final @NotNull Class<? extends Enum<?>> enumType,
             final @NotNull SuggestionMapper<ST> mapper,
             final @NotNull SuggestionMethod method,
             final boolean suggestLowercase
+    ) {
+        this(enumType, mapper, method, suggestLowercase, createIndex(enumType, mapper, suggestLowercase));
+    }
+
+    EnumSuggestion(
+            final @NotNull Class<? extends Enum<?>> enumType,
+            final @NotNull SuggestionMapper<ST> mapper,
+            final @NotNull SuggestionMethod method,
+            final boolean suggestLowercase,
+            final @NotNull SuggestionIndex<ST> index
     ) {
         this.enumType = enumType;
         this.mapper = mapper;
         this.method = method;
         this.suggestLowercase = suggestLowercase;
+        this.index = index;
+    }
+
+    /**
+     * Maps the constants of the enum and indexes them, done once per enum instead of on every suggestion.
+     *
+     * @param enumType         The enum type.
+     * @param mapper           The {@link SuggestionMapper} to map the names with.
+     * @param suggestLowercase Whether the names should be suggested in lowercase.
+     * @param <ST>             The suggestion type.
+     * @return The index with the mapped names of the constants.
+     */
+    static <ST> @NotNull SuggestionIndex<ST> createIndex(
+            final @NotNull Class<? extends Enum<?>> enumType,
+            final @NotNull SuggestionMapper<ST> mapper,
+            final boolean suggestLowercase
+    ) {
+        // Fails early on enums with names that only differ in case
+        EnumUtils.getLookup(enumType);
+
+        final List<String> names = Arrays.stream(enumType.getEnumConstants())
+                .map(constant -> suggestLowercase ? constant.name().toLowerCase() : constant.name())
+                .collect(Collectors.toList());
 
-        EnumUtils.populateCache(enumType);
+        return SuggestionIndex.of(mapper.map(names), mapper);
     }
 
     @Override
@@ -60,19 +95,18 @@ public final class EnumSuggestion<S, ST> implements InternalSuggestion.Simple<S,
             final @NotNull List<String> arguments,
             final @NotNull Map<String, String> argumentsMap
     ) {
-        final List<String> suggestions = EnumUtils.getEnumConstants(enumType)
-                .values()
-                .stream()
-                .map(it -> {
-                    final Enum<?> constant = it.get();
-                    if (constant == null) return null;
-                    final String name = constant.name();
-                    return suggestLowercase ? name.toLowerCase() : name;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return index.filter(current, method);
+    }
 
-        return mapper.filter(current, mapper.map(suggestions), method);
+    @Override
+    public @NotNull List<ST> getSuggestions(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap,
+            final int limit
+    ) {
+        return index.filter(current, method, limit);
     }
 
     @Override
@@ -0,0 +1,173 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Filtering for {@link SuggestionMethod#FUZZY}.
+ * A suggestion matches when it starts with something within a few edits of the input, the allowed amount growing
+ * with the length of the input. Matches are ranked by that distance, then the ones starting with the same character
+ * as the input, then by their order, and only the best ones up to the limit are kept.
+ */
+public final class FuzzySearch {
+
+    private FuzzySearch() {
+        throw new AssertionError("Util must not be initialized");
+    }
+
+    /**
+     * Filters the given values, checking each of them against the input.
+     * Fixed suggestions are indexed instead, so they don't have to be checked one by one.
+     *
+     * @param input  What the sender typed.
+     * @param values The values to filter.
+     * @param text   Gets the text a value is filtered by.
+     * @param limit  The most values to return.
+     * @param <T>    The value type.
+     * @return The closest matching values, closest first.
+     */
+    public static <T> @NotNull List<T> filter(
+            final @NotNull String input,
+            final @NotNull List<T> values,
+            final @NotNull Function<T, String> text,
+            final int limit
+    ) {
+        if (input.isEmpty()) return values.size() <= limit ? values : values.subList(0, limit);
+
+        final String lowercaseInput = input.toLowerCase();
+        final LevenshteinAutomaton automaton = LevenshteinAutomaton.of(lowercaseInput);
+        final TopMatches matches = new TopMatches(limit, values.size());
+
+        for (int i = 0; i < values.size(); i++) {
+            final String key = text.apply(values.get(i)).toLowerCase();
+            final int distance = automaton.prefixDistance(key);
+            if (distance > automaton.getMaxDistance()) continue;
+            matches.offer(i, distance, sameStart(key, lowercaseInput));
+        }
+
+        final int[] indexes = matches.sortedIndexes();
+        final List<T> result = new ArrayList<>(indexes.length);
+        for (final int index : indexes) {
+            result.add(values.get(index));
+        }
+        return result;
+    }
+
+    static boolean sameStart(final @NotNull String key, final @NotNull String input) {
+        return !key.isEmpty() && key.charAt(0) == input.charAt(0);
+    }
+
+    /**
+     * Keeps the best matches seen, up to a limit, in a max heap so the worst kept match is replaced in log time.
+     * Each match is packed into a single long that orders by distance, then start, then index.
+     */
+    static final class TopMatches {
+
+        private final int limit;
+        private long[] heap;
+        private int size = 0;
+
+        TopMatches(final int limit, final int expected) {
+            this.limit = limit;
+            this.heap = new long[Math.max(0, Math.min(limit, Math.min(expected, 64)))];
+        }
+
+        /**
+         * Whether a match would currently be kept.
+         */
+        boolean accepts(final int distance, final boolean sameStart, final int index) {
+            if (size < limit) return true;
+            return size > 0 && pack(distance, sameStart, index) < heap[0];
+        }
+
+        /**
+         * Offers a match, replacing the worst kept one if the limit was reached.
+         *
+         * @return Whether the match was kept.
+         */
+        boolean offer(final int index, final int distance, final boolean sameStart) {
+            if (!accepts(distance, sameStart, index)) return false;
+
+            final long match = pack(distance, sameStart, index);
+            if (size < limit) {
+                if (size == heap.length) heap = Arrays.copyOf(heap, Math.max(4, Math.min(limit, heap.length * 2)));
+                heap[size] = match;
+                siftUp(size++);
+                return true;
+            }
+
+            heap[0] = match;
+            siftDown(0);
+            return true;
+        }
+
+        /**
+         * @return The indexes of the kept matches, best first.
+         */
+        int @NotNull [] sortedIndexes() {
+            final long[] sorted = Arrays.copyOf(heap, size);
+            Arrays.sort(sorted);
+
+            final int[] indexes = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                indexes[i] = (int) sorted[i];
+            }
+            return indexes;
+        }
+
+        private static long pack(final int distance, final boolean sameStart, final int index) {
+            return ((long) distance << 33) | ((sameStart ? 0L : 1L) << 32) | index;
+        }
+
+        private void siftUp(int index) {
+            final long value = heap[index];
+            while (index > 0) {
+                final int parent = (index - 1) >>> 1;
+                if (heap[parent] >= value) break;
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = value;
+        }
+
+        private void siftDown(int index) {
+            final long value = heap[index];
+            final int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && heap[child + 1] > heap[child]) child++;
+                if (value >= heap[child]) break;
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = value;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface InternalSuggestion<S, ST> {
 
@@ -42,5 +43,45 @@ public interface InternalSuggestion<S, ST> {
                 final @NotNull List<String> arguments,
                 final @NotNull Map<String, String> argumentsMap
         );
+
+        /**
+         * Same as {@link #getSuggestions(Object, String, List, Map)}, but returns at most the given amount of suggestions.
+         * Implementations should stop producing suggestions once they have enough.
+         */
+        default @NotNull List<ST> getSuggestions(
+                final @NotNull S sender,
+                final @NotNull String current,
+                final @NotNull List<String> arguments,
+                final @NotNull Map<String, String> argumentsMap,
+                final int limit
+        ) {
+            final List<ST> suggestions = getSuggestions(sender, current, arguments, argumentsMap);
+            return suggestions.size() <= limit ? suggestions : suggestions.subList(0, limit);
+        }
+    }
+
+    interface Async<S, ST> extends InternalSuggestion<S, ST> {
+
+        @NotNull CompletableFuture<List<ST>> getSuggestionsAsync(
+                final @NotNull S sender,
+                final @NotNull String current,
+                final @NotNull List<String> arguments,
+                final @NotNull Map<String, String> argumentsMap
+        );
+
+        /**
+         * Same as {@link #getSuggestionsAsync(Object, String, List, Map)}, but completes with at most the given amount of suggestions.
+         */
+        default @NotNull CompletableFuture<List<ST>> getSuggestionsAsync(
+                final @NotNull S sender,
+                final @NotNull String current,
+                final @NotNull List<String> arguments,
+                final @NotNull Map<String, String> argumentsMap,
+                final int limit
+        ) {
+            return getSuggestionsAsync(sender, current, arguments, argumentsMap).thenApply(suggestions ->
+                    suggestions.size() <= limit ? suggestions : suggestions.subList(0, limit)
+            );
+        }
     }
 }
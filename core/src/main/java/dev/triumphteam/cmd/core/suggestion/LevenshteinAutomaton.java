@@ -0,0 +1,143 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Levenshtein automaton for what the sender typed, accepting text that starts with something within a few edits of it.
+ * A state is the row of edit distances between every prefix of the input and the text read so far,
+ * with distances capped at one past the maximum, so a search can stop reading a text, or a whole trie branch,
+ * as soon as the state can't reach a match anymore.
+ */
+final class LevenshteinAutomaton {
+
+    private final char[] input;
+    private final int maxDistance;
+    // Any distance over the maximum is the same as far as matching goes
+    private final int cap;
+
+    private LevenshteinAutomaton(final @NotNull String input, final int maxDistance) {
+        this.input = input.toCharArray();
+        this.maxDistance = maxDistance;
+        this.cap = maxDistance + 1;
+    }
+
+    /**
+     * Creates the automaton for an input, allowing more typos the longer the input is.
+     *
+     * @param input What the sender typed, already lowercase.
+     * @return The automaton for the input.
+     */
+    static @NotNull LevenshteinAutomaton of(final @NotNull String input) {
+        return new LevenshteinAutomaton(input, maxDistanceFor(input.length()));
+    }
+
+    /**
+     * Short inputs have to match exactly, a single typo would make them match nearly everything.
+     */
+    static int maxDistanceFor(final int length) {
+        if (length <= 2) return 0;
+        if (length <= 5) return 1;
+        return 2;
+    }
+
+    int getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * @return The state before any text is read.
+     */
+    int @NotNull [] start() {
+        final int[] row = new int[input.length + 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = Math.min(i, cap);
+        }
+        return row;
+    }
+
+    /**
+     * Reads a character.
+     *
+     * @param row       The current state.
+     * @param character The character read, already lowercase.
+     * @param next      Where the next state is written, must not be the current state.
+     * @return The next state.
+     */
+    int @NotNull [] step(final int @NotNull [] row, final char character, final int @NotNull [] next) {
+        next[0] = Math.min(row[0] + 1, cap);
+        for (int i = 1; i < next.length; i++) {
+            final int substitution = row[i - 1] + (input[i - 1] == character ? 0 : 1);
+            final int edit = Math.min(next[i - 1], row[i]) + 1;
+            next[i] = Math.min(Math.min(substitution, edit), cap);
+        }
+        return next;
+    }
+
+    int @NotNull [] step(final int @NotNull [] row, final char character) {
+        return step(row, character, new int[row.length]);
+    }
+
+    /**
+     * @return The edit distance between the whole input and the text read so far.
+     */
+    int distance(final int @NotNull [] row) {
+        return row[input.length];
+    }
+
+    /**
+     * Distances never go down while reading, so the lowest one in the row bounds every distance after it.
+     *
+     * @return The lowest distance the text read so far can still end up with.
+     */
+    int lowerBound(final int @NotNull [] row) {
+        int min = row[0];
+        for (int i = 1; i < row.length; i++) {
+            if (row[i] < min) min = row[i];
+        }
+        return min;
+    }
+
+    /**
+     * Finds how close the text gets to the input.
+     *
+     * @param text The text, already lowercase.
+     * @return The lowest distance between the input and a prefix of the text, over the maximum if it doesn't match.
+     */
+    int prefixDistance(final @NotNull String text) {
+        int[] row = start();
+        int[] next = new int[row.length];
+        int best = distance(row);
+
+        for (int i = 0; i < text.length() && lowerBound(row) <= maxDistance; i++) {
+            final int[] current = step(row, text.charAt(i), next);
+            next = row;
+            row = current;
+            best = Math.min(best, distance(row));
+        }
+
+        return best;
+    }
+}
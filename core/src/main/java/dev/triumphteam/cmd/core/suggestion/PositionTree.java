@@ -0,0 +1,164 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Segment tree over the positions, in the given order, of suggestions that were sorted by their keys.
+ * Finds the first given suggestion of any sorted range in log time, which lets a range be visited in the given order
+ * by always splitting it around its first suggestion, without copying and sorting the whole range.
+ */
+final class PositionTree {
+
+    private static final int INITIAL_FRONTIER = 8;
+
+    private final int size;
+    private final int[] tree;
+    // Sorted index of each position, the inverse of the sorted positions
+    private final int[] sortedIndexes;
+
+    PositionTree(final int @NotNull [] sortedPositions) {
+        this.size = sortedPositions.length;
+        this.tree = new int[size * 2];
+        this.sortedIndexes = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = sortedPositions[i];
+            sortedIndexes[sortedPositions[i]] = i;
+        }
+
+        for (int i = size - 1; i > 0; i--) {
+            tree[i] = Math.min(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    /**
+     * @param from The first sorted index, inclusive.
+     * @param to   The last sorted index, exclusive.
+     * @return The lowest position in the range, {@link Integer#MAX_VALUE} if it's empty.
+     */
+    int min(final int from, final int to) {
+        int min = Integer.MAX_VALUE;
+        for (int low = from + size, high = to + size; low < high; low >>>= 1, high >>>= 1) {
+            if ((low & 1) == 1) min = Math.min(min, tree[low++]);
+            if ((high & 1) == 1) min = Math.min(min, tree[--high]);
+        }
+        return min;
+    }
+
+    /**
+     * Visits the positions in the range from the lowest up, until the visitor stops.
+     * Only what's visited is ever looked at, so stopping after a few positions is cheap no matter how big the range is.
+     *
+     * @param from    The first sorted index, inclusive.
+     * @param to      The last sorted index, exclusive.
+     * @param visitor Receives each position, returns whether to keep visiting.
+     * @return False if the visitor stopped early, true otherwise.
+     */
+    boolean forEachInOrder(final int from, final int to, final @NotNull IntPredicate visitor) {
+        if (from >= to) return true;
+
+        // Ranges left to visit, the heap orders them by their lowest position and points at their bounds
+        long[] heap = new long[INITIAL_FRONTIER];
+        int[] starts = new int[INITIAL_FRONTIER];
+        int[] ends = new int[INITIAL_FRONTIER];
+        int heapSize = 0;
+        int ranges = 0;
+
+        starts[ranges] = from;
+        ends[ranges] = to;
+        heap[heapSize++] = pack(min(from, to), ranges++);
+
+        while (heapSize > 0) {
+            final long top = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize);
+
+            final int position = (int) (top >>> 32);
+            if (!visitor.test(position)) return false;
+
+            final int range = (int) top;
+            final int start = starts[range];
+            final int end = ends[range];
+            final int split = sortedIndexes[position];
+
+            // Each visit adds at most two ranges
+            if (ranges + 2 > starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            if (heapSize + 2 > heap.length) heap = Arrays.copyOf(heap, heap.length * 2);
+
+            if (start < split) {
+                starts[ranges] = start;
+                ends[ranges] = split;
+                heap[heapSize] = pack(min(start, split), ranges++);
+                siftUp(heap, heapSize++);
+            }
+            if (split + 1 < end) {
+                starts[ranges] = split + 1;
+                ends[ranges] = end;
+                heap[heapSize] = pack(min(split + 1, end), ranges++);
+                siftUp(heap, heapSize++);
+            }
+        }
+
+        return true;
+    }
+
+    private static long pack(final int position, final int range) {
+        return ((long) position << 32) | range;
+    }
+
+    private static void siftUp(final long @NotNull [] heap, int index) {
+        final long value = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (heap[parent] <= value) break;
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void siftDown(final long @NotNull [] heap, final int size) {
+        if (size == 0) return;
+
+        final long value = heap[0];
+        final int half = size >>> 1;
+        int index = 0;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (value <= heap[child]) break;
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -63,7 +63,25 @@ public final class SimpleSuggestion<S, ST> implements InternalSuggestion.Simple<
             final @NotNull List<String> arguments,
             final @NotNull Map<String, String> argumentsMap
     ) {
-        return mapper.filter(current, holder.getSuggestions(SuggestionContext.of(current, sender, arguments, argumentsMap, extra)), method);
+        return getSuggestions(sender, current, arguments, argumentsMap, SuggestionContext.NO_LIMIT);
+    }
+
+    @Override
+    public @NotNull List<ST> getSuggestions(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap,
+            final int limit
+    ) {
+        final SuggestionContext<S> context = SuggestionContext.of(current, sender, arguments, argumentsMap, extra, limit);
+
+        // Plain suggestions are filtered first, so only the ones that are kept need mapping
+        if (holder instanceof SimpleSuggestionHolder.Raw) {
+            return mapper.filterAndMap(current, ((SimpleSuggestionHolder.Raw<S, ST>) holder).getRawSuggestions(context), method, limit);
+        }
+
+        return mapper.filter(current, holder.getSuggestions(context), method, limit);
     }
 
     @Override
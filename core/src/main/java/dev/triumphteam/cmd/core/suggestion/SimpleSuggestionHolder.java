@@ -25,15 +25,28 @@ package dev.triumphteam.cmd.core.suggestion;
 
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
 import dev.triumphteam.cmd.core.extension.SuggestionMapper;
+import dev.triumphteam.cmd.core.invoker.MethodInvoker;
+import dev.triumphteam.cmd.core.util.BoundedCache;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public interface SimpleSuggestionHolder<S, ST> {
 
     @NotNull List<ST> getSuggestions(final @NotNull SuggestionContext<S> context);
 
+    /**
+     * Holder whose suggestions start as plain strings, so they can be filtered before they're mapped.
+     */
+    interface Raw<S, ST> extends SimpleSuggestionHolder<S, ST> {
+
+        @NotNull List<String> getRawSuggestions(final @NotNull SuggestionContext<S> context);
+    }
+
     interface Static<ST> extends SimpleSuggestionHolder<Object, ST> {
 
         boolean contains(final @NotNull String suggestion);
@@ -55,7 +68,7 @@ public interface SimpleSuggestionHolder<S, ST> {
         }
     }
 
-    class SimpleResolver<S, ST> implements SimpleSuggestionHolder<S, ST> {
+    class SimpleResolver<S, ST> implements Raw<S, ST> {
 
         private final SuggestionResolver.Simple<S> resolver;
         private final SuggestionMapper<ST> mapper;
@@ -70,14 +83,91 @@ public interface SimpleSuggestionHolder<S, ST> {
 
         @Override
         public @NotNull List<ST> getSuggestions(final @NotNull SuggestionContext<S> context) {
-            return mapper.map(resolver.resolve(context));
+            return mapper.map(getRawSuggestions(context));
+        }
+
+        @Override
+        public @NotNull List<String> getRawSuggestions(final @NotNull SuggestionContext<S> context) {
+            return resolver.resolve(context);
+        }
+    }
+
+    /**
+     * Caches the results of another holder as described by a {@link SuggestionCachePolicy}.
+     * Results are kept per suggestion extra and the arguments before the current one, and per sender if required.
+     */
+    class Cached<S, ST> implements SimpleSuggestionHolder<S, ST> {
+
+        private final SimpleSuggestionHolder<S, ST> holder;
+        private final SuggestionCachePolicy policy;
+        private final BoundedCache<List<Object>, Result<ST>> results;
+        private volatile long lastPurge;
+
+        public Cached(
+                final @NotNull SimpleSuggestionHolder<S, ST> holder,
+                final @NotNull SuggestionCachePolicy policy
+        ) {
+            this.holder = holder;
+            this.policy = policy;
+            this.results = new BoundedCache<>(policy.getMaximumSize());
+            this.lastPurge = System.nanoTime();
+        }
+
+        @Override
+        public @NotNull List<ST> getSuggestions(final @NotNull SuggestionContext<S> context) {
+            final List<Object> key = createKey(context);
+            // Compared ignoring case, like the suggestions are filtered
+            final String input = context.getInput().toLowerCase();
+            final long now = System.nanoTime();
+            final long expireAfter = policy.getExpireAfterNanos();
+
+            // Anything matching the current input also matched the cached one, it's filtered again afterwards
+            final Result<ST> cached = results.get(key);
+            if (cached != null && now - cached.resolvedAt < expireAfter && input.startsWith(cached.input)) {
+                return cached.suggestions;
+            }
+
+            // Expired results would otherwise keep their senders until evicted, dropped at most once per expiry time
+            if (now - lastPurge >= expireAfter) {
+                lastPurge = now;
+                results.removeValuesIf(it -> now - it.resolvedAt >= expireAfter);
+            }
+
+            // Resolved without a limit, the cut off suggestions could match what the sender types next
+            final List<ST> suggestions = Collections.unmodifiableList(new ArrayList<>(holder.getSuggestions(context.withLimit(SuggestionContext.NO_LIMIT))));
+            results.put(key, new Result<>(input, suggestions, now));
+            return suggestions;
+        }
+
+        private @NotNull List<Object> createKey(final @NotNull SuggestionContext<S> context) {
+            final List<String> arguments = context.getArguments();
+            final List<String> previous = arguments.isEmpty()
+                    ? Collections.emptyList()
+                    : new ArrayList<>(arguments.subList(0, arguments.size() - 1));
+
+            return Arrays.asList(policy.isPerSender() ? context.getSender() : null, context.getExtra(), previous);
+        }
+
+        private static final class Result<ST> {
+
+            private final String input;
+            private final List<ST> suggestions;
+            private final long resolvedAt;
+
+            private Result(final @NotNull String input, final @NotNull List<ST> suggestions, final long resolvedAt) {
+                this.input = input;
+                this.suggestions = suggestions;
+                this.resolvedAt = resolvedAt;
+            }
         }
     }
 
     abstract class AbstractLocal<S, ST> implements SimpleSuggestionHolder<S, ST> {
 
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+
         private final Object invocationInstance;
-        private final Method method;
+        private final MethodInvoker invoker;
         private final boolean needsContext;
 
         public AbstractLocal(
@@ -86,24 +176,26 @@ public interface SimpleSuggestionHolder<S, ST> {
                 final boolean needsContext
         ) {
             this.invocationInstance = invocationInstance;
-            this.method = method;
+            this.invoker = MethodInvoker.of(method);
             this.needsContext = needsContext;
         }
 
         protected @NotNull Object invoke(final @NotNull SuggestionContext<S> context) {
             try {
                 if (needsContext) {
-                    return method.invoke(invocationInstance, context);
+                    return invoker.invoke(invocationInstance, new Object[]{context});
                 }
 
-                return method.invoke(invocationInstance);
-            } catch (final Exception e) {
-                throw new CommandExecutionException("Failed to create suggestions for method '" + method + "'.");
+                return invoker.invoke(invocationInstance, NO_ARGUMENTS);
+            } catch (final Error error) {
+                throw error;
+            } catch (final Throwable e) {
+                throw new CommandExecutionException("Failed to create suggestions for method '" + invoker.getMethod() + "'.");
             }
         }
     }
 
-    class SimpleLocal<S, ST> extends AbstractLocal<S, ST> {
+    class SimpleLocal<S, ST> extends AbstractLocal<S, ST> implements Raw<S, ST> {
 
         private final SuggestionMapper<ST> mapper;
 
@@ -119,10 +211,15 @@ public interface SimpleSuggestionHolder<S, ST> {
 
         @Override
         public @NotNull List<ST> getSuggestions(final @NotNull SuggestionContext<S> context) {
+            return mapper.map(getRawSuggestions(context));
+        }
+
+        @Override
+        public @NotNull List<String> getRawSuggestions(final @NotNull SuggestionContext<S> context) {
             // We can make guaranteed assumptions here.
             // Object is List<String> at this point.
             //noinspection unchecked
-            return mapper.map((List<String>) invoke(context));
+            return (List<String>) invoke(context);
         }
     }
 
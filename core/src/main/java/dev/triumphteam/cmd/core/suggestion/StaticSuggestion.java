@@ -34,6 +34,7 @@ public final class StaticSuggestion<S, ST> implements InternalSuggestion.Simple<
     private final SimpleSuggestionHolder.Static<ST> holder;
     private final SuggestionMapper<ST> mapper;
     private final SuggestionMethod method;
+    private final SuggestionIndex<ST> index;
 
     public StaticSuggestion(
             SimpleSuggestionHolder.Static<ST> holder,
@@ -43,6 +44,7 @@ public final class StaticSuggestion<S, ST> implements InternalSuggestion.Simple<
         this.holder = holder;
         this.mapper = mapper;
         this.method = method;
+        this.index = SuggestionIndex.of(holder.getSuggestions(), mapper);
     }
 
     @Override
@@ -52,7 +54,18 @@ public final class StaticSuggestion<S, ST> implements InternalSuggestion.Simple<
             final @NotNull List<String> arguments,
             final @NotNull Map<String, String> argumentsMap
     ) {
-        return mapper.filter(current, getSuggestions(), method);
+        return index.filter(current, method);
+    }
+
+    @Override
+    public @NotNull List<ST> getSuggestions(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap,
+            final int limit
+    ) {
+        return index.filter(current, method, limit);
     }
 
     public boolean contains(final @NotNull String suggestion) {
@@ -0,0 +1,126 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how the results of a suggestion resolver are cached.
+ * A cached result is reused while it hasn't expired and the input still starts with the input it was resolved for,
+ * since everything matching the longer input also matched the shorter one, it's just filtered again.
+ * Resolvers that are cached must only narrow their results by the input, never add to them when it grows.
+ */
+public final class SuggestionCachePolicy {
+
+    private final long expireAfterNanos;
+    private final int maximumSize;
+    private final boolean perSender;
+
+    private SuggestionCachePolicy(final @NotNull Builder builder) {
+        this.expireAfterNanos = builder.expireAfterNanos;
+        this.maximumSize = builder.maximumSize;
+        this.perSender = builder.perSender;
+    }
+
+    @Contract(" -> new")
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return How long a result is kept for, in nanoseconds.
+     */
+    public long getExpireAfterNanos() {
+        return expireAfterNanos;
+    }
+
+    /**
+     * @return How many results are kept at most.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return Whether each sender has their own results.
+     */
+    public boolean isPerSender() {
+        return perSender;
+    }
+
+    public static final class Builder {
+
+        private long expireAfterNanos = TimeUnit.SECONDS.toNanos(5);
+        private int maximumSize = 256;
+        private boolean perSender = false;
+
+        private Builder() {}
+
+        /**
+         * Sets how long a result is kept for, 5 seconds by default.
+         *
+         * @param duration The duration.
+         * @param unit     The unit of the duration.
+         * @return This builder.
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder expireAfter(final long duration, final @NotNull TimeUnit unit) {
+            if (duration <= 0) throw new IllegalArgumentException("Duration must be positive, got " + duration);
+            this.expireAfterNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets how many results are kept at most, 256 by default.
+         *
+         * @param maximumSize The maximum amount of results.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder maximumSize(final int maximumSize) {
+            if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive, got " + maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Makes each sender have their own results, for resolvers that suggest different things to different senders.
+         *
+         * @return This builder.
+         */
+        @Contract(" -> this")
+        public @NotNull Builder perSender() {
+            this.perSender = true;
+            return this;
+        }
+
+        @Contract(" -> new")
+        public @NotNull SuggestionCachePolicy build() {
+            return new SuggestionCachePolicy(this);
+        }
+    }
+}
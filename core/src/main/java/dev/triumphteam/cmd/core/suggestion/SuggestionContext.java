@@ -31,11 +31,17 @@ import java.util.Objects;
 
 public final class SuggestionContext<S> {
 
+    /**
+     * Limit used when the platform shows every suggestion.
+     */
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
     private final String input;
     private final S sender;
     private final List<String> arguments;
     private final Map<String, String> argumentsMap;
     private final String extra;
+    private final int limit;
 
     public SuggestionContext(
             final @NotNull String input,
@@ -44,11 +50,36 @@ public final class SuggestionContext<S> {
             final @NotNull Map<String, String> argumentsMap,
             final @NotNull String extra
     ) {
+        this(input, sender, arguments, argumentsMap, extra, NO_LIMIT);
+    }
+
+    public SuggestionContext(
+            final @NotNull String input,
+            final @NotNull S sender,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap,
+            final @NotNull String extra,
+            final int limit
+    ) {
+        if (limit < 0) throw new IllegalArgumentException("Limit must not be negative, got " + limit);
+
         this.input = input;
         this.sender = sender;
         this.arguments = arguments;
         this.argumentsMap = argumentsMap;
         this.extra = extra;
+        this.limit = limit;
+    }
+
+    public static <S> @NotNull SuggestionContext<S> of(
+            final @NotNull String input,
+            final @NotNull S sender,
+            final @NotNull List<String> arguments,
+            final @NotNull Map<String, String> argumentsMap,
+            final @NotNull String extra,
+            final int limit
+    ) {
+        return new SuggestionContext<>(input, sender, arguments, argumentsMap, extra, limit);
     }
 
     public static <S> @NotNull SuggestionContext<S> of(
@@ -90,16 +121,37 @@ public final class SuggestionContext<S> {
         return extra;
     }
 
+    /**
+     * The most suggestions the platform will show, anything past it is cut off.
+     * Resolvers that already filter by the input can stop once they have this many.
+     *
+     * @return The limit, or {@link #NO_LIMIT} if every suggestion is shown.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Creates a copy of this context with a different limit.
+     *
+     * @param limit The new limit.
+     * @return The new context, or this one if the limit is the same.
+     */
+    public @NotNull SuggestionContext<S> withLimit(final int limit) {
+        if (this.limit == limit) return this;
+        return new SuggestionContext<>(input, sender, arguments, argumentsMap, extra, limit);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         final SuggestionContext<?> that = (SuggestionContext<?>) o;
-        return Objects.equals(input, that.input) && Objects.equals(sender, that.sender) && Objects.equals(arguments, that.arguments) && Objects.equals(extra, that.extra);
+        return Objects.equals(input, that.input) && Objects.equals(sender, that.sender) && Objects.equals(arguments, that.arguments) && Objects.equals(extra, that.extra) && limit == that.limit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(input, sender, arguments, extra);
+        return Objects.hash(input, sender, arguments, extra, limit);
     }
 
     @Override
@@ -109,6 +161,7 @@ public final class SuggestionContext<S> {
                 ", sender=" + sender +
                 ", arguments=" + arguments +
                 ", extra='" + extra + '\'' +
+                ", limit=" + limit +
                 '}';
     }
 }
@@ -0,0 +1,315 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import dev.triumphteam.cmd.core.extension.SuggestionMapper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Index over a fixed list of suggestions, built once so filtering doesn't lowercase every suggestion on every call.
+ * The suggestions are sorted by their lowercase filter text, which makes the ones starting with an input
+ * a contiguous range that is found by binary search, then visited in the order they were given through a {@link PositionTree}.
+ * Big enough indexes also keep a {@link TrigramIndex}, so looking for the ones containing an input
+ * only checks the suggestions that have all of its trigrams.
+ * The sorted keys double as a trie for {@link SuggestionMethod#FUZZY}, walked with a {@link LevenshteinAutomaton}.
+ *
+ * @param <ST> The suggestion type.
+ */
+final class SuggestionIndex<ST> {
+
+    // Under this, scanning every key is about as fast as intersecting the postings
+    private static final int TRIGRAM_THRESHOLD = 256;
+
+    private final List<ST> values;
+    private final String[] keys;
+
+    private final String[] sortedKeys;
+    // Position in the given order of each sorted suggestion
+    private final int[] sortedPositions;
+    private final PositionTree positions;
+
+    private final @Nullable TrigramIndex trigrams;
+
+    private SuggestionIndex(final @NotNull List<ST> values, final @NotNull String[] keys) {
+        this.values = values;
+        this.keys = keys;
+
+        final Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // Stable, so equal keys keep the order they were given in
+        Arrays.sort(order, Comparator.comparing(index -> keys[index]));
+
+        this.sortedKeys = new String[keys.length];
+        this.sortedPositions = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedPositions[i] = order[i];
+        }
+        this.positions = new PositionTree(sortedPositions);
+
+        this.trigrams = keys.length < TRIGRAM_THRESHOLD ? null : TrigramIndex.of(keys);
+    }
+
+    /**
+     * Creates an index for the given suggestions.
+     *
+     * @param values The already mapped suggestions.
+     * @param mapper The {@link SuggestionMapper} that gives the text each suggestion is filtered by.
+     * @param <ST>   The suggestion type.
+     * @return The index for the suggestions.
+     */
+    static <ST> @NotNull SuggestionIndex<ST> of(final @NotNull List<ST> values, final @NotNull SuggestionMapper<ST> mapper) {
+        final List<ST> copy = Collections.unmodifiableList(new ArrayList<>(values));
+
+        final String[] keys = new String[copy.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = mapper.toFilterString(copy.get(i)).toLowerCase();
+        }
+
+        return new SuggestionIndex<>(copy, keys);
+    }
+
+    /**
+     * Filters the suggestions the same way {@link SuggestionMapper#filter} would.
+     *
+     * @param input  What the sender typed.
+     * @param method The {@link SuggestionMethod} to filter with.
+     * @return The matching suggestions, which must not be modified.
+     */
+    @NotNull List<ST> filter(final @NotNull String input, final @NotNull SuggestionMethod method) {
+        return filter(input, method, SuggestionContext.NO_LIMIT);
+    }
+
+    /**
+     * Filters the suggestions the same way {@link SuggestionMapper#filter} would, stopping at the limit.
+     *
+     * @param input  What the sender typed.
+     * @param method The {@link SuggestionMethod} to filter with.
+     * @param limit  The most suggestions to return.
+     * @return The first matching suggestions, which must not be modified.
+     */
+    @NotNull List<ST> filter(final @NotNull String input, final @NotNull SuggestionMethod method, final int limit) {
+        if (input.isEmpty()) return limit(values, limit);
+
+        switch (method) {
+            case STARTS_WITH:
+                return startingWith(input.toLowerCase(), limit);
+
+            case CONTAINS:
+                return containing(input.toLowerCase(), limit);
+
+            case FUZZY:
+                return fuzzy(input.toLowerCase(), limit);
+
+            default:
+                return limit(values, limit);
+        }
+    }
+
+    /**
+     * @return All the suggestions, in the order they were given.
+     */
+    @NotNull List<ST> getValues() {
+        return values;
+    }
+
+    /**
+     * Finds the range of keys starting with the prefix, and keeps the first ones in the order the suggestions were given,
+     * so the limit drops the same suggestions filtering them one by one would.
+     * Only the kept suggestions are visited, the rest of the range is never copied or sorted.
+     */
+    private @NotNull List<ST> startingWith(final @NotNull String prefix, final int limit) {
+        final int from = firstAtOrAfter(prefix);
+        final int to = firstPastPrefix(prefix, from);
+        if (from == to || limit == 0) return Collections.emptyList();
+        if (to - from == values.size()) return limit(values, limit);
+
+        final List<ST> matches = new ArrayList<>(Math.min(to - from, limit));
+        positions.forEachInOrder(from, to, position -> {
+            matches.add(values.get(position));
+            return matches.size() < limit;
+        });
+        return matches;
+    }
+
+    private @NotNull List<ST> containing(final @NotNull String part, final int limit) {
+        final List<ST> matches = new ArrayList<>();
+        if (limit == 0) return matches;
+
+        if (trigrams != null && part.length() >= TrigramIndex.GRAM_LENGTH) {
+            for (final int candidate : trigrams.candidates(part)) {
+                if (!keys[candidate].contains(part)) continue;
+                matches.add(values.get(candidate));
+                if (matches.size() == limit) break;
+            }
+            return matches;
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            if (!keys[i].contains(part)) continue;
+            matches.add(values.get(i));
+            if (matches.size() == limit) break;
+        }
+        return matches;
+    }
+
+    private @NotNull List<ST> fuzzy(final @NotNull String input, final int limit) {
+        final LevenshteinAutomaton automaton = LevenshteinAutomaton.of(input);
+        final FuzzySearch.TopMatches matches = new FuzzySearch.TopMatches(limit, sortedKeys.length);
+        walk(automaton, input, matches, 0, sortedKeys.length, 0, automaton.start(), Integer.MAX_VALUE);
+
+        // Ties are broken by the position the suggestions were given in, like filtering them one by one does
+        final int[] kept = matches.sortedIndexes();
+        final List<ST> result = new ArrayList<>(kept.length);
+        for (final int position : kept) {
+            result.add(values.get(position));
+        }
+        return result;
+    }
+
+    /**
+     * Walks the automaton over the sorted keys as if they were a trie.
+     * The keys in the given range all share their first {@code depth} characters, which makes the range a trie node,
+     * the keys that end there come first and the rest are split into children by their next character.
+     * Branches the automaton can't match anymore are skipped, so only a small part of the keys is ever read.
+     * Matches are offered with their position in the given order, the {@link PositionTree} gives the lowest one
+     * of a branch to tell if anything in it could still be kept.
+     *
+     * @param previousBest The lowest distance found before reading the characters of this node.
+     */
+    private void walk(
+            final @NotNull LevenshteinAutomaton automaton,
+            final @NotNull String input,
+            final FuzzySearch.@NotNull TopMatches matches,
+            final int from,
+            final int to,
+            final int depth,
+            final int @NotNull [] row,
+            final int previousBest
+    ) {
+        final int maxDistance = automaton.getMaxDistance();
+        final int best = Math.min(previousBest, automaton.distance(row));
+
+        int index = from;
+        // Keys that end at this node
+        for (; index < to && sortedKeys[index].length() == depth; index++) {
+            if (best <= maxDistance) matches.offer(sortedPositions[index], best, FuzzySearch.sameStart(sortedKeys[index], input));
+        }
+
+        if (automaton.lowerBound(row) > maxDistance) {
+            // Reading further can't get any closer, so every key left matches as well as this node does.
+            // Visited in the given order, once one isn't kept, the ones after it won't be either,
+            // unless they could still start like the input, which is only decided below the root.
+            if (best > maxDistance) return;
+            positions.forEachInOrder(index, to, position -> {
+                final boolean kept = matches.offer(position, best, FuzzySearch.sameStart(keys[position], input));
+                return kept || depth == 0;
+            });
+            return;
+        }
+
+        while (index < to) {
+            final char character = sortedKeys[index].charAt(depth);
+            final int end = firstPastCharacter(character, depth, index, to);
+            final int[] next = automaton.step(row, character);
+
+            // Skips the branch if even its closest possible key wouldn't be kept
+            final int bound = Math.min(best, automaton.lowerBound(next));
+            final boolean sameStart = depth > 0 ? FuzzySearch.sameStart(sortedKeys[index], input) : character == input.charAt(0);
+            if (bound <= maxDistance && matches.accepts(bound, sameStart, positions.min(index, end))) {
+                walk(automaton, input, matches, index, end, depth + 1, next, best);
+            }
+
+            index = end;
+        }
+    }
+
+    /**
+     * Keys in the range all have a character at the depth, and sorting makes those characters go up.
+     *
+     * @return The first index in the range whose character at the depth is past the given one.
+     */
+    private int firstPastCharacter(final char character, final int depth, final int from, final int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sortedKeys[middle].charAt(depth) <= character) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static <ST> @NotNull List<ST> limit(final @NotNull List<ST> suggestions, final int limit) {
+        return suggestions.size() <= limit ? suggestions : suggestions.subList(0, limit);
+    }
+
+    /**
+     * @return The first index whose key isn't lower than the prefix.
+     */
+    private int firstAtOrAfter(final @NotNull String prefix) {
+        int low = 0;
+        int high = sortedKeys.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sortedKeys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Keys starting with the prefix come right after it, so this finds where they stop.
+     *
+     * @return The first index from the given one whose key doesn't start with the prefix.
+     */
+    private int firstPastPrefix(final @NotNull String prefix, final int from) {
+        int low = from;
+        int high = sortedKeys.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sortedKeys[middle].startsWith(prefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
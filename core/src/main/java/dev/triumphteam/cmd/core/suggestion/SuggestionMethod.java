@@ -26,5 +26,9 @@ package dev.triumphteam.cmd.core.suggestion;
 public enum SuggestionMethod {
     STARTS_WITH,
     CONTAINS,
+    /**
+     * Suggestions starting with something within a few typos of the input, closest ones first.
+     */
+    FUZZY,
     NONE;
 }
@@ -25,13 +25,14 @@ package dev.triumphteam.cmd.core.suggestion;
 
 import dev.triumphteam.cmd.core.extension.SuggestionMapper;
 import dev.triumphteam.cmd.core.extension.registry.Registry;
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Registry used for registering new suggestions for all commands to use.
@@ -40,8 +41,9 @@ import java.util.Map;
  */
 public final class SuggestionRegistry<S, ST> implements Registry {
 
-    private final Map<SuggestionKey, InternalSuggestion<S, ST>> suggestions = new HashMap<>();
-    private final Map<Class<?>, InternalSuggestion<S, ST>> typeSuggestions = new HashMap<>();
+    private final Map<SuggestionKey, InternalSuggestion<S, ST>> suggestions = new CopyOnWriteMap<>();
+    private final Map<Class<?>, InternalSuggestion<S, ST>> typeSuggestions = new CopyOnWriteMap<>();
+    private final Map<EnumIndexKey, SuggestionIndex<ST>> enumIndexes = new CopyOnWriteMap<>();
 
     public void register(
             final @NotNull SuggestionKey key,
@@ -68,6 +70,37 @@ public final class SuggestionRegistry<S, ST> implements Registry {
         this.suggestions.put(key, new SimpleSuggestion<>(new SimpleSuggestionHolder.RichResolver<>(resolver), suggestionMapper, method));
     }
 
+    public void register(
+            final @NotNull SuggestionKey key,
+            final @NotNull SuggestionResolver.Simple<S> resolver,
+            final @NotNull SuggestionMethod method,
+            final @NotNull SuggestionMapper<ST> suggestionMapper,
+            final @NotNull SuggestionCachePolicy cachePolicy
+    ) {
+        final SimpleSuggestionHolder<S, ST> holder = new SimpleSuggestionHolder.SimpleResolver<>(resolver, suggestionMapper);
+        this.suggestions.put(key, new SimpleSuggestion<>(new SimpleSuggestionHolder.Cached<>(holder, cachePolicy), suggestionMapper, method));
+    }
+
+    public void registerRich(
+            final @NotNull SuggestionKey key,
+            final @NotNull SuggestionResolver<S, ST> resolver,
+            final @NotNull SuggestionMethod method,
+            final @NotNull SuggestionMapper<ST> suggestionMapper,
+            final @NotNull SuggestionCachePolicy cachePolicy
+    ) {
+        final SimpleSuggestionHolder<S, ST> holder = new SimpleSuggestionHolder.RichResolver<>(resolver);
+        this.suggestions.put(key, new SimpleSuggestion<>(new SimpleSuggestionHolder.Cached<>(holder, cachePolicy), suggestionMapper, method));
+    }
+
+    public void registerAsync(
+            final @NotNull SuggestionKey key,
+            final @NotNull SuggestionResolver.Async<S, ST> resolver,
+            final @NotNull SuggestionMethod method,
+            final @NotNull SuggestionMapper<ST> suggestionMapper
+    ) {
+        this.suggestions.put(key, new AsyncSuggestion<>(resolver, suggestionMapper, method));
+    }
+
     public void registerStatic(
             final @NotNull SuggestionKey key,
             final @NotNull List<String> suggestions,
@@ -104,6 +137,30 @@ public final class SuggestionRegistry<S, ST> implements Registry {
         this.typeSuggestions.put(type, new SimpleSuggestion<>(new SimpleSuggestionHolder.RichResolver<>(resolver), suggestionMapper, method));
     }
 
+    /**
+     * Creates a suggestion for the constants of an enum.
+     * The mapped constants are shared by every suggestion of the same enum, so they're only created once.
+     *
+     * @param type             The enum type.
+     * @param method           The {@link SuggestionMethod} to filter with.
+     * @param suggestLowercase Whether the names should be suggested in lowercase.
+     * @param suggestionMapper The {@link SuggestionMapper} to map the names with.
+     * @return A suggestion for the enum.
+     */
+    public @NotNull InternalSuggestion<S, ST> getEnumSuggestion(
+            final @NotNull Class<? extends Enum<?>> type,
+            final @NotNull SuggestionMethod method,
+            final boolean suggestLowercase,
+            final @NotNull SuggestionMapper<ST> suggestionMapper
+    ) {
+        final SuggestionIndex<ST> index = enumIndexes.computeIfAbsent(
+                new EnumIndexKey(type, suggestLowercase, suggestionMapper),
+                key -> EnumSuggestion.createIndex(type, suggestionMapper, suggestLowercase)
+        );
+
+        return new EnumSuggestion<>(type, suggestionMapper, method, suggestLowercase, index);
+    }
+
     @Contract("null -> null")
     public @Nullable InternalSuggestion<S, ST> getSuggestion(final @Nullable SuggestionKey key) {
         if (key == null) return null;
@@ -113,4 +170,34 @@ public final class SuggestionRegistry<S, ST> implements Registry {
     public @Nullable InternalSuggestion<S, ST> getSuggestion(final @NotNull Class<?> type) {
         return this.typeSuggestions.get(type);
     }
+
+    private static final class EnumIndexKey {
+
+        private final Class<? extends Enum<?>> type;
+        private final boolean suggestLowercase;
+        private final SuggestionMapper<?> mapper;
+
+        private EnumIndexKey(
+                final @NotNull Class<? extends Enum<?>> type,
+                final boolean suggestLowercase,
+                final @NotNull SuggestionMapper<?> mapper
+        ) {
+            this.type = type;
+            this.suggestLowercase = suggestLowercase;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final EnumIndexKey that = (EnumIndexKey) o;
+            return suggestLowercase == that.suggestLowercase && type.equals(that.type) && mapper.equals(that.mapper);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, suggestLowercase, mapper);
+        }
+    }
 }
@@ -26,6 +26,7 @@ package dev.triumphteam.cmd.core.suggestion;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Functional interface to allow simple requirement suggestion without the use of any hard coded data.e command sender type.
@@ -41,4 +42,14 @@ public interface SuggestionResolver<S, ST> {
         @Override
         @NotNull List<String> resolve(final @NotNull SuggestionContext<S> context);
     }
+
+    /**
+     * A resolver that completes its suggestions later, for suggestions that need I/O to be resolved.
+     * The platform replies once the future completes, or with no suggestions if it takes too long.
+     */
+    @FunctionalInterface
+    interface Async<S, ST> {
+
+        @NotNull CompletableFuture<List<ST>> resolve(final @NotNull SuggestionContext<S> context);
+    }
 }
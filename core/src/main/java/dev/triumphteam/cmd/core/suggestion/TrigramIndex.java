@@ -0,0 +1,157 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Inverted index from every three character sequence to the keys that contain it.
+ * A key can only contain a text if it contains all of the text's trigrams, so intersecting their posting lists
+ * leaves only a few candidates to check instead of every key.
+ * The postings are kept in an open addressing table so lookups don't box the trigrams.
+ */
+final class TrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final int[] NO_CANDIDATES = new int[0];
+
+    private final long[] grams;
+    private final int[][] postings;
+    private final int mask;
+
+    private TrigramIndex(final long @NotNull [] grams, final int @NotNull [][] postings) {
+        this.grams = grams;
+        this.postings = postings;
+        this.mask = grams.length - 1;
+    }
+
+    /**
+     * Indexes the given keys, they're referenced by their position in the array.
+     *
+     * @param keys The keys to index, already lowercase.
+     * @return The index of the keys.
+     */
+    static @NotNull TrigramIndex of(final @NotNull String @NotNull [] keys) {
+        final Map<Long, int[]> lists = new HashMap<>();
+        final Map<Long, Integer> sizes = new HashMap<>();
+
+        for (int index = 0; index < keys.length; index++) {
+            final String key = keys[index];
+            for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+                final long gram = gram(key, i);
+
+                int[] list = lists.get(gram);
+                final int size = sizes.getOrDefault(gram, 0);
+                // Keys are added in order, so a repeated trigram in the same key is always the last one added
+                if (list != null && list[size - 1] == index) continue;
+
+                if (list == null) {
+                    list = new int[4];
+                } else if (size == list.length) {
+                    list = Arrays.copyOf(list, size * 2);
+                }
+
+                list[size] = index;
+                lists.put(gram, list);
+                sizes.put(gram, size + 1);
+            }
+        }
+
+        int size = 2;
+        while (size < lists.size() * 2) size <<= 1;
+        final int capacity = size;
+
+        final long[] grams = new long[capacity];
+        final int[][] postings = new int[capacity][];
+        lists.forEach((gram, list) -> {
+            int slot = slot(gram, capacity - 1);
+            while (postings[slot] != null) slot = (slot + 1) & (capacity - 1);
+
+            grams[slot] = gram;
+            postings[slot] = Arrays.copyOf(list, sizes.get(gram));
+        });
+
+        return new TrigramIndex(grams, postings);
+    }
+
+    /**
+     * Gets the keys that contain every trigram of the text, in ascending order.
+     * They still need to be checked, the trigrams might not be in the same order as in the text.
+     *
+     * @param text The text to look for, already lowercase and at least {@link #GRAM_LENGTH} long.
+     * @return The positions of the keys that might contain the text.
+     */
+    int @NotNull [] candidates(final @NotNull String text) {
+        final int count = text.length() - GRAM_LENGTH + 1;
+        final int[][] lists = new int[count][];
+
+        int shortest = 0;
+        for (int i = 0; i < count; i++) {
+            final int[] list = get(gram(text, i));
+            if (list == null) return NO_CANDIDATES;
+
+            lists[i] = list;
+            if (list.length < lists[shortest].length) shortest = i;
+        }
+
+        final int[] base = lists[shortest];
+        final int[] result = new int[base.length];
+        int size = 0;
+
+        candidates:
+        for (final int candidate : base) {
+            for (final int[] list : lists) {
+                if (list != base && Arrays.binarySearch(list, candidate) < 0) continue candidates;
+            }
+            result[size++] = candidate;
+        }
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private int @Nullable [] get(final long gram) {
+        int slot = slot(gram, mask);
+        int[] list;
+        while ((list = postings[slot]) != null) {
+            if (grams[slot] == gram) return list;
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private static long gram(final @NotNull String text, final int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static int slot(final long gram, final int mask) {
+        final long hash = gram * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
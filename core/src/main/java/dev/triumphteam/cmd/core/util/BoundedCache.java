@@ -0,0 +1,84 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A small thread safe cache that holds at most a fixed amount of entries.
+ * When full, adding a new entry evicts the one that was used the longest ago.
+ * Every operation locks, values should be computed outside of the cache and only then put in.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public final class BoundedCache<K, V> {
+
+    private final LinkedHashMap<K, V> entries;
+
+    public BoundedCache(final int maximumSize) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive, got " + maximumSize);
+
+        // Access order, so the eldest entry is always the least recently used one
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final @NotNull Map.Entry<K, V> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    public synchronized @Nullable V get(final @NotNull K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(final @NotNull K key, final @NotNull V value) {
+        entries.put(key, value);
+    }
+
+    public synchronized void remove(final @NotNull K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void removeIf(final @NotNull Predicate<K> filter) {
+        entries.keySet().removeIf(filter);
+    }
+
+    public synchronized void removeValuesIf(final @NotNull Predicate<V> filter) {
+        entries.values().removeIf(filter);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link Map} for data that is written rarely, on registration, and read all the time, possibly from many threads.
+ * Reads go straight to an immutable snapshot and never lock, every write copies the snapshot and publishes the new one.
+ * Writes are serialized between themselves, so compound operations like {@link #computeIfAbsent(Object, Function)} are atomic.
+ * The views returned by {@link #keySet()}, {@link #values()} and {@link #entrySet()} are of the snapshot at the time and are read only.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public final class CopyOnWriteMap<K, V> extends AbstractMap<K, V> {
+
+    private volatile Map<K, V> snapshot = Collections.emptyMap();
+
+    public CopyOnWriteMap() {}
+
+    public CopyOnWriteMap(final @NotNull Map<? extends K, ? extends V> map) {
+        if (!map.isEmpty()) this.snapshot = Collections.unmodifiableMap(new HashMap<>(map));
+    }
+
+    /**
+     * @return The current immutable snapshot, which will never change.
+     */
+    public @NotNull Map<K, V> snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public @Nullable V get(final @Nullable Object key) {
+        return snapshot.get(key);
+    }
+
+    @Override
+    public @Nullable V getOrDefault(final @Nullable Object key, final @Nullable V defaultValue) {
+        return snapshot.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return snapshot.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final @Nullable Object value) {
+        return snapshot.containsValue(value);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    @Override
+    public @NotNull Set<K> keySet() {
+        return snapshot.keySet();
+    }
+
+    @Override
+    public @NotNull Collection<V> values() {
+        return snapshot.values();
+    }
+
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        return snapshot.entrySet();
+    }
+
+    @Override
+    public synchronized @Nullable V put(final K key, final V value) {
+        final Map<K, V> copy = copy();
+        final V previous = copy.put(key, value);
+        publish(copy);
+        return previous;
+    }
+
+    @Override
+    public synchronized void putAll(final @NotNull Map<? extends K, ? extends V> map) {
+        if (map.isEmpty()) return;
+
+        final Map<K, V> copy = copy();
+        copy.putAll(map);
+        publish(copy);
+    }
+
+    @Override
+    public synchronized @Nullable V putIfAbsent(final K key, final V value) {
+        final V current = snapshot.get(key);
+        if (current != null) return current;
+        return put(key, value);
+    }
+
+    @Override
+    public synchronized @Nullable V remove(final @Nullable Object key) {
+        if (!snapshot.containsKey(key)) return null;
+
+        final Map<K, V> copy = copy();
+        final V previous = copy.remove(key);
+        publish(copy);
+        return previous;
+    }
+
+    @Override
+    public synchronized V computeIfAbsent(final K key, final @NotNull Function<? super K, ? extends V> mappingFunction) {
+        final V current = snapshot.get(key);
+        if (current != null) return current;
+
+        final V value = mappingFunction.apply(key);
+        if (value == null) return null;
+
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public synchronized boolean remove(final @Nullable Object key, final @Nullable Object value) {
+        final V current = snapshot.get(key);
+        if (current == null || !current.equals(value)) return false;
+
+        remove(key);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean replace(final K key, final @Nullable V oldValue, final V newValue) {
+        final V current = snapshot.get(key);
+        if (current == null || !current.equals(oldValue)) return false;
+
+        put(key, newValue);
+        return true;
+    }
+
+    @Override
+    public synchronized @Nullable V replace(final K key, final V value) {
+        if (!snapshot.containsKey(key)) return null;
+        return put(key, value);
+    }
+
+    @Override
+    public synchronized void replaceAll(final @NotNull BiFunction<? super K, ? super V, ? extends V> function) {
+        if (snapshot.isEmpty()) return;
+
+        final Map<K, V> copy = copy();
+        copy.replaceAll(function);
+        publish(copy);
+    }
+
+    @Override
+    public synchronized V computeIfPresent(final K key, final @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (snapshot.get(key) == null) return null;
+
+        final Map<K, V> copy = copy();
+        final V value = copy.computeIfPresent(key, remappingFunction);
+        publish(copy);
+        return value;
+    }
+
+    @Override
+    public synchronized V compute(final K key, final @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        final Map<K, V> copy = copy();
+        final V value = copy.compute(key, remappingFunction);
+        publish(copy);
+        return value;
+    }
+
+    @Override
+    public synchronized V merge(
+            final K key,
+            final @NotNull V value,
+            final @NotNull BiFunction<? super V, ? super V, ? extends V> remappingFunction
+    ) {
+        final Map<K, V> copy = copy();
+        final V merged = copy.merge(key, value, remappingFunction);
+        publish(copy);
+        return merged;
+    }
+
+    @Override
+    public synchronized void clear() {
+        snapshot = Collections.emptyMap();
+    }
+
+    private @NotNull Map<K, V> copy() {
+        return new HashMap<>(snapshot);
+    }
+
+    private void publish(final @NotNull Map<K, V> map) {
+        snapshot = Collections.unmodifiableMap(map);
+    }
+}
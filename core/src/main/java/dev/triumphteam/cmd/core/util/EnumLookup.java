@@ -0,0 +1,155 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import dev.triumphteam.cmd.core.annotations.EnumAlias;
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable, case-insensitive table of the constants of an enum, and their {@link EnumAlias}es.
+ * The table is an open addressing hash over the case folded names, so a lookup hashes the input in place
+ * and compares it with {@link String#equalsIgnoreCase(String)}, without creating a new string.
+ * Obtained through {@link EnumUtils#getLookup(Class)}, which creates a single one per enum.
+ */
+public final class EnumLookup {
+
+    private final Class<? extends Enum<?>> enumType;
+    private final String[] keys;
+    private final int[] hashes;
+    private final Enum<?>[] constants;
+    private final int mask;
+
+    private EnumLookup(
+            final @NotNull Class<? extends Enum<?>> enumType,
+            final @NotNull String[] keys,
+            final int @NotNull [] hashes,
+            final @NotNull Enum<?>[] constants
+    ) {
+        this.enumType = enumType;
+        this.keys = keys;
+        this.hashes = hashes;
+        this.constants = constants;
+        this.mask = keys.length - 1;
+    }
+
+    /**
+     * Creates the table for the given enum, with a capacity of at least twice the names so probing stays short.
+     *
+     * @param enumType The enum type.
+     * @return A new lookup with all the names of the constants.
+     * @throws CommandRegistrationException If two names of the enum only differ in case.
+     */
+    static @NotNull EnumLookup create(final @NotNull Class<? extends Enum<?>> enumType) {
+        final Enum<?>[] values = enumType.getEnumConstants();
+
+        int names = values.length;
+        final EnumAlias[] aliases = new EnumAlias[values.length];
+        for (int i = 0; i < values.length; i++) {
+            aliases[i] = aliasOf(enumType, values[i]);
+            if (aliases[i] != null) names += aliases[i].value().length;
+        }
+
+        int capacity = 2;
+        while (capacity < names * 2) capacity <<= 1;
+
+        final EnumLookup lookup = new EnumLookup(enumType, new String[capacity], new int[capacity], new Enum<?>[capacity]);
+        for (int i = 0; i < values.length; i++) {
+            lookup.put(values[i].name(), values[i]);
+            if (aliases[i] == null) continue;
+
+            for (final String alias : aliases[i].value()) {
+                lookup.put(alias, values[i]);
+            }
+        }
+
+        return lookup;
+    }
+
+    /**
+     * Gets the constant with the given name or alias, ignoring case.
+     *
+     * @param name The typed name.
+     * @return The constant, or null if none has that name.
+     */
+    public @Nullable Enum<?> get(final @NotNull String name) {
+        final int hash = foldedHash(name);
+
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keys[slot].equalsIgnoreCase(name)) return constants[slot];
+        }
+
+        return null;
+    }
+
+    private void put(final @NotNull String name, final @NotNull Enum<?> constant) {
+        final int hash = foldedHash(name);
+
+        int slot = hash & mask;
+        for (; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] != hash || !keys[slot].equalsIgnoreCase(name)) continue;
+
+            throw new CommandRegistrationException(
+                    "Provided enum \"" + enumType.getSimpleName() + "\" has multiple values with the name \"" + name + "\""
+            );
+        }
+
+        keys[slot] = name;
+        hashes[slot] = hash;
+        constants[slot] = constant;
+    }
+
+    /**
+     * Hashes the name one folded character at a time, the folding being the same {@link String#equalsIgnoreCase(String)}
+     * does, so names that are equal ignoring case always have the same hash.
+     *
+     * @param name The name to hash.
+     * @return The spread hash.
+     */
+    private static int foldedHash(final @NotNull String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        // Same spreading as HashMap, the low bits pick the slot
+        return hash ^ (hash >>> 16);
+    }
+
+    private static @Nullable EnumAlias aliasOf(final @NotNull Class<? extends Enum<?>> enumType, final @NotNull Enum<?> constant) {
+        try {
+            return enumType.getField(constant.name()).getAnnotation(EnumAlias.class);
+        } catch (final NoSuchFieldException exception) {
+            // Constants are always public fields, so this can't happen
+            return null;
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "EnumLookup{" +
+                "enumType=" + enumType +
+                '}';
+    }
+}
@@ -23,56 +23,30 @@
  */
 package dev.triumphteam.cmd.core.util;
 
-import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.WeakHashMap;
-
 public final class EnumUtils {
 
-    private static final Map<Class<? extends Enum<?>>, Map<String, WeakReference<? extends Enum<?>>>> ENUM_CONSTANT_CACHE = new WeakHashMap<>();
+    // Values are kept by the class itself, so nothing here stops an enum from being unloaded
+    private static final ClassValue<EnumLookup> LOOKUPS = new ClassValue<EnumLookup>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        protected @NotNull EnumLookup computeValue(final @NotNull Class<?> type) {
+            return EnumLookup.create((Class<? extends Enum<?>>) type);
+        }
+    };
 
     private EnumUtils() {throw new AssertionError("Util must not be initialized");}
 
     /**
-     * Slightly modified version from Guava's {@link com.google.common.base.Enums#getIfPresent}.
-     * Modifications done are to allow capture `?` instead of generic type.
-     *
-     * @param enumClass A non-generic Enum class.
-     * @return A map with enum values that was previously cached.
-     */
-    public static @NotNull Map<String, @NotNull WeakReference<? extends Enum<?>>> getEnumConstants(final @NotNull Class<? extends Enum<?>> enumClass) {
-        synchronized (ENUM_CONSTANT_CACHE) {
-            Map<String, WeakReference<? extends Enum<?>>> constants = ENUM_CONSTANT_CACHE.get(enumClass);
-            if (constants == null) constants = populateCache(enumClass);
-            return constants;
-        }
-    }
-
-    /**
-     * Slightly modified version from Guava's {@link com.google.common.base.Enums#getIfPresent}.
-     * Modifications done are to allow capture `?` instead of generic type.
+     * Gets the lookup table of the enum, creating it on first use.
+     * Lookups never lock, and the table is shared by every argument of the same enum.
      *
      * @param enumClass A non-generic Enum class.
-     * @return A map with enum values that was just populated to the cache.
+     * @return The {@link EnumLookup} of the enum.
+     * @throws dev.triumphteam.cmd.core.exceptions.CommandRegistrationException If two names of the enum only differ in case.
      */
-    public static @NotNull Map<String, WeakReference<? extends Enum<?>>> populateCache(final @NotNull Class<? extends Enum<?>> enumClass) {
-        final Map<String, WeakReference<? extends Enum<?>>> result = new HashMap<>();
-
-        for (Enum<?> enumInstance : enumClass.getEnumConstants()) {
-            final String name = enumInstance.name().toUpperCase();
-            if (result.containsKey(name)) {
-                throw new CommandRegistrationException(
-                        "Provided enum \"" + enumClass.getSimpleName() + "\" has multiple values with the name \"" + name + "\""
-                );
-            }
-            result.put(name, new WeakReference<Enum<?>>(enumInstance));
-        }
-
-        ENUM_CONSTANT_CACHE.put(enumClass, result);
-        return result;
+    public static @NotNull EnumLookup getLookup(final @NotNull Class<? extends Enum<?>> enumClass) {
+        return LOOKUPS.get(enumClass);
     }
 }
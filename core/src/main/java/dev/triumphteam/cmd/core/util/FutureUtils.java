@@ -0,0 +1,114 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Utilities for waiting on futures that must answer in time, like suggestions, falling back to a default value instead.
+ */
+public final class FutureUtils {
+
+    private FutureUtils() {
+        throw new AssertionError("Util must not be initialized");
+    }
+
+    /**
+     * Creates a future that completes with the value of the given future, or with the fallback if the given future fails
+     * or doesn't complete within the timeout.
+     *
+     * @param future        The future to wait for.
+     * @param timeoutMillis The time to wait in milliseconds.
+     * @param fallback      The value to use when the future fails or times out.
+     * @param <T>           The value type.
+     * @return A future that always completes normally.
+     */
+    public static <T> @NotNull CompletableFuture<T> withFallback(
+            final @NotNull CompletableFuture<T> future,
+            final long timeoutMillis,
+            final @NotNull T fallback
+    ) {
+        if (future.isDone()) return future.exceptionally(throwable -> fallback);
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final ScheduledFuture<?> timeout = Timer.EXECUTOR.schedule(() -> result.complete(fallback), timeoutMillis, TimeUnit.MILLISECONDS);
+        future.whenComplete((value, throwable) -> {
+            timeout.cancel(false);
+            result.complete(throwable == null ? value : fallback);
+        });
+        return result;
+    }
+
+    /**
+     * Blocks until the given future completes, returning the fallback if it fails, is cancelled or doesn't complete within the timeout.
+     * Only meant for platforms that have to answer on the calling thread.
+     *
+     * @param future        The future to wait for.
+     * @param timeoutMillis The time to wait in milliseconds.
+     * @param fallback      The value to use when the future fails or times out.
+     * @param <T>           The value type.
+     * @return The value of the future or the fallback.
+     */
+    public static <T> @NotNull T getOrFallback(
+            final @NotNull CompletableFuture<T> future,
+            final long timeoutMillis,
+            final @NotNull T fallback
+    ) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException | TimeoutException | CancellationException exception) {
+            return fallback;
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        }
+    }
+
+    /**
+     * Holder so the timer thread is only started once a future actually has to be timed.
+     */
+    private static final class Timer {
+
+        private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static @NotNull ScheduledThreadPoolExecutor createExecutor() {
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "triumph-cmds-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Most futures complete in time, their timeouts shouldn't sit in the queue until they would have fired
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
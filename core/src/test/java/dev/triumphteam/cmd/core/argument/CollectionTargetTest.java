@@ -0,0 +1,108 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollectionTargetTest {
+
+    @Test
+    void fillsPrimitiveArrays() {
+        final CollectionTarget ints = CollectionTarget.of(int[].class, int.class);
+        final Object intArray = ints.create(2);
+        ints.set(intArray, 0, 4);
+        ints.set(intArray, 1, -2);
+        assertArrayEquals(new int[]{4, -2}, (int[]) intArray);
+
+        final CollectionTarget longs = CollectionTarget.of(long[].class, long.class);
+        final Object longArray = longs.create(1);
+        longs.set(longArray, 0, Long.MIN_VALUE);
+        assertEquals(Long.MIN_VALUE, ((long[]) longArray)[0]);
+
+        final CollectionTarget doubles = CollectionTarget.of(double[].class, double.class);
+        final Object doubleArray = doubles.create(1);
+        doubles.set(doubleArray, 0, 1.5);
+        assertEquals(1.5, ((double[]) doubleArray)[0]);
+    }
+
+    @Test
+    void fillsObjectArrays() {
+        final CollectionTarget target = CollectionTarget.of(String[].class, String.class);
+        final Object array = target.create(2);
+        target.set(array, 0, "a");
+        target.set(array, 1, "b");
+
+        assertArrayEquals(new String[]{"a", "b"}, (String[]) array);
+    }
+
+    @Test
+    void picksCollectionForType() {
+        assertEquals(ArrayList.class, fill(List.class, String.class).getClass());
+        assertEquals(ArrayList.class, fill(Collection.class, String.class).getClass());
+        assertEquals(HashSet.class, fill(Set.class, String.class).getClass());
+        assertEquals(HashSet.class, fill(HashSet.class, String.class).getClass());
+        assertEquals(LinkedHashSet.class, fill(LinkedHashSet.class, String.class).getClass());
+        assertTrue(fill(Set.class, RetentionPolicy.class) instanceof EnumSet);
+        assertTrue(fill(EnumSet.class, RetentionPolicy.class) instanceof EnumSet);
+    }
+
+    @Test
+    void keepsOrderAndDuplicatesWhereTheTypeDoes() {
+        assertEquals(Arrays.asList("b", "a", "b"), new ArrayList<>(fill(List.class, String.class, "b", "a", "b")));
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(fill(LinkedHashSet.class, String.class, "b", "a", "b")));
+        assertEquals(
+                EnumSet.of(RetentionPolicy.SOURCE, RetentionPolicy.RUNTIME),
+                fill(EnumSet.class, RetentionPolicy.class, RetentionPolicy.RUNTIME, RetentionPolicy.SOURCE)
+        );
+    }
+
+    @Test
+    void rejectsEnumSetOfNonEnum() {
+        assertThrows(IllegalArgumentException.class, () -> CollectionTarget.of(EnumSet.class, String.class));
+    }
+
+    private static Collection<?> fill(final Class<?> type, final Class<?> elementType, final Object... values) {
+        final CollectionTarget target = CollectionTarget.of(type, elementType);
+        final Object collection = target.create(values.length);
+        for (int i = 0; i < values.length; i++) {
+            target.set(collection, i, values[i]);
+        }
+        return (Collection<?>) collection;
+    }
+}
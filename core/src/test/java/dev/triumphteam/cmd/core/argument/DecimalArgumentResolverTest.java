@@ -0,0 +1,124 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalArgumentResolverTest {
+
+    private static final Object SENDER = new Object();
+    private static final String ALPHABET = "0123456789.eE+-";
+
+    @Test
+    void resolvesValidForms() {
+        final DecimalArgumentResolver<Object> resolver = DecimalArgumentResolver.ofDouble();
+
+        assertEquals(1.0, resolver.resolve(SENDER, "1"));
+        assertEquals(-1.5, resolver.resolve(SENDER, "-1.5"));
+        assertEquals(0.5, resolver.resolve(SENDER, "+.5"));
+        assertEquals(5.0, resolver.resolve(SENDER, "5."));
+        assertEquals(1.5e-3, resolver.resolve(SENDER, "1.5E-3"));
+        assertEquals(Double.NaN, resolver.resolve(SENDER, "NaN"));
+        assertEquals(Double.NEGATIVE_INFINITY, resolver.resolve(SENDER, "-Infinity"));
+        assertEquals(2.5f, DecimalArgumentResolver.ofFloat().resolve(SENDER, "2.5"));
+    }
+
+    @Test
+    void rejectsWhatParseDoubleWouldOtherwiseAccept() {
+        final DecimalArgumentResolver<Object> resolver = DecimalArgumentResolver.ofDouble();
+
+        assertNull(resolver.resolve(SENDER, " 1"));
+        assertNull(resolver.resolve(SENDER, "1 "));
+        assertNull(resolver.resolve(SENDER, "1d"));
+        assertNull(resolver.resolve(SENDER, "1f"));
+        assertNull(resolver.resolve(SENDER, "0x1p3"));
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        final DecimalArgumentResolver<Object> resolver = DecimalArgumentResolver.ofDouble();
+
+        assertNull(resolver.resolve(SENDER, ""));
+        assertNull(resolver.resolve(SENDER, "-"));
+        assertNull(resolver.resolve(SENDER, "."));
+        assertNull(resolver.resolve(SENDER, "1e"));
+        assertNull(resolver.resolve(SENDER, "1e+"));
+        assertNull(resolver.resolve(SENDER, "1.2.3"));
+        assertNull(resolver.resolve(SENDER, "NaNa"));
+        assertNull(resolver.resolve(SENDER, "nan"));
+        assertNull(resolver.resolve(SENDER, "abc"));
+    }
+
+    @Test
+    void checksRange() {
+        final DecimalArgumentResolver<Object> resolver = DecimalArgumentResolver.<Object>ofDouble().withRange(0, 10);
+
+        assertEquals(0.0, resolver.resolve(SENDER, "0"));
+        assertEquals(10.0, resolver.resolve(SENDER, "10"));
+        assertNull(resolver.resolve(SENDER, "10.01"));
+        assertNull(resolver.resolve(SENDER, "-1"));
+        assertNull(resolver.resolve(SENDER, "NaN"));
+        assertNull(resolver.resolve(SENDER, "Infinity"));
+
+        final DecimalArgumentResolver<Object> single = DecimalArgumentResolver.<Object>ofFloat().withRange(-1, 1);
+        assertEquals(-1.0f, single.resolve(SENDER, "-1"));
+        assertNull(single.resolve(SENDER, "NaN"));
+    }
+
+    @Test
+    void rejectsInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> DecimalArgumentResolver.ofDouble().withRange(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> DecimalArgumentResolver.ofDouble().withRange(Double.NaN, 0));
+    }
+
+    @Test
+    void matchesParseDouble() {
+        final Random random = new Random(9);
+        final DecimalArgumentResolver<Object> resolver = DecimalArgumentResolver.ofDouble();
+
+        for (int round = 0; round < 50000; round++) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = random.nextInt(8);
+            for (int i = 0; i < length; i++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            final String input = builder.toString();
+
+            Double expected;
+            try {
+                expected = Double.parseDouble(input);
+            } catch (final NumberFormatException exception) {
+                expected = null;
+            }
+
+            assertEquals(expected, resolver.resolve(SENDER, input), "'" + input + "'");
+        }
+    }
+}
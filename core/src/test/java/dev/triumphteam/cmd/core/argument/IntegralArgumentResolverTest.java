@@ -0,0 +1,177 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntegralArgumentResolverTest {
+
+    private static final Object SENDER = new Object();
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    @Test
+    void resolvesLongBounds() {
+        final IntegralArgumentResolver<Object> resolver = IntegralArgumentResolver.ofLong();
+
+        assertEquals(Long.MIN_VALUE, resolver.resolve(SENDER, "-9223372036854775808"));
+        assertEquals(Long.MAX_VALUE, resolver.resolve(SENDER, "9223372036854775807"));
+        assertEquals(Long.MAX_VALUE, resolver.resolve(SENDER, "+9223372036854775807"));
+        assertNull(resolver.resolve(SENDER, "-9223372036854775809"));
+        assertNull(resolver.resolve(SENDER, "9223372036854775808"));
+        assertNull(resolver.resolve(SENDER, "99999999999999999999"));
+    }
+
+    @Test
+    void resolvesLongBoundsWithRadix() {
+        final IntegralArgumentResolver<Object> resolver = IntegralArgumentResolver.<Object>ofLong().withRadix(16);
+
+        assertEquals(Long.MIN_VALUE, resolver.resolve(SENDER, "-8000000000000000"));
+        assertEquals(Long.MAX_VALUE, resolver.resolve(SENDER, "7fffffffffffffff"));
+        assertNull(resolver.resolve(SENDER, "-8000000000000001"));
+        assertNull(resolver.resolve(SENDER, "8000000000000000"));
+        assertEquals(-255L, resolver.resolve(SENDER, "-FF"));
+        assertNull(resolver.resolve(SENDER, "fg"));
+    }
+
+    @Test
+    void boxesToType() {
+        assertEquals((byte) -128, IntegralArgumentResolver.ofByte().resolve(SENDER, "-128"));
+        assertNull(IntegralArgumentResolver.ofByte().resolve(SENDER, "128"));
+        assertEquals((short) 300, IntegralArgumentResolver.ofShort().resolve(SENDER, "300"));
+        assertEquals(Integer.MIN_VALUE, IntegralArgumentResolver.ofInt().resolve(SENDER, "-2147483648"));
+        assertNull(IntegralArgumentResolver.ofInt().resolve(SENDER, "2147483648"));
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        final IntegralArgumentResolver<Object> resolver = IntegralArgumentResolver.ofInt();
+
+        assertNull(resolver.resolve(SENDER, ""));
+        assertNull(resolver.resolve(SENDER, "-"));
+        assertNull(resolver.resolve(SENDER, "+"));
+        assertNull(resolver.resolve(SENDER, "--1"));
+        assertNull(resolver.resolve(SENDER, "1-"));
+        assertNull(resolver.resolve(SENDER, " 1"));
+        assertNull(resolver.resolve(SENDER, "1.0"));
+        assertEquals(0, resolver.resolve(SENDER, "-0"));
+    }
+
+    @Test
+    void checksRange() {
+        final IntegralArgumentResolver<Object> resolver = IntegralArgumentResolver.<Object>ofInt().withRange(-5, 10);
+
+        assertEquals(-5, resolver.resolve(SENDER, "-5"));
+        assertEquals(10, resolver.resolve(SENDER, "10"));
+        assertNull(resolver.resolve(SENDER, "-6"));
+        assertNull(resolver.resolve(SENDER, "11"));
+        assertNull(resolver.resolve(SENDER, "-99999999999999999999"));
+
+        final IntegralArgumentResolver<Object> positive = IntegralArgumentResolver.<Object>ofInt().withRange(1, 3);
+        assertNull(positive.resolve(SENDER, "-1"));
+        assertNull(positive.resolve(SENDER, "0"));
+
+        final IntegralArgumentResolver<Object> negative = IntegralArgumentResolver.<Object>ofLong().withRange(Long.MIN_VALUE, -1);
+        assertEquals(Long.MIN_VALUE, negative.resolve(SENDER, "-9223372036854775808"));
+        assertNull(negative.resolve(SENDER, "0"));
+        assertNull(negative.resolve(SENDER, "+1"));
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> IntegralArgumentResolver.ofInt().withRange(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> IntegralArgumentResolver.ofByte().withRange(200, 300));
+        assertThrows(IllegalArgumentException.class, () -> IntegralArgumentResolver.ofInt().withRadix(1));
+        assertThrows(IllegalArgumentException.class, () -> IntegralArgumentResolver.ofInt().withRadix(37));
+    }
+
+    @Test
+    void matchesParseLong() {
+        final Random random = new Random(7);
+
+        for (int round = 0; round < 20000; round++) {
+            final int radix = random.nextBoolean() ? 10 : Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX - 1);
+            final String input = randomNumber(random, radix);
+            final IntegralArgumentResolver<Object> resolver = IntegralArgumentResolver.<Object>ofLong().withRadix(radix);
+
+            assertEquals(parseLong(input, radix), resolver.resolve(SENDER, input), "'" + input + "' in radix " + radix);
+        }
+    }
+
+    @Test
+    void matchesParseIntWithinRange() {
+        final Random random = new Random(8);
+
+        for (int round = 0; round < 20000; round++) {
+            final long min = random.nextInt(2001) - 1000;
+            final long max = min + random.nextInt(2001);
+            final String input = random.nextBoolean() ? String.valueOf(random.nextInt(5001) - 2500) : randomNumber(random, 10);
+            final IntegralArgumentResolver<Object> resolver = IntegralArgumentResolver.<Object>ofInt().withRange(min, max);
+
+            Integer expected;
+            try {
+                expected = Integer.parseInt(input);
+                if (expected < min || expected > max) expected = null;
+            } catch (final NumberFormatException exception) {
+                expected = null;
+            }
+
+            assertEquals(expected, resolver.resolve(SENDER, input), "'" + input + "' in " + min + " to " + max);
+        }
+    }
+
+    private static Long parseLong(final String input, final int radix) {
+        try {
+            return Long.parseLong(input, radix);
+        } catch (final NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Mostly valid digits of any length around the bounds of long, with the odd sign or invalid character.
+     */
+    private static String randomNumber(final Random random, final int radix) {
+        final StringBuilder builder = new StringBuilder();
+        final int sign = random.nextInt(4);
+        if (sign == 0) builder.append('-');
+        if (sign == 1) builder.append('+');
+
+        final int length = random.nextInt(Long.toString(Long.MIN_VALUE, radix).length() + 2);
+        for (int i = 0; i < length; i++) {
+            if (random.nextInt(50) == 0) {
+                builder.append("-+ .x".charAt(random.nextInt(5)));
+                continue;
+            }
+            final char digit = DIGITS.charAt(random.nextInt(radix));
+            builder.append(random.nextBoolean() ? Character.toUpperCase(digit) : digit);
+        }
+        return builder.toString();
+    }
+}
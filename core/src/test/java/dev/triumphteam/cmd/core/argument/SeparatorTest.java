@@ -0,0 +1,105 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SeparatorTest {
+
+    private static final String[] SEPARATORS = {",", ", ", "\\.", "\\|", "a", "ab", ",+", "[,;]", "\\s*,\\s*", "(?=,)", "", "x*"};
+    private static final String ALPHABET = ",; ab.|x";
+
+    @Test
+    void splitsLikeStringSplit() {
+        final Separator separator = Separator.compile(",");
+
+        assertEquals(Arrays.asList("a", "", "b"), tokens(separator, "a,,b"));
+        assertEquals(Arrays.asList("", "a"), tokens(separator, ",a"));
+        assertEquals(Arrays.asList("a"), tokens(separator, "a,,"));
+        assertEquals(Arrays.asList(""), tokens(separator, ""));
+        assertEquals(Arrays.asList(), tokens(separator, ",,"));
+    }
+
+    @Test
+    void visitorCanStopEarly() {
+        final List<String> visited = new ArrayList<>();
+
+        for (final String regex : new String[]{",", ",+"}) {
+            visited.clear();
+            assertFalse(Separator.compile(regex).forEach("a,b,c", (input, start, end) -> {
+                visited.add(input.substring(start, end));
+                return visited.size() < 2;
+            }));
+            assertEquals(Arrays.asList("a", "b"), visited);
+        }
+    }
+
+    @Test
+    void onlyLiteralsCountCheaply() {
+        assertEquals(3, Separator.compile(",").countIfCheap("a,b,c"));
+        assertEquals(3, Separator.compile("\\.").countIfCheap("a.b.c"));
+        assertEquals(3, Separator.SPACE.countIfCheap("a b c"));
+        assertEquals(Separator.UNKNOWN_COUNT, Separator.compile(",+").countIfCheap("a,b,c"));
+        assertEquals(3, Separator.compile(",+").count("a,,b,c"));
+    }
+
+    @Test
+    void matchesStringSplit() {
+        final Random random = new Random(10);
+
+        for (final String regex : SEPARATORS) {
+            final Separator separator = Separator.compile(regex);
+
+            for (int round = 0; round < 2000; round++) {
+                final StringBuilder builder = new StringBuilder();
+                final int length = random.nextInt(10);
+                for (int i = 0; i < length; i++) {
+                    builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+                final String input = builder.toString();
+
+                final List<String> expected = Arrays.asList(input.split(regex));
+                assertEquals(expected, tokens(separator, input), "'" + input + "' split by '" + regex + "'");
+                assertEquals(expected.size(), separator.count(input));
+
+                final int cheap = separator.countIfCheap(input);
+                if (cheap != Separator.UNKNOWN_COUNT) assertEquals(expected.size(), cheap);
+            }
+        }
+    }
+
+    private static List<String> tokens(final Separator separator, final String input) {
+        final List<String> tokens = new ArrayList<>();
+        separator.forEach(input, (text, start, end) -> tokens.add(text.substring(start, end)));
+        return tokens;
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandInputTest {
+
+    private static final String ALPHABET = "ab \"\\";
+
+    @Test
+    void readsQuotedArguments() {
+        final CommandInput input = CommandInput.of("give \"Steve Jobs\" 5");
+
+        assertEquals("give", input.read());
+        assertEquals("Steve Jobs", input.readQuoted());
+        assertEquals("5", input.readQuoted());
+        assertFalse(input.hasNext());
+    }
+
+    @Test
+    void unescapesQuotesAndBackslashes() {
+        assertEquals("say \"hi\"", CommandInput.of("\"say \\\"hi\\\"\"").readQuoted());
+        assertEquals("a\\b", CommandInput.of("\"a\\\\b\"").readQuoted());
+        assertEquals("a\\b", CommandInput.of("\"a\\b\"").readQuoted());
+        // Escapes only mean something inside quotes
+        assertEquals("\\\"a", CommandInput.of("\\\"a").readQuoted());
+    }
+
+    @Test
+    void unclosedQuoteTakesEverything() {
+        final CommandInput input = CommandInput.of("\"a b  c");
+
+        assertEquals("a b  c", input.readQuoted());
+        assertFalse(input.hasNext());
+    }
+
+    @Test
+    void dropsWhatIsGluedToClosingQuote() {
+        final CommandInput input = CommandInput.of("\"a b\"c d");
+
+        assertEquals("a b", input.readQuoted());
+        assertEquals("d", input.read());
+    }
+
+    @Test
+    void everySpaceSeparates() {
+        final CommandInput input = CommandInput.of("a  b ");
+
+        assertEquals(4, input.remaining());
+        assertEquals(Arrays.asList("a", "", "b", ""), input.readTokens());
+        assertEquals(0, input.remaining());
+        assertNull(input.peek());
+        assertThrows(NoSuchElementException.class, input::read);
+    }
+
+    @Test
+    void emptyInputHasNoTokens() {
+        final CommandInput input = CommandInput.of("");
+
+        assertFalse(input.hasNext());
+        assertEquals("", input.readRemaining());
+        assertEquals(Collections.emptyList(), input.readTokens());
+        assertThrows(NoSuchElementException.class, input::readQuoted);
+    }
+
+    @Test
+    void readsRemainingAsWritten() {
+        final CommandInput input = CommandInput.of("msg Steve hello  there ");
+
+        assertEquals("msg", input.read());
+        assertEquals("Steve", input.peek());
+        assertEquals("Steve", input.read());
+        assertEquals("hello  there ", input.readRemaining());
+        assertFalse(input.hasNext());
+    }
+
+    @Test
+    void everyInputReadsTheSame() {
+        final Random random = new Random(11);
+
+        for (int round = 0; round < 20000; round++) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = 1 + random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            final String text = builder.toString();
+            final List<String> tokens = Arrays.asList(text.split(" ", -1));
+
+            final CommandInput[] inputs = {
+                    CommandInput.of(text),
+                    CommandInput.of(tokens.toArray(new String[0])),
+                    CommandInput.of(tokens),
+                    CommandInput.of(new ArrayDeque<>(tokens))
+            };
+            final long seed = random.nextLong();
+            final List<String> expected = readRandomly(inputs[0], new Random(seed));
+
+            for (int i = 1; i < inputs.length; i++) {
+                assertEquals(expected, readRandomly(inputs[i], new Random(seed)), "'" + text + "' through " + inputs[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads the input with a random mix of operations, recording everything each of them returned.
+     */
+    private static List<String> readRandomly(final CommandInput input, final Random random) {
+        final List<String> results = new ArrayList<>();
+        while (input.hasNext()) {
+            results.add(String.valueOf(input.remaining()));
+            switch (random.nextInt(5)) {
+                case 0:
+                    results.add(input.peek());
+                    break;
+                case 1:
+                    results.add(input.read());
+                    break;
+                case 2:
+                    results.add(input.readQuoted());
+                    break;
+                case 3:
+                    results.add(input.readRemaining());
+                    break;
+                default:
+                    results.add(input.readTokens().toString());
+                    break;
+            }
+        }
+        assertTrue(input.remaining() == 0 && input.peek() == null);
+        return results;
+    }
+}
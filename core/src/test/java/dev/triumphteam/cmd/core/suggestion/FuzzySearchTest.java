@@ -0,0 +1,113 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzySearchTest {
+
+    @Test
+    void ranksByDistanceThenStartThenOrder() {
+        final List<String> values = Arrays.asList("xeleport", "Teleprot", "teleport", "unrelated", "televort", "teleportation");
+
+        assertEquals(
+                Arrays.asList("teleport", "teleportation", "televort", "xeleport", "Teleprot"),
+                FuzzySearch.filter("TELEPORT", values, Function.identity(), SuggestionContext.NO_LIMIT)
+        );
+        assertEquals(
+                Arrays.asList("teleport", "teleportation"),
+                FuzzySearch.filter("teleport", values, Function.identity(), 2)
+        );
+    }
+
+    @Test
+    void emptyInputKeepsOrder() {
+        final List<String> values = Arrays.asList("b", "a", "c");
+
+        assertEquals(values, FuzzySearch.filter("", values, Function.identity(), SuggestionContext.NO_LIMIT));
+        assertEquals(Arrays.asList("b", "a"), FuzzySearch.filter("", values, Function.identity(), 2));
+    }
+
+    @Test
+    void topMatchesRejectsWorseOnceFull() {
+        final FuzzySearch.TopMatches matches = new FuzzySearch.TopMatches(2, 10);
+
+        assertTrue(matches.offer(5, 1, true));
+        assertTrue(matches.offer(3, 1, false));
+        // Full, worse than the worst kept one
+        assertFalse(matches.accepts(2, true, 0));
+        assertFalse(matches.offer(7, 1, false));
+        // Same distance but same start beats the kept one that doesn't
+        assertTrue(matches.offer(9, 1, true));
+
+        assertArrayEquals(new int[]{5, 9}, matches.sortedIndexes());
+    }
+
+    @Test
+    void topMatchesWithNoRoom() {
+        final FuzzySearch.TopMatches matches = new FuzzySearch.TopMatches(0, 10);
+
+        assertFalse(matches.accepts(0, true, 0));
+        assertFalse(matches.offer(0, 0, true));
+        assertArrayEquals(new int[0], matches.sortedIndexes());
+    }
+
+    @Test
+    void topMatchesKeepsBestOfRandomOffers() {
+        final Random random = new Random(6);
+
+        for (int round = 0; round < 500; round++) {
+            final int count = random.nextInt(200);
+            final int limit = random.nextBoolean() ? SuggestionContext.NO_LIMIT : random.nextInt(20);
+            final FuzzySearch.TopMatches matches = new FuzzySearch.TopMatches(limit, count);
+
+            final List<int[]> offered = new ArrayList<>();
+            for (int index = 0; index < count; index++) {
+                final int distance = random.nextInt(3);
+                final boolean sameStart = random.nextBoolean();
+                matches.offer(index, distance, sameStart);
+                offered.add(new int[]{distance, sameStart ? 0 : 1, index});
+            }
+
+            offered.sort(Comparator.<int[]>comparingInt(match -> match[0])
+                    .thenComparingInt(match -> match[1])
+                    .thenComparingInt(match -> match[2]));
+            final int[] expected = offered.stream().limit(limit).mapToInt(match -> match[2]).toArray();
+
+            assertArrayEquals(expected, matches.sortedIndexes());
+        }
+    }
+}
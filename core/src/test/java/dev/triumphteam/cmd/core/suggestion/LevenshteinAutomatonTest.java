@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LevenshteinAutomatonTest {
+
+    @Test
+    void maxDistanceGrowsWithInput() {
+        assertEquals(0, LevenshteinAutomaton.maxDistanceFor(2));
+        assertEquals(1, LevenshteinAutomaton.maxDistanceFor(3));
+        assertEquals(1, LevenshteinAutomaton.maxDistanceFor(5));
+        assertEquals(2, LevenshteinAutomaton.maxDistanceFor(6));
+    }
+
+    @Test
+    void stepCapsDistances() {
+        final LevenshteinAutomaton automaton = LevenshteinAutomaton.of("abc");
+
+        assertArrayEquals(new int[]{0, 1, 2, 2}, automaton.start());
+        assertArrayEquals(new int[]{1, 0, 1, 2}, automaton.step(automaton.start(), 'a'));
+        assertArrayEquals(new int[]{2, 2, 2, 2}, automaton.step(automaton.step(automaton.start(), 'x'), 'y'));
+    }
+
+    @Test
+    void prefixDistanceFindsClosestPrefix() {
+        final LevenshteinAutomaton automaton = LevenshteinAutomaton.of("teleport");
+
+        assertEquals(0, automaton.prefixDistance("teleportation"));
+        assertEquals(1, automaton.prefixDistance("telepor"));
+        assertEquals(1, automaton.prefixDistance("teleprt"));
+        assertEquals(2, automaton.prefixDistance("tleeport"));
+        assertEquals(3, automaton.prefixDistance("gamemode"));
+        assertEquals(0, LevenshteinAutomaton.of("").prefixDistance("anything"));
+    }
+
+    @Test
+    void matchesDynamicProgramming() {
+        final Random random = new Random(5);
+
+        for (int round = 0; round < 5000; round++) {
+            final String input = randomText(random, random.nextInt(9));
+            final String text = randomText(random, random.nextInt(12));
+
+            final LevenshteinAutomaton automaton = LevenshteinAutomaton.of(input);
+            final int cap = automaton.getMaxDistance() + 1;
+
+            int[] row = automaton.start();
+            int best = Math.min(distance(input, ""), cap);
+            for (int i = 0; i < text.length(); i++) {
+                row = automaton.step(row, text.charAt(i));
+                final int expected = Math.min(distance(input, text.substring(0, i + 1)), cap);
+
+                assertEquals(expected, automaton.distance(row), "'" + input + "' to '" + text.substring(0, i + 1) + "'");
+                best = Math.min(best, expected);
+            }
+
+            assertEquals(best, automaton.prefixDistance(text), "'" + input + "' to prefixes of '" + text + "'");
+        }
+    }
+
+    private static int distance(final String first, final String second) {
+        int[] previous = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            final int[] current = new int[second.length() + 1];
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                final int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1], previous[j]) + 1, previous[j - 1] + cost);
+            }
+            previous = current;
+        }
+
+        return previous[second.length()];
+    }
+
+    private static String randomText(final Random random, final int length) {
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PositionTreeTest {
+
+    @Test
+    void minOfEmptyRangeIsMaxValue() {
+        final PositionTree tree = new PositionTree(new int[]{2, 0, 1});
+
+        assertEquals(Integer.MAX_VALUE, tree.min(1, 1));
+        assertEquals(0, tree.min(0, 3));
+        assertEquals(1, tree.min(2, 3));
+    }
+
+    @Test
+    void visitorCanStopEarly() {
+        final PositionTree tree = new PositionTree(new int[]{3, 1, 4, 0, 2});
+        final List<Integer> visited = new ArrayList<>();
+
+        assertFalse(tree.forEachInOrder(0, 5, position -> visited.add(position) && visited.size() < 2));
+        assertEquals(Arrays.asList(0, 1), visited);
+        assertTrue(tree.forEachInOrder(2, 2, position -> false));
+    }
+
+    @Test
+    void visitsEveryRangeInAscendingOrder() {
+        final Random random = new Random(3);
+
+        for (int round = 0; round < 200; round++) {
+            final int size = 1 + random.nextInt(100);
+            final List<Integer> shuffled = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                shuffled.add(i);
+            }
+            Collections.shuffle(shuffled, random);
+
+            final int[] sortedPositions = shuffled.stream().mapToInt(Integer::intValue).toArray();
+            final PositionTree tree = new PositionTree(sortedPositions);
+
+            final int from = random.nextInt(size + 1);
+            final int to = from + random.nextInt(size - from + 1);
+
+            final List<Integer> expected = new ArrayList<>(shuffled.subList(from, to));
+            Collections.sort(expected);
+
+            final List<Integer> visited = new ArrayList<>();
+            assertTrue(tree.forEachInOrder(from, to, visited::add));
+            assertEquals(expected, visited);
+            assertEquals(expected.isEmpty() ? Integer.MAX_VALUE : expected.get(0), tree.min(from, to));
+        }
+    }
+}
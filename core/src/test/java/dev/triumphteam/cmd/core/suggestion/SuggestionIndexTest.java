@@ -0,0 +1,125 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import dev.triumphteam.cmd.core.extension.defaults.DefaultSuggestionMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+
+    private static final DefaultSuggestionMapper MAPPER = new DefaultSuggestionMapper();
+    private static final int[] LIMITS = {SuggestionContext.NO_LIMIT, 0, 1, 2, 4, 7};
+
+    @Test
+    void startsWithKeepsDeclaredOrder() {
+        final List<String> values = Arrays.asList("bat", "Ball", "apple", "bar", "BA", "band", "cab");
+        final SuggestionIndex<String> index = SuggestionIndex.of(values, MAPPER);
+
+        assertEquals(Arrays.asList("bat", "Ball", "bar", "BA", "band"), index.filter("ba", SuggestionMethod.STARTS_WITH));
+        assertEquals(Arrays.asList("bat", "Ball", "bar", "BA"), index.filter("ba", SuggestionMethod.STARTS_WITH, 4));
+        assertEquals(Collections.singletonList("Ball"), index.filter("bAl", SuggestionMethod.STARTS_WITH));
+        assertEquals(Collections.emptyList(), index.filter("ba", SuggestionMethod.STARTS_WITH, 0));
+    }
+
+    @Test
+    void fuzzyBreaksTiesByDeclaredOrder() {
+        // Same distance and start, so only the declared order tells them apart
+        final List<String> values = Arrays.asList("zeta", "beta", "seta", "feta");
+        final SuggestionIndex<String> index = SuggestionIndex.of(values, MAPPER);
+
+        assertEquals(MAPPER.filter("geta", values, SuggestionMethod.FUZZY), index.filter("geta", SuggestionMethod.FUZZY));
+        assertEquals(Arrays.asList("zeta", "beta"), index.filter("geta", SuggestionMethod.FUZZY, 2));
+    }
+
+    @Test
+    void emptyInputKeepsEverything() {
+        final List<String> values = Arrays.asList("b", "a", "c");
+        final SuggestionIndex<String> index = SuggestionIndex.of(values, MAPPER);
+
+        for (final SuggestionMethod method : SuggestionMethod.values()) {
+            assertEquals(values, index.filter("", method));
+            assertEquals(Arrays.asList("b", "a"), index.filter("", method, 2));
+        }
+    }
+
+    @Test
+    void matchesMapperOnSmallIndexes() {
+        compareWithMapper(new Random(1), 200, 40, 6);
+    }
+
+    @Test
+    void matchesMapperOnTrigramIndexes() {
+        // Big enough to use the trigram index for CONTAINS
+        compareWithMapper(new Random(2), 50, 1000, 10);
+    }
+
+    /**
+     * Filters random suggestions with every method, with and without limits,
+     * and checks the index gives exactly what {@link DefaultSuggestionMapper} gives, in the same order.
+     * The alphabet is small and mixes case so there are plenty of shared prefixes, duplicates and ties.
+     */
+    private static void compareWithMapper(final Random random, final int rounds, final int size, final int maxLength) {
+        for (int round = 0; round < rounds; round++) {
+            final List<String> values = new ArrayList<>();
+            final int count = random.nextInt(size);
+            for (int i = 0; i < count; i++) {
+                values.add(randomText(random, maxLength, true));
+            }
+
+            final SuggestionIndex<String> index = SuggestionIndex.of(values, MAPPER);
+
+            for (int inputs = 0; inputs < 10; inputs++) {
+                final String input = randomText(random, 7, random.nextBoolean());
+
+                for (final SuggestionMethod method : SuggestionMethod.values()) {
+                    for (final int limit : LIMITS) {
+                        assertEquals(
+                                MAPPER.filter(input, values, method, limit),
+                                index.filter(input, method, limit),
+                                method + " '" + input + "' limit " + limit + " over " + values
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    private static String randomText(final Random random, final int maxLength, final boolean mixedCase) {
+        final int length = random.nextInt(maxLength + 1);
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            final char base = mixedCase && random.nextBoolean() ? 'A' : 'a';
+            builder.append((char) (base + random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}
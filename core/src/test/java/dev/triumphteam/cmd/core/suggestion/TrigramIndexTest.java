@@ -0,0 +1,112 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    @Test
+    void candidatesHaveEveryTrigram() {
+        final TrigramIndex index = TrigramIndex.of(new String[]{"banana", "bandana", "cabana", "nab", "ana"});
+
+        assertArrayEquals(new int[]{0, 1, 2, 4}, index.candidates("ana"));
+        // "bandana" has both "ban" and "ana" without containing "bana"
+        assertArrayEquals(new int[]{0, 1, 2}, index.candidates("bana"));
+        assertArrayEquals(new int[]{1}, index.candidates("dana"));
+    }
+
+    @Test
+    void candidatesMayHaveTrigramsOutOfOrder() {
+        // Has "abc" and "bcd" but not "abcd", the caller checks the candidates
+        final TrigramIndex index = TrigramIndex.of(new String[]{"bcd-abc", "xyz"});
+
+        assertArrayEquals(new int[]{0}, index.candidates("abcd"));
+    }
+
+    @Test
+    void missingTrigramHasNoCandidates() {
+        final TrigramIndex index = TrigramIndex.of(new String[]{"banana", "", "ab"});
+
+        assertArrayEquals(new int[0], index.candidates("nab"));
+        assertArrayEquals(new int[0], index.candidates("abz"));
+    }
+
+    @Test
+    void repeatedTrigramIsPostedOnce() {
+        final TrigramIndex index = TrigramIndex.of(new String[]{"aaaaaa", "aaa", "aa"});
+
+        assertArrayEquals(new int[]{0, 1}, index.candidates("aaa"));
+        assertArrayEquals(new int[]{0, 1}, index.candidates("aaaaa"));
+    }
+
+    @Test
+    void matchesScanningEveryKey() {
+        final Random random = new Random(4);
+
+        for (int round = 0; round < 300; round++) {
+            final String[] keys = new String[random.nextInt(300)];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = randomText(random, random.nextInt(12));
+            }
+
+            final TrigramIndex index = TrigramIndex.of(keys);
+
+            for (int inputs = 0; inputs < 10; inputs++) {
+                final String text = randomText(random, TrigramIndex.GRAM_LENGTH + random.nextInt(4));
+                final int[] candidates = index.candidates(text);
+
+                assertArrayEquals(scan(keys, text), candidates, "'" + text + "' over " + Arrays.toString(keys));
+                for (int i = 0; i < keys.length; i++) {
+                    // Never misses a key that actually contains the text
+                    if (keys[i].contains(text)) assertTrue(Arrays.binarySearch(candidates, i) >= 0);
+                }
+            }
+        }
+    }
+
+    private static int[] scan(final String[] keys, final String text) {
+        return IntStream.range(0, keys.length).filter(index -> {
+            for (int i = 0; i + TrigramIndex.GRAM_LENGTH <= text.length(); i++) {
+                if (!keys[index].contains(text.substring(i, i + TrigramIndex.GRAM_LENGTH))) return false;
+            }
+            return true;
+        }).toArray();
+    }
+
+    private static String randomText(final Random random, final int length) {
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+}
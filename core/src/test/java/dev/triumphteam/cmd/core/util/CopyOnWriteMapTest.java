@@ -0,0 +1,95 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CopyOnWriteMapTest {
+
+    @Test
+    void writesPublishNewSnapshots() {
+        final CopyOnWriteMap<String, Integer> map = new CopyOnWriteMap<>(Collections.singletonMap("a", 1));
+        final Map<String, Integer> before = map.snapshot();
+
+        map.put("b", 2);
+        map.replaceAll((key, value) -> value * 10);
+
+        assertEquals(Collections.singletonMap("a", 1), before);
+        assertEquals(10, map.get("a"));
+        assertEquals(20, map.get("b"));
+    }
+
+    @Test
+    void conditionalWrites() {
+        final CopyOnWriteMap<String, Integer> map = new CopyOnWriteMap<>();
+        map.put("a", 1);
+
+        assertFalse(map.replace("a", 2, 3));
+        assertTrue(map.replace("a", 1, 3));
+        assertNull(map.replace("b", 1));
+        assertFalse(map.containsKey("b"));
+
+        assertNull(map.computeIfPresent("b", (key, value) -> value + 1));
+        assertFalse(map.containsKey("b"));
+        assertEquals(4, map.computeIfPresent("a", (key, value) -> value + 1));
+        assertNull(map.computeIfPresent("a", (key, value) -> null));
+        assertFalse(map.containsKey("a"));
+
+        map.put("c", 5);
+        assertFalse(map.remove("c", 6));
+        assertTrue(map.remove("c", 5));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void compoundWritesAreAtomic() throws InterruptedException {
+        final CopyOnWriteMap<String, Integer> map = new CopyOnWriteMap<>();
+        map.put("count", 0);
+
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    map.computeIfPresent("count", (key, value) -> value + 1);
+                    map.merge("merged", 1, Integer::sum);
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4000, map.get("count"));
+        assertEquals(4000, map.get("merged"));
+    }
+}
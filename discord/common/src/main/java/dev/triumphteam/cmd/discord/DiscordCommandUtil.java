@@ -23,6 +23,7 @@
  */
 package dev.triumphteam.cmd.discord;
 
+import dev.triumphteam.cmd.core.command.CommandInput;
 import dev.triumphteam.cmd.core.command.InternalBranchCommand;
 import dev.triumphteam.cmd.core.command.InternalCommand;
 import dev.triumphteam.cmd.core.command.InternalLeafCommand;
@@ -37,6 +38,11 @@ import java.util.function.Supplier;
 
 public final class DiscordCommandUtil {
 
+    /**
+     * Discord only handles 25 choices at a time, so suggestions past that are never shown.
+     */
+    public static final int MAX_CHOICES = 25;
+
     public static <D, S, ST> @Nullable LeafResult<D, S, ST> findExecutable(
             final @NotNull S sender,
             final @NotNull Map<String, InternalRootCommand<D, S, ST>> commands,
@@ -45,10 +51,11 @@ public final class DiscordCommandUtil {
     ) {
         // Immediately pop first to get root.
         InternalParentCommand<D, S, ST> parentCommand = commands.get(commandPath.pop());
+        final CommandInput input = CommandInput.of(commandPath);
         Supplier<Object> instanceSupplier = null;
        do {
             // Find command with this name;
-            final InternalCommand<D, S, ST> command = parentCommand.findCommand(sender, commandPath, sendMessage);
+            final InternalCommand<D, S, ST> command = parentCommand.findCommand(sender, input, sendMessage);
             if (command == null) return null;
 
             if (command instanceof InternalLeafCommand) {
@@ -68,7 +75,7 @@ public final class DiscordCommandUtil {
             parentCommand = branchCommand;
             final Supplier<Object> finalInstanceSupplier = instanceSupplier;
             instanceSupplier = () -> branchCommand.createInstance(finalInstanceSupplier);
-        } while (!commandPath.isEmpty());
+        } while (input.hasNext());
 
         return null;
     }
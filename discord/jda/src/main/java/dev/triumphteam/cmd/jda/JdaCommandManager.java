@@ -34,6 +34,8 @@ import dev.triumphteam.cmd.core.extension.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.extension.sender.SenderExtension;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.processor.RootCommandProcessor;
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap;
+import dev.triumphteam.cmd.core.util.FutureUtils;
 import dev.triumphteam.cmd.discord.LeafResult;
 import dev.triumphteam.cmd.discord.ProvidedInternalArgument;
 import dev.triumphteam.cmd.jda.annotation.Defer;
@@ -68,6 +70,7 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static dev.triumphteam.cmd.discord.DiscordCommandUtil.MAX_CHOICES;
 import static dev.triumphteam.cmd.discord.DiscordCommandUtil.findExecutable;
 
 /**
@@ -81,8 +84,8 @@ public final class JdaCommandManager<S> extends CommandManager<JdaCommandManager
 
     private final JDA jda;
 
-    private final Map<String, InternalRootCommand<Sender, S, Command.Choice>> globalCommands = new HashMap<>();
-    private final Map<Long, Map<String, InternalRootCommand<Sender, S, Command.Choice>>> guildCommands = new HashMap<>();
+    private final Map<String, InternalRootCommand<Sender, S, Command.Choice>> globalCommands = new CopyOnWriteMap<>();
+    private final Map<Long, Map<String, InternalRootCommand<Sender, S, Command.Choice>>> guildCommands = new CopyOnWriteMap<>();
 
     private JdaCommandManager(
             final @NotNull JDA jda,
@@ -228,29 +231,23 @@ public final class JdaCommandManager<S> extends CommandManager<JdaCommandManager
         final InternalArgument<S, Command.Choice> argument = result.getCommand().getArgument(option.getName());
         if (argument == null) return;
 
-        final List<Command.Choice> suggestions = argument.suggestions(sender, option.getValue(), arguments, Collections.emptyMap())
-                .stream()
-                .limit(25) // Discord only handles 25 at a time, :pensive:.
-                .collect(Collectors.toList());
-
-        event.replyChoices(suggestions).queue();
+        // Replies once the suggestions are resolved, without holding the gateway thread for asynchronous ones
+        FutureUtils.withFallback(
+                argument.suggestionsAsync(sender, option.getValue(), arguments, Collections.emptyMap(), MAX_CHOICES),
+                getCommandOptions().getSuggestionTimeoutMillis(),
+                Collections.emptyList()
+        ).thenAccept(suggestions -> event.replyChoices(suggestions).queue());
     }
 
     @Override
-    public void registerCommand(final @NotNull Object command) {
+    public synchronized void registerCommand(final @NotNull Object command) {
         final RootCommandProcessor<Sender, S, Command.Choice> processor = new RootCommandProcessor<>(
                 command,
                 getRegistryContainer(),
                 getCommandOptions()
         );
 
-        final String name = processor.getName();
-
-        // Get or add a command, then add its sub commands
-        final InternalRootCommand<Sender, S, Command.Choice> rootCommand = globalCommands
-                .computeIfAbsent(name, it -> new InternalRootCommand<>(processor));
-
-        rootCommand.addCommands(command, processor.commands(rootCommand));
+        registerCommand(globalCommands, processor, command);
     }
 
     public void registerCommand(final @NotNull Guild guild, final @NotNull List<@NotNull Object> commands) {
@@ -281,21 +278,39 @@ public final class JdaCommandManager<S> extends CommandManager<JdaCommandManager
         }
     }
 
-    public void registerCommand(final @NotNull Long guildId, final @NotNull Object command) {
+    public synchronized void registerCommand(final @NotNull Long guildId, final @NotNull Object command) {
         final RootCommandProcessor<Sender, S, Command.Choice> processor = new RootCommandProcessor<>(
                 command,
                 getRegistryContainer(),
                 getCommandOptions()
         );
 
+        registerCommand(guildCommands.computeIfAbsent(guildId, it -> new CopyOnWriteMap<>()), processor, command);
+    }
+
+    /**
+     * Adds the sub commands to the existing root command, or builds a new root and only then publishes it.
+     *
+     * @param commands  The map to add the command to.
+     * @param processor The processor of the command.
+     * @param command   The command instance.
+     */
+    private void registerCommand(
+            final @NotNull Map<String, InternalRootCommand<Sender, S, Command.Choice>> commands,
+            final @NotNull RootCommandProcessor<Sender, S, Command.Choice> processor,
+            final @NotNull Object command
+    ) {
         final String name = processor.getName();
 
-        // Get or add a command, then add its sub commands
-        final InternalRootCommand<Sender, S, Command.Choice> rootCommand = guildCommands
-                .computeIfAbsent(guildId, it -> new HashMap<>())
-                .computeIfAbsent(name, it -> new InternalRootCommand<>(processor));
+        final InternalRootCommand<Sender, S, Command.Choice> existing = commands.get(name);
+        if (existing != null) {
+            existing.addCommands(command, processor.commands(existing));
+            return;
+        }
 
+        final InternalRootCommand<Sender, S, Command.Choice> rootCommand = new InternalRootCommand<>(processor);
         rootCommand.addCommands(command, processor.commands(rootCommand));
+        commands.put(name, rootCommand);
     }
 
     public void pushGuildCommands() {
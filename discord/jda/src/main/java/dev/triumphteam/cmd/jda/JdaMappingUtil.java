@@ -58,11 +58,14 @@ import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static dev.triumphteam.cmd.discord.DiscordCommandUtil.MAX_CHOICES;
+
 final class JdaMappingUtil {
 
     private static final Map<Class<?>, OptionType> OPTION_TYPE_MAP = createTypeMap();
@@ -187,10 +190,13 @@ final class JdaMappingUtil {
         // No need to do anything else if it is provided.
         if (argument instanceof ProvidedInternalArgument) return data;
 
-        // Add choices and exit.
+        // Add choices and exit, unless there are more than Discord allows, then they're auto completed instead.
         if (suggestion instanceof StaticSuggestion) {
-            data.addChoices(((StaticSuggestion<S, Command.Choice>) suggestion).getSuggestions());
-            return data;
+            final List<Command.Choice> choices = ((StaticSuggestion<S, Command.Choice>) suggestion).getSuggestions();
+            if (choices.size() <= MAX_CHOICES) {
+                data.addChoices(choices);
+                return data;
+            }
         }
 
         // Finally, check if we can enable auto complete.
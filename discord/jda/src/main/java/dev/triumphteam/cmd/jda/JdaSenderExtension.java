@@ -27,8 +27,10 @@ import com.google.common.collect.ImmutableSet;
 import dev.triumphteam.cmd.core.extension.sender.SenderExtension;
 import dev.triumphteam.cmd.jda.sender.CommandSender;
 import dev.triumphteam.cmd.jda.sender.Sender;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.Set;
 
 /**
@@ -40,4 +42,11 @@ final class JdaSenderExtension implements SenderExtension.Default<Sender> {
     public @NotNull Set<Class<? extends Sender>> getAllowedSenders() {
         return ImmutableSet.of(Sender.class, CommandSender.class);
     }
+
+    @Override
+    public @NotNull Object getSenderKey(final @NotNull Sender sender) {
+        // A new sender is created for every interaction, what it can see depends on the user and where they are
+        final MessageChannelUnion channel = sender.getChannel();
+        return Arrays.asList(sender.getUser().getIdLong(), channel == null ? null : channel.getIdLong());
+    }
 }
@@ -26,6 +26,8 @@ package dev.triumphteam.cmd.jda;
 import com.google.common.primitives.Doubles;
 import com.google.common.primitives.Longs;
 import dev.triumphteam.cmd.core.extension.SuggestionMapper;
+import dev.triumphteam.cmd.core.suggestion.FuzzySearch;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import dev.triumphteam.cmd.core.suggestion.SuggestionMethod;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
@@ -33,6 +35,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -52,16 +55,33 @@ final class JdaSuggestionMapper implements SuggestionMapper<Command.Choice> {
 
     @Override
     public @NotNull List<Command.Choice> filter(final @NotNull String input, final @NotNull List<Command.Choice> values, final SuggestionMethod method) {
-        switch (method) {
-            case STARTS_WITH:
-                return values.stream().filter(it -> it.getName().toLowerCase().startsWith(input.toLowerCase())).collect(Collectors.toList());
+        return filter(input, values, method, SuggestionContext.NO_LIMIT);
+    }
 
-            case CONTAINS:
-                return values.stream().filter(it -> it.getName().toLowerCase().contains(input.toLowerCase())).collect(Collectors.toList());
+    @Override
+    public @NotNull List<Command.Choice> filter(
+            final @NotNull String input,
+            final @NotNull List<Command.Choice> values,
+            final SuggestionMethod method,
+            final int limit
+    ) {
+        return filter(input, values, method, limit, Command.Choice::getName);
+    }
 
-            default:
-                return values;
-        }
+    @Override
+    public @NotNull List<Command.Choice> filterAndMap(
+            final @NotNull String input,
+            final @NotNull List<String> values,
+            final SuggestionMethod method,
+            final int limit
+    ) {
+        // String choices are named after their value, so the values can be filtered before any choice is created
+        return mapChoices(filter(input, values, method, limit, Function.identity()), OptionType.STRING);
+    }
+
+    @Override
+    public @NotNull String toFilterString(final @NotNull Command.Choice value) {
+        return value.getName();
     }
 
     @Override
@@ -69,12 +89,36 @@ final class JdaSuggestionMapper implements SuggestionMapper<Command.Choice> {
         return Command.Choice.class;
     }
 
+    private static <T> @NotNull List<T> filter(
+            final @NotNull String input,
+            final @NotNull List<T> values,
+            final SuggestionMethod method,
+            final int limit,
+            final @NotNull Function<T, String> name
+    ) {
+        final String lowercaseInput = input.toLowerCase();
+        switch (method) {
+            case STARTS_WITH:
+                return values.stream().filter(it -> name.apply(it).toLowerCase().startsWith(lowercaseInput)).limit(limit).collect(Collectors.toList());
+
+            case CONTAINS:
+                return values.stream().filter(it -> name.apply(it).toLowerCase().contains(lowercaseInput)).limit(limit).collect(Collectors.toList());
+
+            case FUZZY:
+                return FuzzySearch.filter(input, values, name, limit);
+
+            default:
+                return values.size() <= limit ? values : values.subList(0, limit);
+        }
+    }
+
     @SuppressWarnings("UnstableApiUsage")
     private List<Command.Choice> mapChoices(
             final @NotNull List<String> original,
             final @NotNull OptionType type
     ) {
-        final Stream<String> stream = original.stream().limit(25);
+        // Not limited here, suggestions are only limited after they're filtered
+        final Stream<String> stream = original.stream();
 
         switch (type) {
             case NUMBER:
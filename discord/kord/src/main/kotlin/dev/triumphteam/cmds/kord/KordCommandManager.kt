@@ -60,13 +60,19 @@ import dev.triumphteam.cmd.core.processor.RootCommandProcessor
 import dev.triumphteam.cmd.core.suggestion.InternalSuggestion
 import dev.triumphteam.cmd.core.suggestion.SuggestionContext
 import dev.triumphteam.cmd.core.suggestion.SuggestionKey
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap
+import dev.triumphteam.cmd.core.util.FutureUtils
+import dev.triumphteam.cmd.discord.DiscordCommandUtil.MAX_CHOICES
 import dev.triumphteam.cmd.discord.DiscordCommandUtil.findExecutable
 import dev.triumphteam.cmd.discord.ProvidedInternalArgument
 import dev.triumphteam.cmd.discord.annotation.NSFW
 import dev.triumphteam.cmds.contains
 import dev.triumphteam.cmds.kord.sender.Sender
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.suspendCancellableCoroutine
 import java.lang.reflect.InvocationTargetException
+import java.util.concurrent.CompletableFuture
+import kotlin.coroutines.resume
 
 public typealias SuspendingRichSuggestion<S> = suspend (SuggestionContext<S>) -> List<Choice>
 
@@ -94,9 +100,9 @@ public class KordCommandManager<S : Any> internal constructor(
     private val registryContainer: RegistryContainer<Sender, S, Choice>,
 ) : CommandManager<KordCommandManager<S>, KordCommandOptions<S>, Sender, S, Choice>(commandOptions, registryContainer) {
 
-    private val globalCommands: MutableMap<String, InternalRootCommand<Sender, S, Choice>> = mutableMapOf()
+    private val globalCommands: MutableMap<String, InternalRootCommand<Sender, S, Choice>> = CopyOnWriteMap()
     private val guildCommands: MutableMap<Snowflake, MutableMap<String, InternalRootCommand<Sender, S, Choice>>> =
-        mutableMapOf()
+        CopyOnWriteMap()
 
     private val commandQueue: MutableList<suspend () -> Unit> = mutableListOf()
 
@@ -146,6 +152,7 @@ public class KordCommandManager<S : Any> internal constructor(
         registerCommand(guild.id, command)
     }
 
+    @Synchronized
     public fun registerCommand(guildId: Snowflake, command: Any) {
         val processor: RootCommandProcessor<Sender, S, Choice> = RootCommandProcessor(
             command,
@@ -154,13 +161,15 @@ public class KordCommandManager<S : Any> internal constructor(
         )
 
         val name = processor.name
-
-        // Get or add a command, then add its sub commands
-        val rootCommand: InternalRootCommand<Sender, S, Choice> = guildCommands
-            .getOrPut(guildId) { mutableMapOf() }
-            .getOrPut(name) { InternalRootCommand(processor) }
-
-        rootCommand.addCommands(command, processor.commands(rootCommand))
+        val commands = guildCommands.computeIfAbsent(guildId) { CopyOnWriteMap() }
+
+        // Get or add a command, then add its sub commands, new roots are only published once fully built
+        val rootCommand: InternalRootCommand<Sender, S, Choice> = commands[name]
+            ?.also { it.addCommands(command, processor.commands(it)) }
+            ?: InternalRootCommand(processor).also {
+                it.addCommands(command, processor.commands(it))
+                commands[name] = it
+            }
 
         if (!isKordReady) {
             commandQueue.add {
@@ -247,11 +256,19 @@ public class KordCommandManager<S : Any> internal constructor(
 
         val suggestions = when (suggestion) {
             is InternalSuggestion.Simple -> {
-                suggestion.getSuggestions(sender, focused.value, arguments, argumentMap).take(25)
+                suggestion.getSuggestions(sender, focused.value, arguments, argumentMap, MAX_CHOICES)
             }
 
             is SuspendingInternalSuggestion -> {
-                suggestion.getSuggestions(sender, focused.value, arguments, argumentMap).take(25)
+                suggestion.getSuggestions(sender, focused.value, arguments, argumentMap).take(MAX_CHOICES)
+            }
+
+            is InternalSuggestion.Async -> {
+                FutureUtils.withFallback(
+                    suggestion.getSuggestionsAsync(sender, focused.value, arguments, argumentMap, MAX_CHOICES),
+                    commandOptions.suggestionTimeoutMillis,
+                    emptyList(),
+                ).awaitSuggestions()
             }
 
             else -> return
@@ -260,6 +277,13 @@ public class KordCommandManager<S : Any> internal constructor(
         event.interaction.suggest(suggestions)
     }
 
+    /** Suspends until the suggestions are resolved, [FutureUtils.withFallback] makes sure it always completes. */
+    private suspend fun CompletableFuture<List<Choice>>.awaitSuggestions(): List<Choice> {
+        return suspendCancellableCoroutine { continuation ->
+            whenComplete { suggestions, _ -> continuation.resume(suggestions.orEmpty()) }
+        }
+    }
+
     private suspend fun registerKordCommand(
         guildId: Snowflake,
         rootCommand: InternalRootCommand<Sender, S, Choice>,
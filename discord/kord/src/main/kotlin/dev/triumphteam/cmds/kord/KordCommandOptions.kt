@@ -30,6 +30,8 @@ import dev.kord.core.Kord
 import dev.triumphteam.cmd.core.extension.CommandOptions
 import dev.triumphteam.cmd.core.extension.SuggestionMapper
 import dev.triumphteam.cmd.core.extension.sender.SenderExtension
+import dev.triumphteam.cmd.core.suggestion.FuzzySearch
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext
 import dev.triumphteam.cmd.core.suggestion.SuggestionMethod
 import dev.triumphteam.cmd.discord.NsfwProcessor
 import dev.triumphteam.cmd.discord.annotation.NSFW
@@ -79,20 +81,55 @@ public class KordCommandOptions<S : Any>(
             input: String,
             values: List<Choice>,
             method: SuggestionMethod,
+        ): List<Choice> = filter(input, values, method, SuggestionContext.NO_LIMIT)
+
+        override fun filter(
+            input: String,
+            values: List<Choice>,
+            method: SuggestionMethod,
+            limit: Int,
+        ): List<Choice> = values.filterBy(input, method, limit, Choice::name)
+
+        override fun filterAndMap(
+            input: String,
+            values: List<String>,
+            method: SuggestionMethod,
+            limit: Int,
         ): List<Choice> {
-            return when (method) {
-                SuggestionMethod.STARTS_WITH -> values.filter { it.name.lowercase().startsWith(input.lowercase()) }
-                SuggestionMethod.CONTAINS -> values.filter { input.lowercase() in it.name.lowercase() }
-                else -> values
-            }
+            // String choices are named after their value, so the values can be filtered before any choice is created
+            return values.filterBy(input, method, limit) { it }.mapToChoices(String::class.java)
         }
 
+        override fun toFilterString(value: Choice): String = value.name
+
         override fun getType(): Class<*> = Choice::class.java
 
+        private fun <T> List<T>.filterBy(
+            input: String,
+            method: SuggestionMethod,
+            limit: Int,
+            name: (T) -> String,
+        ): List<T> {
+            val lowercaseInput = input.lowercase()
+            return when (method) {
+                SuggestionMethod.STARTS_WITH -> {
+                    asSequence().filter { name(it).lowercase().startsWith(lowercaseInput) }.take(limit).toList()
+                }
+
+                SuggestionMethod.CONTAINS -> {
+                    asSequence().filter { lowercaseInput in name(it).lowercase() }.take(limit).toList()
+                }
+
+                SuggestionMethod.FUZZY -> FuzzySearch.filter(input, this, { name(it) }, limit)
+
+                else -> take(limit)
+            }
+        }
+
         private fun List<String>.mapToChoices(type: Class<*>): List<Choice> {
             val kordType = type.kordType
-            // TODO(important): Make the limit a shared constant
-            val sequence = asSequence().take(25)
+            // Not limited here, suggestions are only limited after they're filtered
+            val sequence = asSequence()
 
             return when (kordType) {
                 is ApplicationCommandOptionType.Number -> {
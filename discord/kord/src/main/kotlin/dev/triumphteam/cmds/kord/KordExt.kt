@@ -50,6 +50,7 @@ import dev.triumphteam.cmd.core.argument.InternalArgument
 import dev.triumphteam.cmd.core.command.InternalCommand
 import dev.triumphteam.cmd.core.command.InternalLeafCommand
 import dev.triumphteam.cmd.core.suggestion.StaticSuggestion
+import dev.triumphteam.cmd.discord.DiscordCommandUtil.MAX_CHOICES
 import dev.triumphteam.cmd.discord.ProvidedInternalArgument
 import dev.triumphteam.cmds.kord.sender.Sender
 import java.util.ArrayDeque
@@ -139,8 +140,8 @@ private fun <S> OptionsBuilder.defaults(argument: InternalArgument<S, Choice>) {
     // No need to do anything else if it is provided.
     if (argument is ProvidedInternalArgument<S, Choice>) return
 
-    // Add choices and exit.
-    if (suggestion is StaticSuggestion<S, Choice>) {
+    // Add choices and exit, unless there are more than Discord allows, then they're auto completed instead.
+    if (suggestion is StaticSuggestion<S, Choice> && suggestion.suggestions.size <= MAX_CHOICES) {
         when (this) {
             is IntegerOptionBuilder -> {
                 suggestion.suggestions.filterIsInstance<Choice.IntegerChoice>().forEach { choice ->
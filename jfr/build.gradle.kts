@@ -0,0 +1,15 @@
+plugins {
+    id("cmds.base-conventions")
+    id("cmds.library-conventions")
+}
+
+dependencies {
+    api(projects.triumphCmdCore)
+}
+
+// The jdk.jfr API is only available from Java 11
+indra {
+    javaVersions {
+        target(11)
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.jfr;
+
+import dev.triumphteam.cmd.core.extension.defaults.DisabledCommandMetrics;
+import dev.triumphteam.cmd.core.extension.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.message.MessageKey;
+import jdk.jfr.EventType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link CommandMetrics} that emits JFR events, so commands show up in flight recordings next to the GC and locks.
+ * Events are only created while a recording has them enabled, everything else is passed to the given metrics.
+ * Without a recording, and without metrics to pass to, the commands aren't measured at all.
+ */
+public final class JfrCommandMetrics implements CommandMetrics {
+
+    private static final String SUCCESS = "success";
+
+    private static final EventType EXECUTION = EventType.getEventType(CommandExecutionEvent.class);
+    private static final EventType ARGUMENT = EventType.getEventType(ArgumentResolveEvent.class);
+    private static final EventType SUGGESTION = EventType.getEventType(SuggestionEvent.class);
+    private static final EventType REGISTRATION = EventType.getEventType(CommandRegistrationEvent.class);
+
+    private final CommandMetrics delegate;
+    private final boolean delegateEnabled;
+
+    public JfrCommandMetrics() {
+        this(new DisabledCommandMetrics());
+    }
+
+    /**
+     * Creates the metrics while still reporting into other metrics, for example to keep aggregates.
+     *
+     * @param delegate The {@link CommandMetrics} to also report to.
+     */
+    public JfrCommandMetrics(final @NotNull CommandMetrics delegate) {
+        this.delegate = delegate;
+        this.delegateEnabled = delegate.isEnabled();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        // Checked by the commands every time, so a recording started later is still picked up
+        return delegateEnabled
+                || EXECUTION.isEnabled()
+                || ARGUMENT.isEnabled()
+                || SUGGESTION.isEnabled()
+                || REGISTRATION.isEnabled();
+    }
+
+    @Override
+    public void record(
+            final @NotNull Stage stage,
+            final @NotNull String path,
+            final long nanos,
+            final @Nullable MessageKey<?> failure
+    ) {
+        if (delegateEnabled) delegate.record(stage, path, nanos, failure);
+        if (stage != Stage.ARGUMENT || !ARGUMENT.isEnabled()) return;
+
+        final ArgumentResolveEvent event = new ArgumentResolveEvent();
+        event.argument = path;
+        event.result = result(failure);
+        event.resolveTime = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void recordExecution(
+            final @NotNull String path,
+            final @NotNull Class<?> senderType,
+            final long nanos,
+            final @Nullable MessageKey<?> failure
+    ) {
+        if (delegateEnabled) delegate.recordExecution(path, senderType, nanos, failure);
+
+        if (!EXECUTION.isEnabled()) return;
+
+        final CommandExecutionEvent event = new CommandExecutionEvent();
+        event.path = path;
+        event.senderType = senderType;
+        event.result = result(failure);
+        event.executionTime = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void recordSuggestion(
+            final @NotNull String path,
+            final int inputLength,
+            final int results,
+            final long nanos
+    ) {
+        if (delegateEnabled) delegate.recordSuggestion(path, inputLength, results, nanos);
+
+        if (!SUGGESTION.isEnabled()) return;
+
+        final SuggestionEvent event = new SuggestionEvent();
+        event.argument = path;
+        event.inputLength = inputLength;
+        event.resultCount = results;
+        event.suggestionTime = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void recordRegistration(
+            final @NotNull Class<?> command,
+            final int leaves,
+            final long nanos
+    ) {
+        if (delegateEnabled) delegate.recordRegistration(command, leaves, nanos);
+
+        if (!REGISTRATION.isEnabled()) return;
+
+        final CommandRegistrationEvent event = new CommandRegistrationEvent();
+        event.commandClass = command;
+        event.leaves = leaves;
+        event.registrationTime = nanos;
+        event.commit();
+    }
+
+    private static @NotNull String result(final @Nullable MessageKey<?> failure) {
+        return failure == null ? SUCCESS : failure.getKey();
+    }
+}
@@ -36,6 +36,7 @@ import dev.triumphteam.cmd.core.extension.command.Settings
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta
 import dev.triumphteam.cmd.core.extension.meta.MetaKey
 import dev.triumphteam.cmd.core.extension.registry.MessageRegistry
+import dev.triumphteam.cmd.core.invoker.MethodInvoker
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.launch
@@ -155,4 +156,21 @@ public class CoroutinesCommandExtension<D, S, ST>(
 
         handleResult(meta, messageRegistry, sender, method.invoke(instance, *arguments.toTypedArray()))
     }
+
+    /** Executes the command with its bound invoker, suspending functions still need to go through Kotlin reflection. */
+    override fun execute(
+        meta: CommandMeta,
+        messageRegistry: MessageRegistry<S?>,
+        sender: S & Any,
+        instance: Any,
+        invoker: MethodInvoker,
+        arguments: Array<Any?>,
+    ) {
+        if (meta.isPresent(SUSPEND_META_KEY)) {
+            execute(meta, messageRegistry, sender, instance, invoker.method, arguments.asList())
+            return
+        }
+
+        handleResult(meta, messageRegistry, sender, invoker.invoke(instance, arguments))
+    }
 }
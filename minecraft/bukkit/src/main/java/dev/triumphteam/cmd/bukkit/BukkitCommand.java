@@ -23,27 +23,30 @@
  */
 package dev.triumphteam.cmd.bukkit;
 
+import dev.triumphteam.cmd.core.command.CommandInput;
 import dev.triumphteam.cmd.core.command.InternalRootCommand;
 import dev.triumphteam.cmd.core.extension.sender.SenderExtension;
 import dev.triumphteam.cmd.core.processor.RootCommandProcessor;
+import dev.triumphteam.cmd.core.util.FutureUtils;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayDeque;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 final class BukkitCommand<S> extends Command {
 
     private final InternalRootCommand<CommandSender, S, String> rootCommand;
     private final SenderExtension<CommandSender, S> senderExtension;
+    private final long suggestionTimeoutMillis;
 
     BukkitCommand(final @NotNull RootCommandProcessor<CommandSender, S, String> processor) {
         super(processor.getName(), "", "", processor.getAliases());
 
         this.rootCommand = new InternalRootCommand<>(processor);
         this.senderExtension = processor.getCommandOptions().getCommandExtensions().getSenderExtension();
+        this.suggestionTimeoutMillis = processor.getCommandOptions().getSuggestionTimeoutMillis();
     }
 
     @Override
@@ -52,10 +55,7 @@ final class BukkitCommand<S> extends Command {
             final @NotNull String commandLabel,
             final @NotNull String[] args
     ) {
-        rootCommand.execute(
-                senderExtension.map(sender),
-                new ArrayDeque<>(Arrays.asList(args))
-        );
+        rootCommand.execute(senderExtension.map(sender), CommandInput.of(args));
         return true;
     }
 
@@ -65,7 +65,12 @@ final class BukkitCommand<S> extends Command {
             final @NotNull String alias,
             final @NotNull String[] args
     ) {
-        return rootCommand.suggestions(senderExtension.map(sender), new ArrayDeque<>(Arrays.asList(args)));
+        // Bukkit expects the suggestions right away, so asynchronous ones can only be waited for a short while
+        return FutureUtils.getOrFallback(
+                rootCommand.suggestionsAsync(senderExtension.map(sender), CommandInput.of(args)),
+                suggestionTimeoutMillis,
+                Collections.emptyList()
+        );
     }
 
     public @NotNull InternalRootCommand<CommandSender, S, String> getRootCommand() {
@@ -32,6 +32,7 @@ import dev.triumphteam.cmd.core.extension.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.extension.sender.SenderExtension;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.processor.RootCommandProcessor;
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Server;
@@ -47,7 +48,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -56,7 +56,7 @@ public final class BukkitCommandManager<S> extends CommandManager<BukkitCommandM
 
     private final Plugin plugin;
 
-    private final Map<String, BukkitCommand<S>> commands = new HashMap<>();
+    private final Map<String, BukkitCommand<S>> commands = new CopyOnWriteMap<>();
 
     private final CommandMap commandMap;
     private final Map<String, org.bukkit.command.Command> bukkitCommands;
@@ -98,6 +98,7 @@ public final class BukkitCommandManager<S> extends CommandManager<BukkitCommandM
     ) {
         final RegistryContainer<CommandSender, S, String> registryContainer = new RegistryContainer<>();
         final BukkitCommandOptions.Builder<S> extensionBuilder = new BukkitCommandOptions.Builder<>();
+        extensionBuilder.extensions(extension -> extension.setExecutionScheduler(new BukkitExecutionScheduler(plugin)));
         builder.accept(extensionBuilder);
         return new BukkitCommandManager<>(plugin, extensionBuilder.build(senderExtension), registryContainer);
     }
@@ -129,6 +130,7 @@ public final class BukkitCommandManager<S> extends CommandManager<BukkitCommandM
     ) {
         final RegistryContainer<CommandSender, CommandSender, String> registryContainer = new RegistryContainer<>();
         final BukkitCommandOptions.Builder<CommandSender> extensionBuilder = new BukkitCommandOptions.Builder<>();
+        extensionBuilder.extensions(extension -> extension.setExecutionScheduler(new BukkitExecutionScheduler(plugin)));
 
         // Setup defaults for Bukkit
         final MessageRegistry<CommandSender> messageRegistry = registryContainer.getMessageRegistry();
@@ -187,7 +189,7 @@ public final class BukkitCommandManager<S> extends CommandManager<BukkitCommandM
     }
 
     @Override
-    public void registerCommand(final @NotNull Object command) {
+    public synchronized void registerCommand(final @NotNull Object command) {
         final RootCommandProcessor<CommandSender, S, String> processor = new RootCommandProcessor<>(
                 command,
                 getRegistryContainer(),
@@ -197,15 +199,26 @@ public final class BukkitCommandManager<S> extends CommandManager<BukkitCommandM
         final String name = processor.getName();
 
         // Get or add a command, then add its sub commands
-        final BukkitCommand<S> bukkitCommand = commands.computeIfAbsent(name, it -> createAndRegisterCommand(processor, name));
+        final BukkitCommand<S> existing = commands.get(name);
+        if (existing != null) {
+            final InternalRootCommand<CommandSender, S, String> rootCommand = existing.getRootCommand();
+            rootCommand.addCommands(command, processor.commands(rootCommand));
+            return;
+        }
+
+        // New commands are only registered to Bukkit once fully built
+        final BukkitCommand<S> bukkitCommand = new BukkitCommand<>(processor);
         final InternalRootCommand<CommandSender, S, String> rootCommand = bukkitCommand.getRootCommand();
         rootCommand.addCommands(command, processor.commands(rootCommand));
 
+        registerBukkitCommand(bukkitCommand, name);
+        commands.put(name, bukkitCommand);
+
         // TODO: ALIASES
     }
 
     @Override
-    public void unregisterCommand(final @NotNull Object command) {
+    public synchronized void unregisterCommand(final @NotNull Object command) {
         final RootCommandProcessor<CommandSender, S, String> processor = new RootCommandProcessor<>(
                 command,
                 getRegistryContainer(),
@@ -220,8 +233,8 @@ public final class BukkitCommandManager<S> extends CommandManager<BukkitCommandM
         }
     }
 
-    private @NotNull BukkitCommand<S> createAndRegisterCommand(
-            final @NotNull RootCommandProcessor<CommandSender, S, String> processor,
+    private void registerBukkitCommand(
+            final @NotNull BukkitCommand<S> bukkitCommand,
             final @NotNull String name
     ) {
         // To allow commands to be registered on the plugin.yml.
@@ -231,8 +244,6 @@ public final class BukkitCommandManager<S> extends CommandManager<BukkitCommandM
             oldCommand.unregister(commandMap);
         }
 
-        final BukkitCommand<S> newCommand = new BukkitCommand<>(processor);
-        commandMap.register(plugin.getName(), newCommand);
-        return newCommand;
+        commandMap.register(plugin.getName(), bukkitCommand);
     }
 }
@@ -33,6 +33,7 @@ import org.bukkit.permissions.PermissionDefault;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public final class BukkitCommandOptions<S> extends CommandOptions<BukkitCommandOptions<S>, BukkitCommandManager<S>, CommandSender, S, String> {
 
@@ -54,6 +55,9 @@ public final class BukkitCommandOptions<S> extends CommandOptions<BukkitCommandO
                 extension.setCommandExecutor(new DefaultCommandExecutor<>());
                 extension.setSuggestionMapper(new DefaultSuggestionMapper());
             });
+
+            // Tab completion waits on the server thread, so asynchronous suggestions get much less time
+            suggestionTimeout(50, TimeUnit.MILLISECONDS);
         }
 
         @Override
@@ -63,4 +63,10 @@ class BukkitSenderExtension implements SenderExtension.Default<CommandSender> {
 
         return valid();
     }
+
+    @Override
+    public @NotNull Object getSenderKey(final @NotNull CommandSender sender) {
+        // Players are replaced when they rejoin, and shouldn't be kept after they leave
+        return sender instanceof Player ? ((Player) sender).getUniqueId() : sender;
+    }
 }
@@ -28,6 +28,7 @@ import dev.triumphteam.cmd.bukkit.message.NoPermissionMessageContext;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.registry.MessageRegistry;
 import dev.triumphteam.cmd.core.extension.sender.SenderMapper;
+import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.requirement.Requirement;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
@@ -58,6 +59,11 @@ final class PermissionRequirement<S> implements Requirement<CommandSender, S> {
         messageRegistry.sendMessage(BukkitMessageKey.NO_PERMISSION, sender, new NoPermissionMessageContext(meta, permission));
     }
 
+    @Override
+    public @NotNull MessageKey<NoPermissionMessageContext> getMessageKey() {
+        return BukkitMessageKey.NO_PERMISSION;
+    }
+
     @Override
     public String toString() {
         return "PermissionRequirement{" +
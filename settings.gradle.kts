@@ -23,6 +23,9 @@ plugins {
 projects {
     single(id = "core")
     single(id = "simple")
+    single(id = "annotation-processor")
+    single(id = "jfr")
+    single(id = "benchmarks")
 
     group(namespace = "minecraft") {
         single(id = "bukkit")
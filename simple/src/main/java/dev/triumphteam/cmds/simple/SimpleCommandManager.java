@@ -24,6 +24,7 @@
 package dev.triumphteam.cmds.simple;
 
 import dev.triumphteam.cmd.core.CommandManager;
+import dev.triumphteam.cmd.core.command.CommandInput;
 import dev.triumphteam.cmd.core.command.InternalRootCommand;
 import dev.triumphteam.cmd.core.extension.meta.CommandMeta;
 import dev.triumphteam.cmd.core.extension.registry.RegistryContainer;
@@ -31,10 +32,11 @@ import dev.triumphteam.cmd.core.extension.sender.SenderExtension;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.context.InvalidCommandContext;
 import dev.triumphteam.cmd.core.processor.RootCommandProcessor;
+import dev.triumphteam.cmd.core.util.CopyOnWriteMap;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,7 +44,7 @@ import java.util.function.Consumer;
 
 public final class SimpleCommandManager<S> extends CommandManager<SimpleCommandManager<S>, SimpleCommandOptions<S>, S, S, String> {
 
-    private final Map<String, InternalRootCommand<S, S, String>> commands = new HashMap<>();
+    private final Map<String, InternalRootCommand<S, S, String>> commands = new CopyOnWriteMap<>();
 
     private SimpleCommandManager(
             final @NotNull SimpleCommandOptions<S> commandOptions,
@@ -68,7 +70,7 @@ public final class SimpleCommandManager<S> extends CommandManager<SimpleCommandM
     }
 
     @Override
-    public void registerCommand(final @NotNull Object command) {
+    public synchronized void registerCommand(final @NotNull Object command) {
         final RootCommandProcessor<S, S, String> processor = new RootCommandProcessor<>(
                 command,
                 getRegistryContainer(),
@@ -77,9 +79,22 @@ public final class SimpleCommandManager<S> extends CommandManager<SimpleCommandM
 
         final String name = processor.getName();
 
-        final InternalRootCommand<S, S, String> rootCommand = commands.computeIfAbsent(name, it -> new InternalRootCommand<>(processor));
+        final InternalRootCommand<S, S, String> existing = commands.get(name);
+        if (existing != null) {
+            existing.addCommands(command, processor.commands(existing));
+            return;
+        }
+
+        // The root is only published once it's fully built
+        final InternalRootCommand<S, S, String> rootCommand = new InternalRootCommand<>(processor);
         rootCommand.addCommands(command, processor.commands(rootCommand));
-        processor.getAliases().forEach(it -> commands.putIfAbsent(it, rootCommand));
+
+        final Map<String, InternalRootCommand<S, S, String>> added = new HashMap<>();
+        processor.getAliases().forEach(it -> {
+            if (!commands.containsKey(it)) added.put(it, rootCommand);
+        });
+        added.put(name, rootCommand);
+        commands.putAll(added);
     }
 
     @Override
@@ -95,8 +110,33 @@ public final class SimpleCommandManager<S> extends CommandManager<SimpleCommandM
      */
     public void executeCommand(final @NotNull S sender, final @NotNull List<String> args) {
         if (args.isEmpty()) return;
-        final String commandName = args.get(0);
 
+        final InternalRootCommand<S, S, String> command = getRootCommand(sender, args.get(0));
+        if (command == null) return;
+
+        command.execute(sender, CommandInput.of(args.subList(1, args.size())));
+    }
+
+    /**
+     * Execute the commands given the full input, without splitting it up front.
+     * The arguments are read from the input as the command needs them.
+     *
+     * @param sender The provided sender.
+     * @param input  The provided input, starting with the command name.
+     */
+    public void executeCommand(final @NotNull S sender, final @NotNull String input) {
+        if (input.isEmpty()) return;
+
+        final int space = input.indexOf(' ');
+        final String commandName = space == -1 ? input : input.substring(0, space);
+
+        final InternalRootCommand<S, S, String> command = getRootCommand(sender, commandName);
+        if (command == null) return;
+
+        command.execute(sender, CommandInput.of(space == -1 ? "" : input.substring(space + 1)));
+    }
+
+    private @Nullable InternalRootCommand<S, S, String> getRootCommand(final @NotNull S sender, final @NotNull String commandName) {
         final InternalRootCommand<S, S, String> command = commands.get(commandName);
         if (command == null) {
             getRegistryContainer().getMessageRegistry().sendMessage(
@@ -105,9 +145,8 @@ public final class SimpleCommandManager<S> extends CommandManager<SimpleCommandM
                     // Empty meta
                     new InvalidCommandContext(new CommandMeta.Builder(null).build(), "", commandName)
             );
-            return;
         }
 
-        command.execute(sender, new ArrayDeque<>(args.subList(1, args.size())));
+        return command;
     }
 }